@@ -0,0 +1,69 @@
+package com.aliexpress.automation.benchmarks;
+
+import com.aliexpress.automation.utils.CSVReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures reads of a CSV test data file through {@link CSVReader}. The read methods are
+ * served from the column cache after the first call, except for files too large for it;
+ * {@link #parseAll()} streams the file and always measures the parser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx6g"})
+public class CSVReaderBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int rows;
+
+    private CSVReader csvReader;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        DataFiles.quietFrameworkLogging();
+        csvReader = new CSVReader(DataFiles.csv(rows).toString());
+    }
+
+    @Benchmark
+    public List<String[]> parseAll() {
+        try (Stream<String[]> records = csvReader.stream()) {
+            return records.collect(Collectors.toList());
+        }
+    }
+
+    @Benchmark
+    public List<String[]> readAll() {
+        return csvReader.readAll();
+    }
+
+    @Benchmark
+    public List<Map<String, String>> readAllAsMap() {
+        return csvReader.readAllAsMap();
+    }
+
+    @Benchmark
+    public String[] readColumnByName() {
+        return csvReader.readColumnByName("email");
+    }
+}
@@ -0,0 +1,61 @@
+package com.aliexpress.automation.benchmarks;
+
+import com.aliexpress.automation.utils.ConfigReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading a properties file and looking up keys through {@link ConfigReader}.
+ * Pages, the driver pool and the fixture server each create their own ConfigReader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigReaderBenchmark {
+
+    @Param({"50", "1000"})
+    private int keys;
+
+    private String configFile;
+    private ConfigReader configReader;
+    private String existingKey;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        DataFiles.quietFrameworkLogging();
+        configFile = DataFiles.properties(keys).toString();
+        configReader = new ConfigReader(configFile);
+        existingKey = "benchmark.key." + (keys / 2);
+    }
+
+    @Benchmark
+    public ConfigReader load() {
+        return new ConfigReader(configFile);
+    }
+
+    @Benchmark
+    public String getProperty() {
+        return configReader.getProperty(existingKey);
+    }
+
+    @Benchmark
+    public String getPropertyWithDefault() {
+        return configReader.getProperty("missing.key", "default");
+    }
+}
@@ -0,0 +1,139 @@
+package com.aliexpress.automation.benchmarks;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Generates the benchmark inputs: CSV and Excel files with the columns of our test data
+ * and a configurable number of rows. Files are written once to target/benchmark-data and
+ * reused by later forks and runs.
+ */
+final class DataFiles {
+    static final String SHEET_NAME = "Products";
+    static final String[] HEADERS = {"id", "searchTerm", "category", "email", "price", "quantity"};
+
+    private static final Path DATA_DIR = Paths.get("target", "benchmark-data");
+    private static final String[] CATEGORIES = {"Electronics", "Home & Garden", "Sports", "Toys", "Fashion"};
+    private static final String[] TERMS = {"wireless earbuds", "phone case", "smart watch", "led lamp", "usb cable"};
+
+    /** Kept so the logger configuration is not garbage collected */
+    private static final Logger FRAMEWORK_LOGGER = Logger.getLogger("com.aliexpress.automation");
+
+    private DataFiles() {
+    }
+
+    /**
+     * Silences the per-call info logging of the readers, which would otherwise dominate the measurements
+     */
+    static void quietFrameworkLogging() {
+        FRAMEWORK_LOGGER.setLevel(Level.WARNING);
+    }
+
+    /**
+     * Gets a CSV file with a header and the given number of data rows, generating it if needed
+     *
+     * @param rows Number of data rows
+     * @return Path of the CSV file
+     * @throws IOException if the file cannot be written
+     */
+    static synchronized Path csv(int rows) throws IOException {
+        Path file = DATA_DIR.resolve("products-" + rows + ".csv");
+        if (Files.exists(file)) {
+            return file;
+        }
+        Files.createDirectories(DATA_DIR);
+        Path tempFile = Files.createTempFile(DATA_DIR, "products-", ".csv.tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+            writer.write(String.join(",", HEADERS));
+            writer.newLine();
+            for (int i = 0; i < rows; i++) {
+                writer.write(String.join(",", rowValues(i)));
+                writer.newLine();
+            }
+        }
+        return Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Gets an .xlsx workbook with a header and the given number of data rows, generating it if needed
+     *
+     * @param rows Number of data rows
+     * @return Path of the workbook
+     * @throws IOException if the file cannot be written
+     */
+    static synchronized Path excel(int rows) throws IOException {
+        Path file = DATA_DIR.resolve("products-" + rows + ".xlsx");
+        if (Files.exists(file)) {
+            return file;
+        }
+        Files.createDirectories(DATA_DIR);
+        Path tempFile = Files.createTempFile(DATA_DIR, "products-", ".xlsx.tmp");
+        // Streaming workbook keeps only a window of rows in memory while writing
+        SXSSFWorkbook workbook = new SXSSFWorkbook(1000);
+        try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+            Sheet sheet = workbook.createSheet(SHEET_NAME);
+            Row headerRow = sheet.createRow(0);
+            for (int j = 0; j < HEADERS.length; j++) {
+                headerRow.createCell(j).setCellValue(HEADERS[j]);
+            }
+            for (int i = 0; i < rows; i++) {
+                Row row = sheet.createRow(i + 1);
+                String[] values = rowValues(i);
+                row.createCell(0).setCellValue(i);
+                for (int j = 1; j < values.length; j++) {
+                    row.createCell(j).setCellValue(values[j]);
+                }
+            }
+            workbook.write(outputStream);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+        return Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes a properties file with the given number of keys
+     *
+     * @param keys Number of keys
+     * @return Path of the properties file
+     * @throws IOException if the file cannot be written
+     */
+    static synchronized Path properties(int keys) throws IOException {
+        Path file = DATA_DIR.resolve("config-" + keys + ".properties");
+        if (Files.exists(file)) {
+            return file;
+        }
+        Files.createDirectories(DATA_DIR);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+            for (int i = 0; i < keys; i++) {
+                writer.write("benchmark.key." + i + "=value-" + i);
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+
+    private static String[] rowValues(int i) {
+        return new String[]{
+                String.valueOf(i),
+                TERMS[i % TERMS.length],
+                CATEGORIES[i % CATEGORIES.length],
+                "user" + i + "@example.com",
+                (i % 500) + "." + (i % 100),
+                String.valueOf(1 + i % 9)
+        };
+    }
+}
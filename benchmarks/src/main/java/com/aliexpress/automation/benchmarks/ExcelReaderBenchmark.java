@@ -0,0 +1,68 @@
+package com.aliexpress.automation.benchmarks;
+
+import com.aliexpress.automation.utils.ExcelReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures reads of an .xlsx test data workbook through {@link ExcelReader}. The random
+ * access reads are served from the workbook cache after the first call, which needs a
+ * large heap for large sheets; {@link #streamSheetData()} parses the sheet on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+public class ExcelReaderBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int rows;
+
+    private ExcelReader excelReader;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        DataFiles.quietFrameworkLogging();
+        excelReader = new ExcelReader(DataFiles.excel(rows).toString());
+    }
+
+    @Benchmark
+    public List<Map<String, String>> getSheetData() {
+        return excelReader.getSheetData(DataFiles.SHEET_NAME);
+    }
+
+    @Benchmark
+    public long streamSheetData() {
+        try (Stream<Map<String, String>> sheetRows = excelReader.streamSheetData(DataFiles.SHEET_NAME)) {
+            return sheetRows.count();
+        }
+    }
+
+    @Benchmark
+    public String[] getColumnData() {
+        return excelReader.getColumnData(DataFiles.SHEET_NAME, "email");
+    }
+
+    @Benchmark
+    public String getCellData() {
+        return excelReader.getCellData(DataFiles.SHEET_NAME, rows / 2, 3);
+    }
+}
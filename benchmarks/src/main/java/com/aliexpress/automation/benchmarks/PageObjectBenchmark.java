@@ -0,0 +1,209 @@
+package com.aliexpress.automation.benchmarks;
+
+import com.aliexpress.automation.base.DriverFactory;
+import com.aliexpress.automation.base.FixtureServer;
+import com.aliexpress.automation.base.NetworkBlocker;
+import com.aliexpress.automation.listeners.CommandMetrics;
+import com.aliexpress.automation.listeners.CommandTimingListener;
+import com.aliexpress.automation.pages.HomePage;
+import com.aliexpress.automation.pages.ProductDetailPage;
+import com.aliexpress.automation.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Round-trip benchmark of page-object operations against the fixture server in headless
+ * Chrome. Each operation is prepared (navigation, page object creation) outside the
+ * measurement, then timed end to end, and reports p50/p95/p99 latency and the number of
+ * WebDriver commands it issued. Results are printed and written as JSON to
+ * target/page-benchmarks so that framework changes can be compared run against run.
+ * <p>
+ * Run: {@code java -cp target/benchmarks.jar com.aliexpress.automation.benchmarks.PageObjectBenchmark [operation...]}
+ * <ul>
+ *     <li>{@code -Dbenchmark.iterations=30} and {@code -Dbenchmark.warmup=5} set the number of runs per operation</li>
+ *     <li>{@code -Dbenchmark.config=path} selects the base config.properties</li>
+ *     <li>{@code -Dbenchmark.set.<key>=<value>} overrides a config property, e.g. page.load.strategy</li>
+ * </ul>
+ */
+public class PageObjectBenchmark {
+    private static final String OVERRIDE_PREFIX = "benchmark.set.";
+    private static final Path RESULTS_DIR = Paths.get("target", "page-benchmarks");
+
+    public static void main(String[] args) throws IOException {
+        DataFiles.quietFrameworkLogging();
+        int warmup = Integer.getInteger("benchmark.warmup", 5);
+        int iterations = Integer.getInteger("benchmark.iterations", 30);
+        Properties config = loadConfig();
+        ConfigReader configReader = new ConfigReader(writeConfig(config).toString());
+
+        String baseUrl = FixtureServer.resolveBaseUrl(configReader);
+        WebDriver rawDriver = DriverFactory.createDriver(configReader.getProperty("browser", "chrome"), configReader);
+        NetworkBlocker.attach(rawDriver, configReader);
+        WebDriver driver = CommandTimingListener.instrument(rawDriver);
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        try {
+            for (Map.Entry<String, Function<WebDriver, Runnable>> operation : operations(baseUrl).entrySet()) {
+                if (args.length > 0 && Arrays.stream(args).noneMatch(operation.getKey()::startsWith)) {
+                    continue;
+                }
+                Map<String, Object> result = measure(driver, operation.getKey(), operation.getValue(), warmup, iterations);
+                results.add(result);
+                System.out.println(format(result));
+            }
+        } finally {
+            NetworkBlocker.detach(rawDriver);
+            rawDriver.quit();
+            FixtureServer.stopServer();
+        }
+
+        writeResults(config, results);
+    }
+
+    /**
+     * Operations to measure. Each entry prepares the page and returns the timed action.
+     */
+    private static Map<String, Function<WebDriver, Runnable>> operations(String baseUrl) {
+        Map<String, Function<WebDriver, Runnable>> operations = new LinkedHashMap<>();
+        String playgroundUrl = baseUrl + "playground";
+        operations.put("BasePage.click", driver -> playground(driver, playgroundUrl)::clickButton);
+        operations.put("BasePage.type", driver -> playground(driver, playgroundUrl)::typeText);
+        operations.put("BasePage.getText", driver -> playground(driver, playgroundUrl)::readText);
+        operations.put("BasePage.isElementDisplayed.visible",
+                driver -> playground(driver, playgroundUrl)::isVisibleElementDisplayed);
+        operations.put("BasePage.isElementDisplayed.hidden",
+                driver -> playground(driver, playgroundUrl)::isHiddenElementDisplayed);
+        operations.put("BasePage.isElementDisplayed.missing",
+                driver -> playground(driver, playgroundUrl)::isMissingElementDisplayed);
+        operations.put("BasePage.selectByText", driver -> playground(driver, playgroundUrl)::selectCountry);
+        operations.put("BasePage.hoverOver", driver -> playground(driver, playgroundUrl)::hoverMenu);
+        operations.put("HomePage.searchProductByCss", driver -> {
+            driver.get(baseUrl);
+            HomePage homePage = new HomePage(driver);
+            return () -> homePage.searchProductByCss("wireless speaker");
+        });
+        operations.put("ProductDetailPage.addToCart", driver -> {
+            driver.get(baseUrl + "item/1005001.html");
+            ProductDetailPage productDetailPage = new ProductDetailPage(driver);
+            return productDetailPage::addToCart;
+        });
+        return operations;
+    }
+
+    private static PlaygroundPage playground(WebDriver driver, String playgroundUrl) {
+        driver.get(playgroundUrl);
+        return new PlaygroundPage(driver);
+    }
+
+    private static Map<String, Object> measure(WebDriver driver, String name, Function<WebDriver, Runnable> operation,
+                                               int warmup, int iterations) {
+        for (int i = 0; i < warmup; i++) {
+            operation.apply(driver).run();
+        }
+
+        long[] nanos = new long[iterations];
+        long commands = 0;
+        for (int i = 0; i < iterations; i++) {
+            Runnable action = operation.apply(driver);
+            CommandMetrics.beginTest();
+            long start = System.nanoTime();
+            action.run();
+            nanos[i] = System.nanoTime() - start;
+            commands += CommandMetrics.endTest().getCommandCount();
+        }
+        Arrays.sort(nanos);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("operation", name);
+        result.put("iterations", iterations);
+        result.put("p50Ms", percentile(nanos, 0.50));
+        result.put("p95Ms", percentile(nanos, 0.95));
+        result.put("p99Ms", percentile(nanos, 0.99));
+        result.put("meanMs", Arrays.stream(nanos).average().orElse(0) / 1_000_000.0);
+        result.put("commandsPerOperation", (double) commands / iterations);
+        return result;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted samples
+     */
+    private static double percentile(long[] sortedNanos, double fraction) {
+        int rank = (int) Math.ceil(fraction * sortedNanos.length);
+        return sortedNanos[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    private static String format(Map<String, Object> result) {
+        return String.format("%-40s p50=%8.2fms p95=%8.2fms p99=%8.2fms mean=%8.2fms commands/op=%6.2f",
+                result.get("operation"), result.get("p50Ms"), result.get("p95Ms"), result.get("p99Ms"),
+                result.get("meanMs"), result.get("commandsPerOperation"));
+    }
+
+    /**
+     * Loads the framework configuration and forces headless Chrome against the fixture server.
+     * {@code -Dbenchmark.set.<key>} system properties override individual keys.
+     */
+    private static Properties loadConfig() throws IOException {
+        Properties config = new Properties();
+        Path baseConfig = Paths.get(System.getProperty("benchmark.config", "../src/test/resources/config.properties"));
+        if (Files.isRegularFile(baseConfig)) {
+            try (InputStream inputStream = Files.newInputStream(baseConfig)) {
+                config.load(inputStream);
+            }
+        }
+        config.setProperty("browser", "chrome");
+        config.setProperty("browser.profile", "fast");
+        config.setProperty("base.url", FixtureServer.FIXTURE_SCHEME);
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(OVERRIDE_PREFIX)) {
+                config.setProperty(key.substring(OVERRIDE_PREFIX.length()), System.getProperty(key));
+            }
+        }
+        return config;
+    }
+
+    private static Path writeConfig(Properties config) throws IOException {
+        Files.createDirectories(RESULTS_DIR);
+        Path configFile = RESULTS_DIR.resolve("benchmark-config.properties");
+        try (OutputStream outputStream = Files.newOutputStream(configFile)) {
+            config.store(outputStream, "Configuration used by PageObjectBenchmark");
+        }
+        return configFile;
+    }
+
+    private static void writeResults(Properties config, List<Map<String, Object>> results) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", LocalDateTime.now().toString());
+        Map<String, String> settings = new TreeMap<>();
+        for (String key : Arrays.asList("browser.profile", "page.load.strategy", "browser.images.enabled",
+                "network.block.enabled", "locator.cache.enabled")) {
+            if (config.getProperty(key) != null) {
+                settings.put(key, config.getProperty(key));
+            }
+        }
+        report.put("config", settings);
+        report.put("results", results);
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        Path resultFile = RESULTS_DIR.resolve("page-" + timestamp + ".json");
+        Files.write(resultFile, new Json().toJson(report).getBytes(StandardCharsets.UTF_8));
+        System.out.println("Results written to " + resultFile.toAbsolutePath());
+    }
+}
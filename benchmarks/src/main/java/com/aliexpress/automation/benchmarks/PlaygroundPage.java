@@ -0,0 +1,55 @@
+package com.aliexpress.automation.benchmarks;
+
+import com.aliexpress.automation.pages.BasePage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Exposes the BasePage primitives on the fixture server's playground page so that they
+ * can be measured one by one
+ */
+class PlaygroundPage extends BasePage {
+    private final By textInput = By.id("text-input");
+    private final By countrySelect = By.id("country-select");
+    private final By clickButton = By.id("click-button");
+    private final By staticText = By.id("static-text");
+    private final By hiddenText = By.id("hidden-text");
+    private final By missingElement = By.id("does-not-exist");
+    private final By hoverMenu = By.id("hover-menu");
+
+    PlaygroundPage(WebDriver driver) {
+        super(driver);
+    }
+
+    void clickButton() {
+        click(clickButton);
+    }
+
+    void typeText() {
+        type(textInput, "wireless earbuds");
+    }
+
+    String readText() {
+        return getText(staticText);
+    }
+
+    boolean isVisibleElementDisplayed() {
+        return isElementDisplayed(staticText);
+    }
+
+    boolean isHiddenElementDisplayed() {
+        return isElementDisplayed(hiddenText);
+    }
+
+    boolean isMissingElementDisplayed() {
+        return isElementDisplayed(missingElement);
+    }
+
+    void selectCountry() {
+        selectByText(driver.findElement(countrySelect), "Germany");
+    }
+
+    void hoverMenu() {
+        hoverOver(driver.findElement(hoverMenu));
+    }
+}
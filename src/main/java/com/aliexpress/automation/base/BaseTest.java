@@ -1,17 +1,19 @@
 package com.aliexpress.automation.base;
 
+import com.aliexpress.automation.data.TestDataSources;
+import com.aliexpress.automation.listeners.CommandMetrics;
+import com.aliexpress.automation.listeners.CommandTimingListener;
 import com.aliexpress.automation.utils.ConfigReader;
+import com.aliexpress.automation.utils.LocatorCache;
+import com.aliexpress.automation.utils.ScreenshotStore;
 import com.aliexpress.automation.utils.ScreenshotUtils;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.aliexpress.automation.utils.ScreenshotWriter;
+import org.openqa.selenium.NoSuchSessionException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.remote.UnreachableBrowserException;
 import org.testng.ITestResult;
 import org.testng.annotations.*;
 
-import java.time.Duration;
 import java.util.logging.Logger;
 
 /**
@@ -19,13 +21,16 @@ import java.util.logging.Logger;
  * Handles WebDriver initialization, setup, and teardown operations.
  */
 public class BaseTest {
-    protected WebDriver driver;
     protected static final Logger LOGGER = Logger.getLogger(BaseTest.class.getName());
     protected ConfigReader configReader = new ConfigReader();
 
     @BeforeSuite
     public void beforeSuite() {
         LOGGER.info("Starting test suite execution");
+        LOGGER.info("Using base URL: " + getBaseUrl());
+        if (isDriverPoolEnabled()) {
+            DriverPool.getInstance().prewarm(Integer.parseInt(configReader.getProperty("driver.pool.prewarm", "0")));
+        }
     }
 
     @BeforeClass
@@ -35,16 +40,34 @@ public class BaseTest {
 
     @BeforeMethod
     public void setup() {
+        if (isDriverPoolEnabled()) {
+            WebDriver driver = DriverPool.getInstance().acquire();
+            HarTraffic.beginTest(driver, getClass().getSimpleName());
+            bindDriver(driver);
+            LOGGER.info("Acquired pooled WebDriver session");
+            return;
+        }
+
         String browser = configReader.getProperty("browser", "chrome");
-        initializeDriver(browser);
+        WebDriver driver = DriverFactory.createDriver(browser, configReader);
+        NetworkBlocker.attach(driver, configReader);
+        HarTraffic.attach(driver, configReader);
+        HarTraffic.beginTest(driver, getClass().getSimpleName());
         
-        String url = configReader.getProperty("base.url", "https://aliexpress.com");
+        String url = getBaseUrl();
         driver.get(url);
+        bindDriver(driver);
         LOGGER.info("Navigated to URL: " + url);
     }
 
     @AfterMethod
     public void tearDown(ITestResult result) {
+        CommandMetrics commandMetrics = CommandMetrics.endTest();
+        if (commandMetrics != null && commandMetrics.getCommandCount() > 0) {
+            LOGGER.info(commandMetrics.getReport("WebDriver commands for " + result.getName()));
+        }
+
+        WebDriver driver = getDriver();
         if (ITestResult.FAILURE == result.getStatus()) {
             LOGGER.warning("Test Failed: " + result.getName());
             ScreenshotUtils.captureScreenshot(driver, result.getName());
@@ -52,7 +75,25 @@ public class BaseTest {
             LOGGER.info("Test Completed: " + result.getName() + " with status: " + getResultStatusName(result.getStatus()));
         }
         
-        if (driver != null) {
+        if (driver == null) {
+            return;
+        }
+        DriverManager.unload();
+        // Pool, blocker and HAR bookkeeping is keyed by the original, uninstrumented driver
+        driver = CommandTimingListener.unwrap(driver);
+
+        NetworkBlocker networkBlocker = NetworkBlocker.forDriver(driver);
+        if (networkBlocker != null) {
+            LOGGER.info("Network usage for " + result.getName() + ": " + networkBlocker.getStatistics(driver));
+            networkBlocker.resetStatistics();
+        }
+
+        if (isDriverPoolEnabled()) {
+            DriverPool.getInstance().release(driver, isSessionLost(result));
+            LOGGER.info("WebDriver session returned to pool");
+        } else {
+            NetworkBlocker.detach(driver);
+            HarTraffic.detach(driver);
             driver.quit();
             LOGGER.info("WebDriver closed successfully");
         }
@@ -60,47 +101,91 @@ public class BaseTest {
 
     @AfterClass
     public void afterClass() {
+        HarTraffic.flush(configReader, this.getClass().getSimpleName());
         LOGGER.info("Completed test class execution: " + this.getClass().getSimpleName());
     }
 
     @AfterSuite
     public void afterSuite() {
+        if (isDriverPoolEnabled()) {
+            DriverPool driverPool = DriverPool.getInstance();
+            LOGGER.info("WebDriver pool usage - " + driverPool.getStatistics());
+            driverPool.shutdown();
+        }
+        HarTraffic.flushAll(configReader);
+        CommandMetrics suiteCommandMetrics = CommandMetrics.getSuiteMetrics();
+        if (suiteCommandMetrics.getCommandCount() > 0) {
+            LOGGER.info(suiteCommandMetrics.getReport("WebDriver commands for the suite"));
+        }
+        LocatorCache locatorCache = LocatorCache.getInstance();
+        if (locatorCache.isEnabled()) {
+            LOGGER.info(locatorCache.getStatistics());
+            locatorCache.save();
+        }
+        LOGGER.info(TestDataSources.getStatistics());
+        ScreenshotWriter screenshotWriter = ScreenshotWriter.getInstance();
+        screenshotWriter.flush(Long.parseLong(configReader.getProperty("screenshot.writer.flush.timeout.ms", "30000")));
+        LOGGER.info(screenshotWriter.getStatistics());
+        ScreenshotStore screenshotStore = ScreenshotStore.getInstance();
+        if (screenshotStore.isEnabled()) {
+            LOGGER.info(screenshotStore.getStatistics());
+        }
+        FixtureServer.stopServer();
         LOGGER.info("Completed test suite execution");
     }
 
     /**
-     * Initializes the WebDriver based on the specified browser
+     * Binds the WebDriver to the current thread. When command metrics are enabled the test
+     * gets an instrumented driver that records every command per page-object method.
      *
-     * @param browser Browser name to initialize
+     * @param driver WebDriver instance for the test
      */
-    private void initializeDriver(String browser) {
-        switch (browser.toLowerCase()) {
-            case "chrome":
-                WebDriverManager.chromedriver().setup();
-                driver = new ChromeDriver();
-                break;
-            case "firefox":
-                WebDriverManager.firefoxdriver().setup();
-                driver = new FirefoxDriver();
-                break;
-            case "edge":
-                WebDriverManager.edgedriver().setup();
-                driver = new EdgeDriver();
-                break;
-            case "safari":
-                WebDriverManager.safaridriver().setup();
-                driver = new SafariDriver();
-                break;
-            default:
-                WebDriverManager.chromedriver().setup();
-                driver = new ChromeDriver();
+    private void bindDriver(WebDriver driver) {
+        if (Boolean.parseBoolean(configReader.getProperty("command.metrics.enabled", "true"))) {
+            DriverManager.setDriver(CommandTimingListener.instrument(driver));
+            CommandMetrics.beginTest();
+        } else {
+            DriverManager.setDriver(driver);
         }
+    }
 
-        driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
-        
-        LOGGER.info("Initialized " + browser + " browser");
+    /**
+     * Gets the WebDriver owned by the test running on the current thread
+     *
+     * @return WebDriver instance
+     */
+    protected WebDriver getDriver() {
+        return DriverManager.getDriver();
+    }
+
+    /**
+     * Gets the URL tests start from. A {@code fixture://} base URL is served by the
+     * embedded FixtureServer, which is started on first use.
+     *
+     * @return Base URL of the application under test
+     */
+    protected String getBaseUrl() {
+        return FixtureServer.resolveBaseUrl(configReader);
+    }
+
+    /**
+     * Checks if WebDriver sessions should be reused through the driver pool
+     *
+     * @return true if pooling is enabled in config.properties
+     */
+    private boolean isDriverPoolEnabled() {
+        return Boolean.parseBoolean(configReader.getProperty("driver.pool.enabled", "true"));
+    }
+
+    /**
+     * Checks if the test failed because the browser session was lost
+     *
+     * @param result TestNG test result
+     * @return true if the session should not be reused
+     */
+    private boolean isSessionLost(ITestResult result) {
+        Throwable throwable = result.getThrowable();
+        return throwable instanceof NoSuchSessionException || throwable instanceof UnreachableBrowserException;
     }
 
     /**
@@ -0,0 +1,159 @@
+package com.aliexpress.automation.base;
+
+import com.aliexpress.automation.utils.ConfigReader;
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Resolves browser driver binaries once per JVM.
+ * When {@code driver.cache.path} points at a pre-populated directory, binaries are taken
+ * from there after verifying them against their {@code .sha256} checksum files, so no
+ * network access is needed. Otherwise resolution falls back to WebDriverManager.
+ */
+public final class DriverBinaryResolver {
+    private static final Logger LOGGER = Logger.getLogger(DriverBinaryResolver.class.getName());
+    private static final Map<String, String> RESOLVED_DRIVERS = new ConcurrentHashMap<>();
+
+    private DriverBinaryResolver() {
+    }
+
+    /**
+     * Makes the driver binary for the specified browser available to Selenium.
+     * Only the first call per browser does any work; later calls return immediately.
+     *
+     * @param browser      Browser name (chrome, firefox, edge or safari)
+     * @param configReader Configuration to read the binary cache settings from
+     */
+    public static void resolve(String browser, ConfigReader configReader) {
+        RESOLVED_DRIVERS.computeIfAbsent(browser.toLowerCase(), key -> doResolve(key, configReader));
+    }
+
+    private static String doResolve(String browser, ConfigReader configReader) {
+        String cachePath = configReader.getProperty("driver.cache.path", "");
+        boolean offline = Boolean.parseBoolean(configReader.getProperty("driver.cache.offline", "false"));
+
+        if ("safari".equals(browser)) {
+            // safaridriver ships with macOS and is never downloaded
+            return "safaridriver";
+        }
+
+        if (!cachePath.isEmpty()) {
+            Path binary = Paths.get(cachePath, getBinaryName(browser));
+            if (Files.isRegularFile(binary)) {
+                verifyChecksum(binary);
+                System.setProperty(getDriverSystemProperty(browser), binary.toAbsolutePath().toString());
+                LOGGER.info("Resolved " + browser + " driver from local cache: " + binary);
+                return binary.toString();
+            }
+            if (offline) {
+                throw new IllegalStateException("Driver binary not found in offline cache: " + binary);
+            }
+            LOGGER.warning("Driver binary not found in cache " + binary + ", falling back to WebDriverManager");
+        } else if (offline) {
+            throw new IllegalStateException("driver.cache.offline is enabled but driver.cache.path is not set");
+        }
+
+        WebDriverManager manager = getWebDriverManager(browser);
+        manager.setup();
+        String downloadedPath = manager.getDownloadedDriverPath();
+        LOGGER.info("Resolved " + browser + " driver with WebDriverManager: " + downloadedPath);
+        return downloadedPath == null ? browser : downloadedPath;
+    }
+
+    /**
+     * Verifies a cached binary against the SHA-256 digest stored next to it
+     *
+     * @param binary Path to the driver binary
+     */
+    private static void verifyChecksum(Path binary) {
+        Path checksumFile = Paths.get(binary + ".sha256");
+        if (!Files.isRegularFile(checksumFile)) {
+            throw new IllegalStateException("Missing checksum file for cached driver: " + checksumFile);
+        }
+
+        try {
+            // Accept both a bare digest and the "<digest>  <file name>" format written by sha256sum
+            String expected = new String(Files.readAllBytes(checksumFile), StandardCharsets.US_ASCII)
+                    .trim().split("\\s+")[0].toLowerCase();
+            String actual = sha256(binary);
+            if (!expected.equals(actual)) {
+                throw new IllegalStateException("Checksum mismatch for cached driver " + binary
+                        + ": expected " + expected + " but was " + actual);
+            }
+
+            if (!Files.isExecutable(binary) && !binary.toFile().setExecutable(true)) {
+                LOGGER.warning("Could not mark cached driver as executable: " + binary);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Error verifying cached driver " + binary + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static String getBinaryName(String browser) {
+        String suffix = System.getProperty("os.name").toLowerCase().contains("win") ? ".exe" : "";
+        switch (browser) {
+            case "firefox":
+                return "geckodriver" + suffix;
+            case "edge":
+                return "msedgedriver" + suffix;
+            default:
+                return "chromedriver" + suffix;
+        }
+    }
+
+    private static String getDriverSystemProperty(String browser) {
+        switch (browser) {
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                return "webdriver.chrome.driver";
+        }
+    }
+
+    private static WebDriverManager getWebDriverManager(String browser) {
+        switch (browser) {
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            case "edge":
+                return WebDriverManager.edgedriver();
+            default:
+                return WebDriverManager.chromedriver();
+        }
+    }
+}
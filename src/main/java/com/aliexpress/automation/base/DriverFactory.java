@@ -0,0 +1,195 @@
+package com.aliexpress.automation.base;
+
+import com.aliexpress.automation.utils.ConfigReader;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.safari.SafariOptions;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Factory responsible for launching new WebDriver sessions
+ */
+public final class DriverFactory {
+    private static final Logger LOGGER = Logger.getLogger(DriverFactory.class.getName());
+
+    private DriverFactory() {
+    }
+
+    /**
+     * Launches a new WebDriver session for the specified browser.
+     * The {@code browser.profile} property selects between the default headed browser
+     * and the lean headless "fast" profile intended for CI runners, and
+     * {@code page.load.strategy} chooses how long navigation blocks (normal, eager or none).
+     *
+     * @param browser      Browser name to initialize
+     * @param configReader Configuration to read the browser profile from
+     * @return Newly created WebDriver instance
+     */
+    public static WebDriver createDriver(String browser, ConfigReader configReader) {
+        boolean fastProfile = "fast".equalsIgnoreCase(configReader.getProperty("browser.profile", "default"));
+        String viewport = configReader.getProperty("browser.viewport", "1366x768");
+        boolean imagesEnabled = Boolean.parseBoolean(configReader.getProperty("browser.images.enabled", "true"));
+        PageLoadStrategy pageLoadStrategy = PageLoadStrategy.fromString(
+                configReader.getProperty("page.load.strategy", "normal").toLowerCase());
+        if (pageLoadStrategy == null) {
+            throw new IllegalArgumentException("Invalid page.load.strategy value: "
+                    + configReader.getProperty("page.load.strategy"));
+        }
+
+        WebDriver driver;
+        switch (browser.toLowerCase()) {
+            case "firefox":
+                DriverBinaryResolver.resolve("firefox", configReader);
+                FirefoxOptions firefoxOptions = new FirefoxOptions();
+                firefoxOptions.setPageLoadStrategy(pageLoadStrategy);
+                if (fastProfile) {
+                    applyFastProfile(firefoxOptions, viewport, imagesEnabled);
+                }
+                driver = new FirefoxDriver(firefoxOptions);
+                break;
+            case "edge":
+                DriverBinaryResolver.resolve("edge", configReader);
+                EdgeOptions edgeOptions = new EdgeOptions();
+                edgeOptions.setPageLoadStrategy(pageLoadStrategy);
+                if (fastProfile) {
+                    applyFastProfile(edgeOptions, viewport, imagesEnabled);
+                }
+                driver = new EdgeDriver(edgeOptions);
+                break;
+            case "safari":
+                DriverBinaryResolver.resolve("safari", configReader);
+                if (fastProfile) {
+                    LOGGER.warning("Safari does not support the fast browser profile, using defaults");
+                    fastProfile = false;
+                }
+                SafariOptions safariOptions = new SafariOptions();
+                safariOptions.setPageLoadStrategy(pageLoadStrategy);
+                driver = new SafariDriver(safariOptions);
+                break;
+            case "chrome":
+            default:
+                DriverBinaryResolver.resolve("chrome", configReader);
+                ChromeOptions chromeOptions = new ChromeOptions();
+                chromeOptions.setPageLoadStrategy(pageLoadStrategy);
+                if (fastProfile) {
+                    applyFastProfile(chromeOptions, viewport, imagesEnabled);
+                }
+                driver = new ChromeDriver(chromeOptions);
+        }
+
+        // The fast profile sizes the window through launch arguments instead
+        if (!fastProfile) {
+            driver.manage().window().maximize();
+        }
+        driver.manage().timeouts().implicitlyWait(
+                Duration.ofSeconds(Long.parseLong(configReader.getProperty("implicit.wait", "10"))));
+        driver.manage().timeouts().pageLoadTimeout(
+                Duration.ofSeconds(Long.parseLong(configReader.getProperty("page.load.timeout", "30"))));
+
+        LOGGER.info("Initialized " + browser + " browser" + (fastProfile ? " with fast profile" : ""));
+        return driver;
+    }
+
+    /**
+     * Configures a Chromium-based browser (Chrome or Edge) for headless CI runs
+     *
+     * @param options       Chrome or Edge options to configure
+     * @param viewport      Window size in WIDTHxHEIGHT format
+     * @param imagesEnabled false to stop the browser from loading images
+     */
+    private static void applyFastProfile(ChromiumOptions<?> options, String viewport, boolean imagesEnabled) {
+        String[] size = parseViewport(viewport);
+        options.addArguments(
+                "--headless=new",
+                "--window-size=" + size[0] + "," + size[1],
+                "--disable-extensions",
+                "--disable-gpu",
+                "--disable-dev-shm-usage",
+                "--disable-background-networking",
+                "--disable-background-timer-throttling",
+                "--disable-backgrounding-occluded-windows",
+                "--disable-renderer-backgrounding",
+                "--no-first-run");
+
+        if (!imagesEnabled) {
+            Map<String, Object> prefs = new HashMap<>();
+            prefs.put("profile.managed_default_content_settings.images", 2);
+            options.setExperimentalOption("prefs", prefs);
+        }
+    }
+
+    /**
+     * Configures Firefox for headless CI runs
+     *
+     * @param options       Firefox options to configure
+     * @param viewport      Window size in WIDTHxHEIGHT format
+     * @param imagesEnabled false to stop the browser from loading images
+     */
+    private static void applyFastProfile(FirefoxOptions options, String viewport, boolean imagesEnabled) {
+        String[] size = parseViewport(viewport);
+        options.addArguments("-headless", "--width=" + size[0], "--height=" + size[1]);
+        options.addPreference("extensions.enabledScopes", 0);
+        options.addPreference("layers.acceleration.disabled", true);
+        options.addPreference("dom.min_background_timeout_value", 0);
+        options.addPreference("dom.timeout.enable_budget_timer_throttling", false);
+
+        if (!imagesEnabled) {
+            options.addPreference("permissions.default.image", 2);
+        }
+    }
+
+    /**
+     * Splits a WIDTHxHEIGHT viewport string into its two dimensions
+     *
+     * @param viewport Viewport string such as 1366x768
+     * @return Array holding width and height
+     */
+    private static String[] parseViewport(String viewport) {
+        String[] size = viewport.toLowerCase().split("x");
+        if (size.length != 2) {
+            throw new IllegalArgumentException("Invalid browser.viewport value: " + viewport);
+        }
+        return new String[]{size[0].trim(), size[1].trim()};
+    }
+
+    /**
+     * Checks whether the browser behind a session still responds to commands
+     *
+     * @param driver WebDriver instance to check
+     * @return true if the session is alive, false otherwise
+     */
+    public static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandles();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Quits a WebDriver session, ignoring failures from an already dead browser
+     *
+     * @param driver WebDriver instance to quit
+     */
+    public static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            LOGGER.warning("Error quitting WebDriver: " + e.getMessage());
+        }
+    }
+}
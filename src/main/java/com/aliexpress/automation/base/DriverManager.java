@@ -0,0 +1,40 @@
+package com.aliexpress.automation.base;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Thread-confined registry of the WebDriver owned by the currently running test.
+ * Each TestNG worker thread sees only its own session, so test methods of the same
+ * class instance can run in parallel without overwriting each other's driver.
+ */
+public final class DriverManager {
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+
+    private DriverManager() {
+    }
+
+    /**
+     * Gets the WebDriver bound to the current thread
+     *
+     * @return WebDriver instance or null if no session is bound
+     */
+    public static WebDriver getDriver() {
+        return DRIVER.get();
+    }
+
+    /**
+     * Binds a WebDriver to the current thread
+     *
+     * @param driver WebDriver instance to bind
+     */
+    public static void setDriver(WebDriver driver) {
+        DRIVER.set(driver);
+    }
+
+    /**
+     * Removes the WebDriver binding from the current thread
+     */
+    public static void unload() {
+        DRIVER.remove();
+    }
+}
@@ -0,0 +1,384 @@
+package com.aliexpress.automation.base;
+
+import com.aliexpress.automation.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Pool of reusable WebDriver sessions shared across TestNG threads.
+ * Sessions are reset between tests instead of being relaunched and are retired
+ * after a configurable number of tests or as soon as the browser stops responding.
+ * Sessions can also be launched ahead of time on a background executor so that the
+ * first tests of a suite do not pay for browser startup.
+ * For Chromium browsers each test can additionally run in its own incognito-style
+ * browser context, which isolates cookies and storage without a new browser process.
+ */
+public class DriverPool {
+    private static final Logger LOGGER = Logger.getLogger(DriverPool.class.getName());
+    private static DriverPool instance;
+
+    private final ConfigReader configReader;
+    private final String browser;
+    private final String baseUrl;
+    private final int size;
+    private final int maxTestsPerSession;
+    private final boolean contextIsolation;
+    private final Semaphore permits;
+    private final BlockingDeque<PooledSession> idleSessions = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingWarmups = new AtomicInteger();
+    private final AtomicInteger prewarmedHits = new AtomicInteger();
+    private final AtomicInteger reusedHits = new AtomicInteger();
+    private final AtomicInteger coldStarts = new AtomicInteger();
+    private ExecutorService warmupExecutor;
+    private volatile boolean closed;
+
+    DriverPool(ConfigReader configReader, String browser, String baseUrl, int size, int maxTestsPerSession) {
+        this.configReader = configReader;
+        this.browser = browser;
+        this.baseUrl = baseUrl;
+        this.size = size;
+        this.maxTestsPerSession = maxTestsPerSession;
+        this.contextIsolation = Boolean.parseBoolean(configReader.getProperty("driver.context.isolation", "true"));
+        this.permits = new Semaphore(size, true);
+    }
+
+    /**
+     * Gets the process-wide pool, creating it from config.properties on first use
+     *
+     * @return Shared DriverPool instance
+     */
+    public static synchronized DriverPool getInstance() {
+        if (instance == null) {
+            ConfigReader configReader = new ConfigReader();
+            instance = new DriverPool(
+                    configReader,
+                    configReader.getProperty("browser", "chrome"),
+                    FixtureServer.resolveBaseUrl(configReader),
+                    Integer.parseInt(configReader.getProperty("driver.pool.size", "4")),
+                    Integer.parseInt(configReader.getProperty("driver.pool.max.tests.per.session", "25")));
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::shutdown, "driver-pool-shutdown"));
+            LOGGER.info("Created driver pool of size " + configReader.getProperty("driver.pool.size", "4"));
+        }
+        return instance;
+    }
+
+    /**
+     * Starts launching sessions in the background. Each warmed session already has
+     * the base URL loaded and is parked in the pool until a test acquires it.
+     *
+     * @param count Number of sessions to warm up, capped at the pool size
+     */
+    public synchronized void prewarm(int count) {
+        int sessionsToWarm = Math.min(count, size - idleSessions.size());
+        if (sessionsToWarm <= 0 || closed) {
+            return;
+        }
+
+        if (warmupExecutor == null) {
+            AtomicInteger threadCounter = new AtomicInteger();
+            warmupExecutor = Executors.newFixedThreadPool(sessionsToWarm, runnable -> {
+                Thread thread = new Thread(runnable, "driver-pool-warmup-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        LOGGER.info("Pre-warming " + sessionsToWarm + " WebDriver sessions");
+        for (int i = 0; i < sessionsToWarm; i++) {
+            pendingWarmups.incrementAndGet();
+            warmupExecutor.submit(this::warmUpSession);
+        }
+    }
+
+    private void warmUpSession() {
+        try {
+            PooledSession session = launchSession();
+            session.prewarmed = true;
+            if (closed) {
+                retire(session, "pool already shut down");
+            } else {
+                idleSessions.offerLast(session);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warning("Error pre-warming WebDriver session: " + e.getMessage());
+        } finally {
+            pendingWarmups.decrementAndGet();
+        }
+    }
+
+    /**
+     * Leases a session positioned on the base URL, blocking while every session is in use
+     *
+     * @return WebDriver instance reserved for the calling test
+     */
+    public WebDriver acquire() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a WebDriver session", e);
+        }
+
+        try {
+            PooledSession session;
+            while ((session = pollIdleSession()) != null) {
+                if (session.testsServed == 0 || reset(session)) {
+                    break;
+                }
+                retire(session, "reset failed");
+            }
+
+            if (session == null) {
+                session = launchSession();
+                coldStarts.incrementAndGet();
+            } else if (session.testsServed == 0 && session.prewarmed) {
+                prewarmedHits.incrementAndGet();
+            } else {
+                reusedHits.incrementAndGet();
+            }
+
+            session.testsServed++;
+            leasedSessions.put(session.driver, session);
+            return session.driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Takes an idle session, waiting for in-flight warm-ups rather than cold-starting a browser
+     *
+     * @return Idle session or null if none is available or coming
+     */
+    private PooledSession pollIdleSession() {
+        PooledSession session = idleSessions.pollFirst();
+        try {
+            while (session == null && pendingWarmups.get() > 0) {
+                session = idleSessions.pollFirst(250, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return session;
+    }
+
+    private PooledSession launchSession() {
+        PooledSession session = new PooledSession(DriverFactory.createDriver(browser, configReader));
+        session.anchorHandle = session.driver.getWindowHandle();
+        NetworkBlocker.attach(session.driver, configReader);
+        HarTraffic.attach(session.driver, configReader);
+        session.driver.get(baseUrl);
+        LOGGER.info("Launched new pooled session and navigated to URL: " + baseUrl);
+        return session;
+    }
+
+    /**
+     * Returns a leased session to the pool
+     *
+     * @param driver WebDriver instance obtained from {@link #acquire()}
+     * @param broken true if the test detected that the session is unusable
+     */
+    public void release(WebDriver driver, boolean broken) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) {
+            LOGGER.warning("Attempted to release a WebDriver that is not leased from the pool");
+            return;
+        }
+
+        try {
+            if (broken || !DriverFactory.isAlive(driver)) {
+                retire(session, "session crashed");
+            } else if (session.testsServed >= maxTestsPerSession) {
+                retire(session, "served " + session.testsServed + " tests");
+            } else {
+                idleSessions.offerFirst(session);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Gets the number of sessions that can be leased without waiting
+     *
+     * @return Pool size minus the sessions currently leased
+     */
+    public int getAvailableSessions() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Gets a summary of how test sessions were obtained
+     *
+     * @return Warm-hit and cold-start counts
+     */
+    public String getStatistics() {
+        int prewarmed = prewarmedHits.get();
+        int reused = reusedHits.get();
+        return String.format("Warm hits: %d (%d pre-warmed, %d reused), Cold starts: %d",
+                prewarmed + reused, prewarmed, reused, coldStarts.get());
+    }
+
+    /**
+     * Quits every idle and leased session
+     */
+    public void shutdown() {
+        closed = true;
+        synchronized (this) {
+            if (warmupExecutor != null) {
+                warmupExecutor.shutdownNow();
+            }
+        }
+        List<PooledSession> sessions = new ArrayList<>(leasedSessions.values());
+        leasedSessions.clear();
+        idleSessions.drainTo(sessions);
+        for (PooledSession session : sessions) {
+            retire(session, "pool shutdown");
+        }
+    }
+
+    /**
+     * Restores a reused session to a clean state on the base URL. Chromium sessions move
+     * to a fresh browser context; other browsers are reduced to a single window with no
+     * cookies, local storage or session storage left over from the previous test.
+     *
+     * @param session Session to reset
+     * @return true if the session was reset, false if the browser is unusable
+     */
+    private boolean reset(PooledSession session) {
+        WebDriver driver = session.driver;
+        try {
+            try {
+                driver.switchTo().alert().dismiss();
+            } catch (NoAlertPresentException e) {
+                // Nothing left open by the previous test
+            }
+
+            if (contextIsolation && !session.contextsUnsupported && driver instanceof ChromiumDriver) {
+                try {
+                    openIsolatedContext(session);
+                    return true;
+                } catch (WebDriverException e) {
+                    LOGGER.warning("Could not open isolated browser context, falling back to cookie and storage reset: "
+                            + e.getMessage());
+                    session.contextsUnsupported = true;
+                }
+            }
+
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(session.anchorHandle)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(session.anchorHandle);
+            driver.switchTo().defaultContent();
+
+            clearStorage(driver);
+            driver.manage().deleteAllCookies();
+            driver.get(baseUrl);
+            clearStorage(driver);
+            return true;
+        } catch (WebDriverException e) {
+            LOGGER.warning("Error resetting pooled session: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Moves a Chromium session into a new browser context over CDP and disposes the
+     * context used by the previous test, closing every window that test opened.
+     * The window the browser was launched with stays open on about:blank so the
+     * WebDriver session always keeps a window.
+     *
+     * @param session Session to move
+     */
+    private void openIsolatedContext(PooledSession session) {
+        ChromiumDriver driver = (ChromiumDriver) session.driver;
+        String previousContextId = session.browserContextId;
+
+        String contextId = (String) driver.executeCdpCommand("Target.createBrowserContext", new HashMap<>())
+                .get("browserContextId");
+        Map<String, Object> targetParams = new HashMap<>();
+        targetParams.put("url", "about:blank");
+        targetParams.put("browserContextId", contextId);
+        String targetId = (String) driver.executeCdpCommand("Target.createTarget", targetParams).get("targetId");
+        session.browserContextId = contextId;
+
+        if (previousContextId != null) {
+            Map<String, Object> disposeParams = new HashMap<>();
+            disposeParams.put("browserContextId", previousContextId);
+            driver.executeCdpCommand("Target.disposeBrowserContext", disposeParams);
+        } else {
+            // First isolated test: park the launch window, which still holds the previous test's page
+            driver.switchTo().window(session.anchorHandle).get("about:blank");
+        }
+
+        String contextHandle = null;
+        for (String handle : driver.getWindowHandles()) {
+            if (handle.endsWith(targetId)) {
+                contextHandle = handle;
+            } else if (!handle.equals(session.anchorHandle)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        if (contextHandle == null) {
+            throw new WebDriverException("New browser context window is not visible to WebDriver");
+        }
+
+        driver.switchTo().window(contextHandle);
+        NetworkBlocker.attach(driver, configReader);
+        HarTraffic.attach(driver, configReader);
+        driver.get(baseUrl);
+    }
+
+    private void clearStorage(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        } catch (WebDriverException e) {
+            LOGGER.fine("Could not clear web storage: " + e.getMessage());
+        }
+    }
+
+    private void retire(PooledSession session, String reason) {
+        NetworkBlocker.detach(session.driver);
+        HarTraffic.detach(session.driver);
+        DriverFactory.quitQuietly(session.driver);
+        LOGGER.info("Retired pooled session (" + reason + ")");
+    }
+
+    /**
+     * A pooled WebDriver together with its usage counter and browser context state
+     */
+    private static class PooledSession {
+        private final WebDriver driver;
+        private int testsServed;
+        private boolean prewarmed;
+        private String anchorHandle;
+        private String browserContextId;
+        private boolean contextsUnsupported;
+
+        private PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
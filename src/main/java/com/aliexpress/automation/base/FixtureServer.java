@@ -0,0 +1,195 @@
+package com.aliexpress.automation.base;
+
+import com.aliexpress.automation.utils.ConfigReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Embedded HTTP server that serves static copies of the AliExpress pages our locators target,
+ * so tests can run without network access and with deterministic timings.
+ * It is enabled by setting {@code base.url=fixture://} in config.properties. Pages are read
+ * from {@code /fixtures} on the classpath once at startup and served from memory.
+ */
+public final class FixtureServer {
+    public static final String FIXTURE_SCHEME = "fixture://";
+
+    private static final Logger LOGGER = Logger.getLogger(FixtureServer.class.getName());
+    private static final String DEFAULT_BASE_URL = "https://aliexpress.com";
+    private static FixtureServer instance;
+
+    /** Path prefixes mapped to fixture files, checked in insertion order */
+    private static final Map<String, String> ROUTES = new LinkedHashMap<>();
+
+    static {
+        ROUTES.put("/wholesale", "search.html");
+        ROUTES.put("/all-wholesale-products.html", "search.html");
+        ROUTES.put("/item/", "product.html");
+        ROUTES.put("/category/", "category.html");
+        ROUTES.put("/cart", "cart.html");
+        ROUTES.put("/checkout", "checkout.html");
+        ROUTES.put("/order-confirmation", "order-confirmation.html");
+        ROUTES.put("/login", "login.html");
+        ROUTES.put("/register", "register.html");
+        ROUTES.put("/forgot-password", "forgot-password.html");
+        ROUTES.put("/iframes", "iframes.html");
+        ROUTES.put("/frames/outer", "frame-outer.html");
+        ROUTES.put("/frames/inner", "frame-inner.html");
+        ROUTES.put("/frames/form", "frame-form.html");
+        ROUTES.put("/alerts", "alerts.html");
+        ROUTES.put("/windows", "windows.html");
+        ROUTES.put("/playground", "playground.html");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String baseUrl;
+    private final Map<String, byte[]> pages = new HashMap<>();
+
+    private FixtureServer(String host, int port, int threads) throws IOException {
+        loadPages();
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        AtomicInteger threadCounter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+
+        baseUrl = "http://" + host + ":" + server.getAddress().getPort() + "/";
+    }
+
+    /**
+     * Resolves the configured base URL. When it uses the {@code fixture://} scheme the
+     * fixture server is started on first use and its address is returned instead.
+     *
+     * @param configReader Configuration to read the base URL and server settings from
+     * @return URL that tests should navigate to, always ending with a slash
+     */
+    public static String resolveBaseUrl(ConfigReader configReader) {
+        String configuredUrl = configReader.getProperty("base.url", DEFAULT_BASE_URL);
+        if (configuredUrl.startsWith(FIXTURE_SCHEME)) {
+            return start(configReader).getBaseUrl();
+        }
+        return configuredUrl.endsWith("/") ? configuredUrl : configuredUrl + "/";
+    }
+
+    /**
+     * Starts the process-wide fixture server if it is not running yet
+     *
+     * @param configReader Configuration to read the server settings from
+     * @return Running FixtureServer instance
+     */
+    public static synchronized FixtureServer start(ConfigReader configReader) {
+        if (instance == null) {
+            try {
+                instance = new FixtureServer(
+                        configReader.getProperty("fixture.server.host", "aliexpress.localhost"),
+                        Integer.parseInt(configReader.getProperty("fixture.server.port", "0")),
+                        Integer.parseInt(configReader.getProperty("fixture.server.threads", "8")));
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not start fixture server: " + e.getMessage(), e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(FixtureServer::stopServer, "fixture-server-shutdown"));
+            LOGGER.info("Started fixture server at " + instance.baseUrl);
+        }
+        return instance;
+    }
+
+    /**
+     * Stops the fixture server if it was started
+     */
+    public static synchronized void stopServer() {
+        if (instance != null) {
+            instance.server.stop(0);
+            instance.executor.shutdownNow();
+            LOGGER.info("Stopped fixture server");
+            instance = null;
+        }
+    }
+
+    /**
+     * Gets the address the server is reachable at, always ending with a slash
+     *
+     * @return Base URL of the fixture server
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    private void loadPages() throws IOException {
+        pages.put("home.html", readResource("home.html"));
+        for (String page : ROUTES.values()) {
+            if (!pages.containsKey(page)) {
+                pages.put(page, readResource(page));
+            }
+        }
+    }
+
+    private byte[] readResource(String name) throws IOException {
+        try (InputStream inputStream = FixtureServer.class.getResourceAsStream("/fixtures/" + name)) {
+            if (inputStream == null) {
+                throw new IOException("Fixture page not found on classpath: /fixtures/" + name);
+            }
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String page = route(path);
+            if (page == null) {
+                sendResponse(exchange, 404, "text/plain; charset=utf-8",
+                        ("No fixture for " + path).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            sendResponse(exchange, 200, "text/html; charset=utf-8", pages.get(page));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String route(String path) {
+        if ("/".equals(path) || "/index.html".equals(path)) {
+            return "home.html";
+        }
+        for (Map.Entry<String, String> route : ROUTES.entrySet()) {
+            if (path.startsWith(route.getKey())) {
+                return route.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static void sendResponse(HttpExchange exchange, int status, String contentType, byte[] body)
+            throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+}
@@ -0,0 +1,420 @@
+package com.aliexpress.automation.base;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Reads and writes HAR 1.2 archives of recorded browser traffic.
+ * Response bodies are not inlined into the HAR file; they are appended to a sidecar
+ * {@code <name>.har.bodies} file and referenced through the custom {@code _bodyOffset} and
+ * {@code _bodyLength} content fields. On replay the sidecar files are memory-mapped, so
+ * parallel sessions read bodies straight from the page cache without copying whole archives
+ * onto the heap. Sidecars larger than 2GB are mapped in several windows.
+ */
+public class HarArchive {
+    private static final Logger LOGGER = Logger.getLogger(HarArchive.class.getName());
+    private static final Json JSON = new Json();
+    private static final String BODIES_SUFFIX = ".bodies";
+    /** Largest part of a sidecar mapped at once, since buffers are indexed by int */
+    private static final long MAX_MAPPING = Integer.MAX_VALUE;
+
+    private final Map<String, RecordedResponse> responses = new HashMap<>();
+    private final Set<String> ignoredParams;
+
+    private HarArchive(Set<String> ignoredParams) {
+        this.ignoredParams = ignoredParams;
+    }
+
+    /**
+     * Loads every {@code .har} file of a directory into one replay index.
+     * When the same request was recorded more than once, the first recording wins.
+     *
+     * @param directory     Directory holding the HAR files and their body sidecars
+     * @param ignoredParams Query parameters left out of request keys, such as cache busters
+     * @return Archive ready for lookups
+     */
+    public static HarArchive load(Path directory, Set<String> ignoredParams) {
+        HarArchive archive = new HarArchive(ignoredParams);
+        if (!Files.isDirectory(directory)) {
+            LOGGER.warning("HAR directory does not exist: " + directory);
+            return archive;
+        }
+
+        try (DirectoryStream<Path> harFiles = Files.newDirectoryStream(directory, "*.har")) {
+            for (Path harFile : harFiles) {
+                archive.loadFile(harFile);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Error loading HAR files from " + directory + ": " + e.getMessage(), e);
+        }
+        LOGGER.info("Loaded " + archive.responses.size() + " recorded responses from " + directory);
+        return archive;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadFile(Path harFile) throws IOException {
+        Map<String, Object> har;
+        try (Reader reader = Files.newBufferedReader(harFile, StandardCharsets.UTF_8)) {
+            har = JSON.toType(reader, Json.MAP_TYPE);
+        }
+        List<Map<String, Object>> entries = (List<Map<String, Object>>) ((Map<String, Object>) har.get("log")).get("entries");
+
+        try (Sidecar bodies = new Sidecar(Paths.get(harFile + BODIES_SUFFIX))) {
+            loadEntries(harFile, entries, bodies);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadEntries(Path harFile, List<Map<String, Object>> entries, Sidecar bodies) throws IOException {
+        for (Map<String, Object> entry : entries) {
+            Map<String, Object> request = (Map<String, Object>) entry.get("request");
+            Map<String, Object> response = (Map<String, Object>) entry.get("response");
+            Map<String, Object> content = (Map<String, Object>) response.get("content");
+            Map<String, Object> postData = (Map<String, Object>) request.get("postData");
+
+            String key = requestKey((String) request.get("method"), (String) request.get("url"),
+                    postData == null ? null : (String) postData.get("text"));
+            if (responses.containsKey(key)) {
+                continue;
+            }
+
+            long offset = ((Number) content.getOrDefault("_bodyOffset", 0L)).longValue();
+            long length = ((Number) content.getOrDefault("_bodyLength", 0L)).longValue();
+            ByteBuffer body = bodies.slice(offset, length);
+            if (body == null) {
+                LOGGER.warning("Skipping " + request.get("url") + " in " + harFile + ": body at offset " + offset
+                        + " with length " + length + " is outside the sidecar or too large to map");
+                continue;
+            }
+
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (Map<String, Object> header : (List<Map<String, Object>>) response.get("headers")) {
+                headers.put((String) header.get("name"), (String) header.get("value"));
+            }
+
+            responses.put(key, new RecordedResponse(((Number) response.get("status")).intValue(),
+                    (String) response.get("statusText"), headers, body));
+        }
+    }
+
+    /**
+     * Body sidecar of one HAR file, mapped in windows of at most {@link #MAX_MAPPING} bytes.
+     * Bodies are written in request order, so a new window is mapped from the first body that
+     * does not fit the current one. Mappings stay valid after the sidecar is closed.
+     */
+    private static final class Sidecar implements Closeable {
+        private final FileChannel channel;
+        private final long size;
+        private MappedByteBuffer window;
+        private long windowStart;
+
+        Sidecar(Path file) throws IOException {
+            this.channel = Files.isRegularFile(file) ? FileChannel.open(file, StandardOpenOption.READ) : null;
+            this.size = channel == null ? 0 : channel.size();
+        }
+
+        /**
+         * Gets a read-only view of a body
+         *
+         * @param offset Offset of the body in the file
+         * @param length Length of the body
+         * @return Body, empty if there is no sidecar, or null if the body lies outside the file
+         *         or is too large for one buffer
+         */
+        ByteBuffer slice(long offset, long length) throws IOException {
+            if (channel == null || length == 0) {
+                return ByteBuffer.allocate(0);
+            }
+            if (offset < 0 || length < 0 || length > MAX_MAPPING || offset > size - length) {
+                return null;
+            }
+            if (window == null || offset < windowStart || offset + length > windowStart + window.capacity()) {
+                window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(MAX_MAPPING, size - offset));
+                windowStart = offset;
+            }
+            int start = (int) (offset - windowStart);
+            return window.duplicate().position(start).limit(start + (int) length).slice();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Finds the recorded response for a request
+     *
+     * @param method   HTTP method
+     * @param url      Request URL
+     * @param postData Request body or null
+     * @return Recorded response or null if the request was never recorded
+     */
+    public RecordedResponse lookup(String method, String url, String postData) {
+        return responses.get(requestKey(method, url, postData));
+    }
+
+    /**
+     * Gets the number of distinct requests in the archive
+     *
+     * @return Number of recorded responses
+     */
+    public int size() {
+        return responses.size();
+    }
+
+    /**
+     * Builds the replay key of a request from its method, normalized URL and body hash
+     *
+     * @param method   HTTP method
+     * @param url      Request URL
+     * @param postData Request body or null
+     * @return Request key
+     */
+    String requestKey(String method, String url, String postData) {
+        return method.toUpperCase() + " " + normalizeUrl(url, ignoredParams) + " " + sha256(postData);
+    }
+
+    /**
+     * Normalizes a URL so that equivalent requests share a key: scheme and host are
+     * lower-cased, default ports and fragments are dropped and query parameters are sorted.
+     *
+     * @param url           URL to normalize
+     * @param ignoredParams Query parameters to leave out
+     * @return Normalized URL
+     */
+    static String normalizeUrl(String url, Set<String> ignoredParams) {
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            return url;
+        }
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            return url;
+        }
+
+        String scheme = uri.getScheme().toLowerCase();
+        int port = uri.getPort();
+        boolean defaultPort = port == -1 || ("http".equals(scheme) && port == 80) || ("https".equals(scheme) && port == 443);
+
+        StringBuilder normalized = new StringBuilder(scheme).append("://").append(uri.getHost().toLowerCase());
+        if (!defaultPort) {
+            normalized.append(':').append(port);
+        }
+        normalized.append(uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath());
+
+        if (uri.getRawQuery() != null) {
+            List<String> params = new ArrayList<>();
+            for (String param : uri.getRawQuery().split("&")) {
+                String name = param.split("=", 2)[0];
+                if (!param.isEmpty() && !ignoredParams.contains(name)) {
+                    params.add(param);
+                }
+            }
+            Collections.sort(params);
+            if (!params.isEmpty()) {
+                normalized.append('?').append(String.join("&", params));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Writes recorded exchanges to a HAR file and its body sidecar, replacing existing files
+     *
+     * @param harFile Path of the HAR file to write
+     * @param entries Recorded exchanges in request order
+     */
+    public static void write(Path harFile, List<Entry> entries) {
+        List<Map<String, Object>> harEntries = new ArrayList<>();
+        try {
+            Files.createDirectories(harFile.toAbsolutePath().getParent());
+            try (OutputStream bodies = Files.newOutputStream(Paths.get(harFile + BODIES_SUFFIX))) {
+                long offset = 0;
+                for (Entry entry : entries) {
+                    bodies.write(entry.responseBody);
+                    harEntries.add(toHar(entry, offset));
+                    offset += entry.responseBody.length;
+                }
+            }
+
+            Map<String, Object> creator = new LinkedHashMap<>();
+            creator.put("name", "aliexpress-automation");
+            creator.put("version", "1.0");
+            Map<String, Object> log = new LinkedHashMap<>();
+            log.put("version", "1.2");
+            log.put("creator", creator);
+            log.put("entries", harEntries);
+
+            try (Writer writer = Files.newBufferedWriter(harFile, StandardCharsets.UTF_8)) {
+                writer.write(JSON.toJson(Collections.singletonMap("log", log)));
+            }
+            LOGGER.info("Recorded " + entries.size() + " requests to " + harFile);
+        } catch (IOException e) {
+            LOGGER.severe("Error writing HAR file " + harFile + ": " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> toHar(Entry entry, long bodyOffset) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("method", entry.method);
+        request.put("url", entry.url);
+        request.put("httpVersion", "HTTP/1.1");
+        request.put("cookies", Collections.emptyList());
+        request.put("headers", toNameValueList(entry.requestHeaders));
+        request.put("queryString", Collections.emptyList());
+        if (entry.postData != null) {
+            Map<String, Object> postData = new LinkedHashMap<>();
+            postData.put("mimeType", entry.requestHeaders.getOrDefault("Content-Type", ""));
+            postData.put("text", entry.postData);
+            request.put("postData", postData);
+        }
+        request.put("headersSize", -1);
+        request.put("bodySize", entry.postData == null ? 0 : entry.postData.length());
+
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("size", entry.responseBody.length);
+        content.put("mimeType", entry.mimeType);
+        content.put("_bodyOffset", bodyOffset);
+        content.put("_bodyLength", entry.responseBody.length);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", entry.status);
+        response.put("statusText", entry.statusText);
+        response.put("httpVersion", "HTTP/1.1");
+        response.put("cookies", Collections.emptyList());
+        response.put("headers", toNameValueList(entry.responseHeaders));
+        response.put("content", content);
+        response.put("redirectURL", entry.responseHeaders.getOrDefault("location", ""));
+        response.put("headersSize", -1);
+        response.put("bodySize", entry.responseBody.length);
+
+        Map<String, Object> timings = new LinkedHashMap<>();
+        timings.put("send", 0);
+        timings.put("wait", entry.timeMillis);
+        timings.put("receive", 0);
+
+        Map<String, Object> harEntry = new LinkedHashMap<>();
+        harEntry.put("startedDateTime", Instant.ofEpochMilli(entry.startedMillis).toString());
+        harEntry.put("time", entry.timeMillis);
+        harEntry.put("request", request);
+        harEntry.put("response", response);
+        harEntry.put("cache", Collections.emptyMap());
+        harEntry.put("timings", timings);
+        return harEntry;
+    }
+
+    private static List<Map<String, Object>> toNameValueList(Map<String, String> headers) {
+        List<Map<String, Object>> list = new ArrayList<>();
+        headers.forEach((name, value) -> {
+            Map<String, Object> header = new LinkedHashMap<>();
+            header.put("name", name);
+            header.put("value", value);
+            list.add(header);
+        });
+        return list;
+    }
+
+    private static String sha256(String value) {
+        if (value == null || value.isEmpty()) {
+            return "-";
+        }
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * One recorded request and response pair
+     */
+    public static class Entry {
+        String method;
+        String url;
+        Map<String, String> requestHeaders = new LinkedHashMap<>();
+        String postData;
+        int status;
+        String statusText = "";
+        Map<String, String> responseHeaders = new LinkedHashMap<>();
+        String mimeType = "";
+        byte[] responseBody = new byte[0];
+        long startedMillis;
+        long timeMillis;
+    }
+
+    /**
+     * Response served during replay. The body is a read-only view of the mapped sidecar file.
+     */
+    public static class RecordedResponse {
+        private final int status;
+        private final String statusText;
+        private final Map<String, String> headers;
+        private final ByteBuffer body;
+
+        RecordedResponse(int status, String statusText, Map<String, String> headers, ByteBuffer body) {
+            this.status = status;
+            this.statusText = statusText;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getStatusText() {
+            return statusText;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        /**
+         * Copies the response body out of the mapped file
+         *
+         * @return Response body bytes
+         */
+        public byte[] getBody() {
+            ByteBuffer view = body.duplicate();
+            byte[] bytes = new byte[view.remaining()];
+            view.get(bytes);
+            return bytes;
+        }
+    }
+}
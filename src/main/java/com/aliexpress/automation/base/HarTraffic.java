@@ -0,0 +1,361 @@
+package com.aliexpress.automation.base;
+
+import com.aliexpress.automation.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Records browser traffic into HAR archives and replays it, selected by {@code har.mode}:
+ * <ul>
+ *     <li>{@code record} captures every exchange through the CDP Network domain into one
+ *     {@code <TestClass>.har} file per test class under {@code har.path}</li>
+ *     <li>{@code replay} answers every request from the recorded archives through CDP Fetch,
+ *     keyed by method, normalized URL and request body hash</li>
+ * </ul>
+ * Interception happens inside the browser rather than in an HTTP proxy, so HTTPS pages can be
+ * replayed without installing a man-in-the-middle certificate. Chromium browsers only.
+ */
+public class HarTraffic {
+    private static final Logger LOGGER = Logger.getLogger(HarTraffic.class.getName());
+    private static final Map<WebDriver, HarTraffic> SESSIONS = new ConcurrentHashMap<>();
+    private static final Map<String, List<HarArchive.Entry>> RECORDINGS = new ConcurrentHashMap<>();
+    private static final Set<String> HOP_BY_HOP_HEADERS = new HashSet<>(
+            Arrays.asList("content-encoding", "content-length", "transfer-encoding", "connection"));
+    private static HarArchive archive;
+
+    private final ConfigReader configReader;
+    private final boolean replay;
+    private final Map<String, HarArchive.Entry> pendingEntries = new ConcurrentHashMap<>();
+    private final AtomicInteger replayedRequests = new AtomicInteger();
+    private final AtomicInteger missedRequests = new AtomicInteger();
+    private volatile String recordingName = "Suite";
+    private DevTools devTools;
+
+    private HarTraffic(ConfigReader configReader, boolean replay) {
+        this.configReader = configReader;
+        this.replay = replay;
+    }
+
+    /**
+     * Checks if HAR recording or replay is switched on
+     *
+     * @param configReader Configuration to read the HAR mode from
+     * @return true if har.mode is record or replay
+     */
+    public static boolean isEnabled(ConfigReader configReader) {
+        String mode = configReader.getProperty("har.mode", "off").toLowerCase();
+        return "record".equals(mode) || "replay".equals(mode);
+    }
+
+    /**
+     * Starts recording or replaying traffic in the current window of a session.
+     * Must be called again whenever the session switches to a new browser context.
+     *
+     * @param driver       WebDriver whose traffic should be recorded or replayed
+     * @param configReader Configuration to read the HAR settings from
+     */
+    public static void attach(WebDriver driver, ConfigReader configReader) {
+        if (!isEnabled(configReader)) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            LOGGER.warning("HAR recording and replay require a Chromium browser, skipping");
+            return;
+        }
+
+        boolean replay = "replay".equalsIgnoreCase(configReader.getProperty("har.mode"));
+        HarTraffic traffic = SESSIONS.computeIfAbsent(driver, key -> new HarTraffic(configReader, replay));
+        try {
+            traffic.enable(driver);
+        } catch (WebDriverException e) {
+            LOGGER.warning("Could not enable HAR " + (replay ? "replay" : "recording") + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Routes the traffic of a session to the archive of the test class that is about to use it
+     *
+     * @param driver    WebDriver instance
+     * @param testClass Simple name of the test class
+     */
+    public static void beginTest(WebDriver driver, String testClass) {
+        HarTraffic traffic = driver == null ? null : SESSIONS.get(driver);
+        if (traffic != null) {
+            traffic.recordingName = testClass;
+        }
+    }
+
+    /**
+     * Stops recording or replaying for a session that is about to quit
+     *
+     * @param driver WebDriver instance
+     */
+    public static void detach(WebDriver driver) {
+        HarTraffic traffic = SESSIONS.remove(driver);
+        if (traffic != null && traffic.devTools != null) {
+            traffic.devTools.clearListeners();
+            if (traffic.replay) {
+                LOGGER.info("HAR replay served " + traffic.replayedRequests.get() + " requests, "
+                        + traffic.missedRequests.get() + " were not in the archive");
+            }
+        }
+    }
+
+    /**
+     * Writes everything recorded so far for a test class to its HAR file
+     *
+     * @param configReader Configuration to read the HAR directory from
+     * @param testClass    Simple name of the test class
+     */
+    public static void flush(ConfigReader configReader, String testClass) {
+        List<HarArchive.Entry> entries = RECORDINGS.get(testClass);
+        if (entries == null) {
+            return;
+        }
+
+        List<HarArchive.Entry> snapshot;
+        synchronized (entries) {
+            snapshot = new ArrayList<>(entries);
+        }
+        HarArchive.write(getHarDirectory(configReader).resolve(testClass + ".har"), snapshot);
+    }
+
+    /**
+     * Writes the recordings of every test class to their HAR files
+     *
+     * @param configReader Configuration to read the HAR directory from
+     */
+    public static void flushAll(ConfigReader configReader) {
+        for (String testClass : RECORDINGS.keySet()) {
+            flush(configReader, testClass);
+        }
+    }
+
+    private static synchronized HarArchive getArchive(ConfigReader configReader) {
+        if (archive == null) {
+            Set<String> ignoredParams = Arrays.stream(configReader.getProperty("har.replay.ignore.params", "").split(","))
+                    .map(String::trim)
+                    .filter(param -> !param.isEmpty())
+                    .collect(Collectors.toSet());
+            archive = HarArchive.load(getHarDirectory(configReader), ignoredParams);
+        }
+        return archive;
+    }
+
+    private static Path getHarDirectory(ConfigReader configReader) {
+        return Paths.get(configReader.getProperty("har.path", "src/test/resources/har/"));
+    }
+
+    private synchronized void enable(WebDriver driver) {
+        if (devTools == null) {
+            devTools = ((HasDevTools) driver).getDevTools();
+        } else {
+            devTools.clearListeners();
+        }
+        devTools.createSession(driver.getWindowHandle());
+
+        if (replay) {
+            enableReplay();
+        } else {
+            enableRecording();
+        }
+    }
+
+    private void enableRecording() {
+        pendingEntries.clear();
+        devTools.addListener(cdpEvent("Network.requestWillBeSent"), this::onRequestWillBeSent);
+        devTools.addListener(cdpEvent("Network.responseReceived"), this::onResponseReceived);
+        devTools.addListener(cdpEvent("Network.loadingFinished"), this::onLoadingFinished);
+        devTools.addListener(cdpEvent("Network.loadingFailed"),
+                failed -> pendingEntries.remove(String.valueOf(failed.get("requestId"))));
+        devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+        LOGGER.info("Recording browser traffic to " + getHarDirectory(configReader));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onRequestWillBeSent(Map<String, Object> event) {
+        String requestId = String.valueOf(event.get("requestId"));
+        Map<String, Object> request = (Map<String, Object>) event.get("request");
+        String url = String.valueOf(request.get("url"));
+
+        // A redirect reuses the request id, so the hop that led here is complete now
+        HarArchive.Entry redirected = pendingEntries.remove(requestId);
+        if (redirected != null && event.get("redirectResponse") != null) {
+            applyResponse(redirected, (Map<String, Object>) event.get("redirectResponse"));
+            complete(redirected);
+        }
+        if (url.startsWith("data:") || url.startsWith("blob:")) {
+            return;
+        }
+
+        HarArchive.Entry entry = new HarArchive.Entry();
+        entry.method = String.valueOf(request.get("method"));
+        entry.url = url;
+        entry.requestHeaders = toStringMap((Map<String, Object>) request.get("headers"));
+        entry.postData = (String) request.get("postData");
+        if (entry.postData == null && Boolean.TRUE.equals(request.get("hasPostData"))) {
+            entry.postData = readPostData(requestId);
+        }
+        entry.startedMillis = event.get("wallTime") instanceof Number
+                ? (long) (((Number) event.get("wallTime")).doubleValue() * 1000)
+                : System.currentTimeMillis();
+        pendingEntries.put(requestId, entry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onResponseReceived(Map<String, Object> event) {
+        HarArchive.Entry entry = pendingEntries.get(String.valueOf(event.get("requestId")));
+        if (entry != null) {
+            applyResponse(entry, (Map<String, Object>) event.get("response"));
+        }
+    }
+
+    private void onLoadingFinished(Map<String, Object> event) {
+        String requestId = String.valueOf(event.get("requestId"));
+        HarArchive.Entry entry = pendingEntries.remove(requestId);
+        if (entry == null) {
+            return;
+        }
+
+        try {
+            Map<String, Object> params = new HashMap<>();
+            params.put("requestId", requestId);
+            Map<String, Object> body = devTools.send(new Command<Map<String, Object>>("Network.getResponseBody", params,
+                    input -> input.read(Json.MAP_TYPE)));
+            String text = String.valueOf(body.get("body"));
+            entry.responseBody = Boolean.TRUE.equals(body.get("base64Encoded"))
+                    ? Base64.getDecoder().decode(text)
+                    : text.getBytes(StandardCharsets.UTF_8);
+        } catch (WebDriverException e) {
+            // Bodies of redirects, preflights and evicted resources are not available
+            LOGGER.fine("Could not read response body of " + entry.url + ": " + e.getMessage());
+        }
+        complete(entry);
+    }
+
+    private String readPostData(String requestId) {
+        try {
+            Map<String, Object> params = new HashMap<>();
+            params.put("requestId", requestId);
+            Map<String, Object> result = devTools.send(new Command<Map<String, Object>>("Network.getRequestPostData",
+                    params, input -> input.read(Json.MAP_TYPE)));
+            return (String) result.get("postData");
+        } catch (WebDriverException e) {
+            LOGGER.fine("Could not read request body: " + e.getMessage());
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyResponse(HarArchive.Entry entry, Map<String, Object> response) {
+        entry.status = ((Number) response.get("status")).intValue();
+        entry.statusText = String.valueOf(response.getOrDefault("statusText", ""));
+        entry.responseHeaders = toStringMap((Map<String, Object>) response.get("headers"));
+        entry.mimeType = String.valueOf(response.getOrDefault("mimeType", ""));
+    }
+
+    private void complete(HarArchive.Entry entry) {
+        if (entry.status == 0) {
+            return;
+        }
+        entry.timeMillis = Math.max(0, System.currentTimeMillis() - entry.startedMillis);
+        List<HarArchive.Entry> entries = RECORDINGS.computeIfAbsent(recordingName,
+                key -> Collections.synchronizedList(new ArrayList<>()));
+        entries.add(entry);
+    }
+
+    private void enableReplay() {
+        HarArchive harArchive = getArchive(configReader);
+        boolean networkFallback = "network".equalsIgnoreCase(configReader.getProperty("har.replay.fallback", "fail"));
+
+        devTools.addListener(cdpEvent("Fetch.requestPaused"), paused -> replay(harArchive, paused, networkFallback));
+
+        Map<String, Object> pattern = new HashMap<>();
+        pattern.put("urlPattern", "*");
+        pattern.put("requestStage", "Request");
+        Map<String, Object> params = new HashMap<>();
+        params.put("patterns", Collections.singletonList(pattern));
+        devTools.send(new Command<Void>("Fetch.enable", params));
+        LOGGER.info("Replaying browser traffic from " + harArchive.size() + " recorded responses");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void replay(HarArchive harArchive, Map<String, Object> paused, boolean networkFallback) {
+        Map<String, Object> request = (Map<String, Object>) paused.get("request");
+        HarArchive.RecordedResponse response = harArchive.lookup(String.valueOf(request.get("method")),
+                String.valueOf(request.get("url")), (String) request.get("postData"));
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("requestId", paused.get("requestId"));
+        String command;
+        if (response != null) {
+            List<Map<String, Object>> headers = new ArrayList<>();
+            response.getHeaders().forEach((name, value) -> {
+                // Recorded bodies are already decoded and may differ in length from the original
+                if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                    Map<String, Object> header = new LinkedHashMap<>();
+                    header.put("name", name);
+                    header.put("value", value);
+                    headers.add(header);
+                }
+            });
+            params.put("responseCode", response.getStatus());
+            params.put("responseHeaders", headers);
+            params.put("body", Base64.getEncoder().encodeToString(response.getBody()));
+            if (!response.getStatusText().isEmpty()) {
+                params.put("responsePhrase", response.getStatusText());
+            }
+            command = "Fetch.fulfillRequest";
+            replayedRequests.incrementAndGet();
+        } else if (networkFallback) {
+            command = "Fetch.continueRequest";
+            missedRequests.incrementAndGet();
+        } else {
+            params.put("errorReason", "InternetDisconnected");
+            command = "Fetch.failRequest";
+            missedRequests.incrementAndGet();
+            LOGGER.fine("No recorded response for " + request.get("method") + " " + request.get("url"));
+        }
+
+        try {
+            devTools.send(new Command<Void>(command, params));
+        } catch (WebDriverException e) {
+            LOGGER.fine("Could not replay request: " + e.getMessage());
+        }
+    }
+
+    private static Event<Map<String, Object>> cdpEvent(String name) {
+        return new Event<>(name, input -> input.<Map<String, Object>>read(Json.MAP_TYPE));
+    }
+
+    private static Map<String, String> toStringMap(Map<String, Object> map) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (map != null) {
+            map.forEach((key, value) -> result.put(key, String.valueOf(value)));
+        }
+        return result;
+    }
+}
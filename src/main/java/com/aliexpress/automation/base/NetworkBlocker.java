@@ -0,0 +1,203 @@
+package com.aliexpress.automation.base;
+
+import com.aliexpress.automation.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Blocks page subresources that functional tests do not need (trackers, ads, fonts, images)
+ * using the CDP Fetch domain. Rules are declared in config.properties:
+ * {@code network.block.url.patterns} takes comma separated URL wildcards and
+ * {@code network.block.resource.types} takes CDP resource types such as Image or Font.
+ */
+public class NetworkBlocker {
+    private static final Logger LOGGER = Logger.getLogger(NetworkBlocker.class.getName());
+    private static final Map<WebDriver, NetworkBlocker> BLOCKERS = new ConcurrentHashMap<>();
+
+    private final List<String> urlPatterns;
+    private final List<String> resourceTypes;
+    private final AtomicInteger blockedRequests = new AtomicInteger();
+    private final Map<String, AtomicInteger> blockedByType = new ConcurrentHashMap<>();
+    private DevTools devTools;
+
+    private NetworkBlocker(List<String> urlPatterns, List<String> resourceTypes) {
+        this.urlPatterns = urlPatterns;
+        this.resourceTypes = resourceTypes;
+    }
+
+    /**
+     * Applies the configured block list to the current window of a session.
+     * Must be called again whenever the session switches to a new browser context.
+     *
+     * @param driver       WebDriver whose current window should block requests
+     * @param configReader Configuration to read the block list from
+     */
+    public static void attach(WebDriver driver, ConfigReader configReader) {
+        if (!Boolean.parseBoolean(configReader.getProperty("network.block.enabled", "false"))) {
+            return;
+        }
+        if (HarTraffic.isEnabled(configReader)) {
+            // HAR replay answers every request itself and recordings should capture the full page
+            LOGGER.fine("Network blocking is disabled while HAR recording or replay is active");
+            return;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            LOGGER.warning("Network blocking requires a Chromium browser, skipping");
+            return;
+        }
+
+        NetworkBlocker blocker = BLOCKERS.computeIfAbsent(driver, key -> new NetworkBlocker(
+                splitList(configReader.getProperty("network.block.url.patterns", "")),
+                splitList(configReader.getProperty("network.block.resource.types", ""))));
+        try {
+            blocker.enable(driver);
+        } catch (WebDriverException e) {
+            LOGGER.warning("Could not enable network blocking: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the blocker attached to a session
+     *
+     * @param driver WebDriver instance
+     * @return NetworkBlocker or null if blocking is not active for the session
+     */
+    public static NetworkBlocker forDriver(WebDriver driver) {
+        return driver == null ? null : BLOCKERS.get(driver);
+    }
+
+    /**
+     * Forgets the blocker of a session that is about to quit
+     *
+     * @param driver WebDriver instance
+     */
+    public static void detach(WebDriver driver) {
+        NetworkBlocker blocker = BLOCKERS.remove(driver);
+        if (blocker != null && blocker.devTools != null) {
+            blocker.devTools.clearListeners();
+        }
+    }
+
+    private synchronized void enable(WebDriver driver) {
+        if (urlPatterns.isEmpty() && resourceTypes.isEmpty()) {
+            return;
+        }
+
+        if (devTools == null) {
+            devTools = ((HasDevTools) driver).getDevTools();
+        } else {
+            devTools.clearListeners();
+        }
+        devTools.createSession(driver.getWindowHandle());
+
+        // Every paused request matched a block rule, so it is failed without reaching the network
+        devTools.addListener(new Event<>("Fetch.requestPaused", input -> input.<Map<String, Object>>read(Json.MAP_TYPE)),
+                paused -> {
+                    String resourceType = String.valueOf(paused.get("resourceType"));
+                    blockedRequests.incrementAndGet();
+                    blockedByType.computeIfAbsent(resourceType, key -> new AtomicInteger()).incrementAndGet();
+
+                    Map<String, Object> params = new HashMap<>();
+                    params.put("requestId", paused.get("requestId"));
+                    params.put("errorReason", "BlockedByClient");
+                    try {
+                        devTools.send(new Command<Void>("Fetch.failRequest", params));
+                    } catch (WebDriverException e) {
+                        LOGGER.fine("Could not block request: " + e.getMessage());
+                    }
+                });
+
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (String urlPattern : urlPatterns) {
+            Map<String, Object> pattern = new HashMap<>();
+            pattern.put("urlPattern", urlPattern);
+            pattern.put("requestStage", "Request");
+            patterns.add(pattern);
+        }
+        for (String resourceType : resourceTypes) {
+            Map<String, Object> pattern = new HashMap<>();
+            pattern.put("urlPattern", "*");
+            pattern.put("resourceType", resourceType);
+            pattern.put("requestStage", "Request");
+            patterns.add(pattern);
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("patterns", patterns);
+        devTools.send(new Command<Void>("Fetch.enable", params));
+        LOGGER.info("Enabled network blocking for " + urlPatterns.size() + " URL patterns and resource types "
+                + resourceTypes);
+    }
+
+    /**
+     * Resets the blocked request counters once a test has reported them
+     */
+    public void resetStatistics() {
+        blockedRequests.set(0);
+        blockedByType.clear();
+    }
+
+    /**
+     * Gets the number of requests blocked since the last reset
+     *
+     * @return Blocked request count
+     */
+    public int getBlockedRequests() {
+        return blockedRequests.get();
+    }
+
+    /**
+     * Summarizes blocked requests since the last reset together with the bytes the current
+     * page did transfer and its load time. Blocked requests never reach the network, so the
+     * bytes saved are the difference to the same page loaded with blocking disabled.
+     *
+     * @param driver WebDriver whose current page should be measured
+     * @return Human readable statistics
+     */
+    public String getStatistics(WebDriver driver) {
+        Map<String, Integer> byType = new TreeMap<>();
+        blockedByType.forEach((type, count) -> byType.put(type, count.get()));
+
+        long transferredBytes = -1;
+        long loadTimeMillis = -1;
+        try {
+            @SuppressWarnings("unchecked")
+            List<Number> timing = (List<Number>) ((JavascriptExecutor) driver).executeScript(
+                    "var navigation = performance.getEntriesByType('navigation')[0];"
+                            + "var bytes = performance.getEntriesByType('resource')"
+                            + ".reduce(function (total, entry) { return total + (entry.transferSize || 0); }, 0);"
+                            + "return [bytes, navigation ? navigation.duration : -1];");
+            transferredBytes = timing.get(0).longValue();
+            loadTimeMillis = timing.get(1).longValue();
+        } catch (WebDriverException | ClassCastException e) {
+            LOGGER.fine("Could not read resource timing: " + e.getMessage());
+        }
+
+        return String.format("Blocked requests: %d %s, Transferred bytes on current page: %d, Page load time: %d ms",
+                blockedRequests.get(), byType, transferredBytes, loadTimeMillis);
+    }
+
+    private static List<String> splitList(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,47 @@
+package com.aliexpress.automation.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the CSV or Excel file that feeds a test method through {@link TestDataProviders}.
+ * <pre>
+ * &#64;Test(dataProvider = "testData", dataProviderClass = TestDataProviders.class)
+ * &#64;TestData(file = "searchData.csv", columns = {"SearchTerm", "MinResults"}, where = "Category=Audio")
+ * public void testSearch(String searchTerm, int minResults) { ... }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface TestData {
+
+    /**
+     * @return Path of a test data file (.csv, .xlsx, .json, .ndjson), absolute, relative to the working directory
+     * or relative to {@code test.data.path}
+     */
+    String file();
+
+    /**
+     * @return Sheet to read from an Excel file
+     */
+    String sheet() default "Sheet1";
+
+    /**
+     * @return Columns passed as test parameters, in order. Empty passes every column,
+     * unless the method takes a single Map parameter, which receives the whole row.
+     */
+    String[] columns() default {};
+
+    /**
+     * @return Row filters that must all match: {@code column=value}, {@code column!=value}
+     * or {@code column~regex}
+     */
+    String[] where() default {};
+
+    /**
+     * @return Maximum number of rows to run, 0 for all
+     */
+    int limit() default 0;
+}
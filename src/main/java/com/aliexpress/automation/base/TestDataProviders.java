@@ -0,0 +1,219 @@
+package com.aliexpress.automation.base;
+
+import com.aliexpress.automation.data.TestDataSources;
+import com.aliexpress.automation.utils.ConfigReader;
+import org.testng.ITestContext;
+import org.testng.annotations.DataProvider;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * TestNG data providers that feed test methods from the test data file named by their
+ * {@link TestData} annotation, in any format {@link TestDataSources} reads. Rows are read, filtered and converted one at a time as
+ * TestNG asks for them, so the file is never loaded as a whole.
+ * Column values are converted to the types of the test method parameters (String, int,
+ * long, double, boolean, BigDecimal or their wrappers).
+ */
+public class TestDataProviders {
+    private static final Logger LOGGER = Logger.getLogger(TestDataProviders.class.getName());
+
+    private TestDataProviders() {
+    }
+
+    /**
+     * Runs the rows one after another
+     *
+     * @param method Test method annotated with {@link TestData}
+     * @return Test parameters, one array per row
+     */
+    @DataProvider(name = "testData")
+    public static Iterator<Object[]> testData(Method method) {
+        return parametersFor(method);
+    }
+
+    /**
+     * Runs the rows in parallel on the suite's {@code data-provider-thread-count} threads.
+     * Each row leases its browser from the {@link DriverPool}, whose sessions act as the
+     * gate: rows beyond the free sessions wait for one instead of starting a browser.
+     * TestNG collects the parameters of all rows before it starts a parallel run.
+     *
+     * @param method  Test method annotated with {@link TestData}
+     * @param context Test context, used to report how many rows can run at once
+     * @return Test parameters, one array per row
+     */
+    @DataProvider(name = "testDataParallel", parallel = true)
+    public static Iterator<Object[]> testDataParallel(Method method, ITestContext context) {
+        logConcurrency(method, context);
+        return parametersFor(method);
+    }
+
+    /**
+     * Opens the rows of a test data file, for data providers that need their own conversion
+     *
+     * @param file   Path of a test data file, or name relative to {@code test.data.path}
+     * @param sheet  Sheet to read from a workbook
+     * @param filter Rows to keep
+     * @param limit  Maximum number of rows, 0 for all
+     * @return Rows keyed by column name; the file is closed when the iterator is exhausted
+     */
+    public static Iterator<Map<String, String>> rows(String file, String sheet,
+                                                     Predicate<Map<String, String>> filter, int limit) {
+        Stream<Map<String, String>> rows = TestDataSources.stream(file, sheet).filter(filter);
+        if (limit > 0) {
+            rows = rows.limit(limit);
+        }
+        return new ClosingIterator<>(rows);
+    }
+
+    /**
+     * Parses a row filter of the form {@code column=value}, {@code column!=value} or {@code column~regex}
+     *
+     * @param expression Filter expression
+     * @return Predicate over rows keyed by column name
+     */
+    public static Predicate<Map<String, String>> where(String expression) {
+        // The first operator splits the expression, so values may contain operator characters
+        int equals = expression.indexOf('=');
+        int tilde = expression.indexOf('~');
+        if (tilde > 0 && (equals < 0 || tilde < equals)) {
+            String column = expression.substring(0, tilde).trim();
+            Pattern pattern = Pattern.compile(expression.substring(tilde + 1).trim());
+            return row -> pattern.matcher(row.getOrDefault(column, "")).matches();
+        }
+        if (equals > 1 && expression.charAt(equals - 1) == '!') {
+            String column = expression.substring(0, equals - 1).trim();
+            String value = expression.substring(equals + 1).trim();
+            return row -> !value.equals(row.getOrDefault(column, ""));
+        }
+        if (equals > 0 && expression.charAt(0) != '!') {
+            String column = expression.substring(0, equals).trim();
+            String value = expression.substring(equals + 1).trim();
+            return row -> value.equals(row.getOrDefault(column, ""));
+        }
+        throw new IllegalArgumentException("Invalid row filter: " + expression);
+    }
+
+    private static Iterator<Object[]> parametersFor(Method method) {
+        TestData testData = method.getAnnotation(TestData.class);
+        if (testData == null) {
+            throw new IllegalArgumentException("Test method " + method.getName() + " has no @TestData annotation");
+        }
+
+        Predicate<Map<String, String>> filter = row -> true;
+        for (String expression : testData.where()) {
+            filter = filter.and(where(expression));
+        }
+        Iterator<Map<String, String>> rows = rows(testData.file(), testData.sheet(), filter, testData.limit());
+        Class<?>[] types = method.getParameterTypes();
+        String[] columns = testData.columns();
+        LOGGER.info("Feeding " + method.getName() + " from " + testData.file());
+
+        return new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return toParameters(rows.next(), columns, types);
+            }
+        };
+    }
+
+    private static Object[] toParameters(Map<String, String> row, String[] columns, Class<?>[] types) {
+        if (types.length == 1 && types[0] == Map.class) {
+            return new Object[]{row};
+        }
+
+        Object[] values = columns.length == 0 ? row.values().toArray() : new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            if (!row.containsKey(columns[i])) {
+                throw new IllegalArgumentException("Column '" + columns[i] + "' not found in test data");
+            }
+            values[i] = row.get(columns[i]);
+        }
+        for (int i = 0; i < values.length && i < types.length; i++) {
+            values[i] = convert((String) values[i], types[i]);
+        }
+        return values;
+    }
+
+    private static Object convert(String value, Class<?> type) {
+        if (type == String.class || type == Object.class) {
+            return value;
+        }
+        String trimmed = value.trim();
+        if (type == int.class || type == Integer.class) {
+            return Integer.parseInt(trimmed);
+        }
+        if (type == long.class || type == Long.class) {
+            return Long.parseLong(trimmed);
+        }
+        if (type == double.class || type == Double.class) {
+            return Double.parseDouble(trimmed);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return Boolean.parseBoolean(trimmed);
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal(trimmed);
+        }
+        throw new IllegalArgumentException("Unsupported test data parameter type: " + type.getName());
+    }
+
+    private static void logConcurrency(Method method, ITestContext context) {
+        if (!Boolean.parseBoolean(new ConfigReader().getProperty("driver.pool.enabled", "true"))) {
+            return;
+        }
+        int threads = context.getSuite().getXmlSuite().getDataProviderThreadCount();
+        int freeSessions = DriverPool.getInstance().getAvailableSessions();
+        if (threads > freeSessions) {
+            LOGGER.info(method.getName() + " runs on " + threads + " threads, rows beyond the "
+                    + freeSessions + " free browser sessions wait for a session");
+        }
+    }
+
+    /**
+     * Iterates over a stream and closes it once the last element has been read
+     */
+    private static final class ClosingIterator<T> implements Iterator<T> {
+        private final Stream<T> stream;
+        private final Iterator<T> iterator;
+        private boolean closed;
+
+        ClosingIterator(Stream<T> stream) {
+            this.stream = stream;
+            this.iterator = stream.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            if (iterator.hasNext()) {
+                return true;
+            }
+            closed = true;
+            stream.close();
+            return false;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return iterator.next();
+        }
+    }
+}
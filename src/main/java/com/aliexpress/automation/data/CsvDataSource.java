@@ -0,0 +1,23 @@
+package com.aliexpress.automation.data;
+
+import com.aliexpress.automation.utils.CSVReader;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Reads comma separated files with a header row through {@link CSVReader}
+ */
+public class CsvDataSource implements TestDataSource {
+
+    @Override
+    public boolean supports(Path file) {
+        return file.getFileName().toString().toLowerCase().endsWith(".csv");
+    }
+
+    @Override
+    public Stream<Map<String, String>> stream(Path file, String table) {
+        return new CSVReader(file.toString()).streamAsMap();
+    }
+}
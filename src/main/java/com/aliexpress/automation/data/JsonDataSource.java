@@ -0,0 +1,105 @@
+package com.aliexpress.automation.data;
+
+import com.aliexpress.automation.utils.DataRow;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import org.openqa.selenium.json.JsonOutput;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads JSON test data: a .json file holding an array of objects, or a .ndjson/.jsonl file
+ * with one object per line. Both are read one object at a time. Values are passed on as
+ * strings; nested objects and arrays as their JSON text.
+ */
+public class JsonDataSource implements TestDataSource {
+    private static final Json JSON = new Json();
+
+    @Override
+    public boolean supports(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        return name.endsWith(".json") || name.endsWith(".ndjson") || name.endsWith(".jsonl");
+    }
+
+    @Override
+    public Stream<Map<String, String>> stream(Path file, String table) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        RowConverter toRow = new RowConverter();
+        if (!file.getFileName().toString().toLowerCase().endsWith(".json")) {
+            return reader.lines()
+                    .filter(line -> !line.trim().isEmpty())
+                    .map(line -> toRow.apply(JSON.toType(line, Json.MAP_TYPE)))
+                    .onClose(() -> closeQuietly(reader));
+        }
+
+        JsonInput input = JSON.newInput(reader);
+        input.beginArray();
+        Iterator<Map<String, String>> rows = new Iterator<Map<String, String>>() {
+            @Override
+            public boolean hasNext() {
+                return input.hasNext();
+            }
+
+            @Override
+            public Map<String, String> next() {
+                return toRow.apply(input.read(Json.MAP_TYPE));
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(input::close);
+    }
+
+    private static String toText(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Map || value instanceof Iterable) {
+            StringBuilder text = new StringBuilder();
+            try (JsonOutput output = JSON.newOutput(text)) {
+                output.setPrettyPrint(false).write(value);
+            }
+            return text.toString();
+        }
+        return String.valueOf(value);
+    }
+
+    private static void closeQuietly(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // Nothing left to read
+        }
+    }
+
+    /**
+     * Turns objects into rows, sharing one header index among consecutive objects with the same keys
+     */
+    private static final class RowConverter {
+        private final DataRow.ValuePool pool = new DataRow.ValuePool(DataRow.ValuePool.STREAM_POOL_SIZE);
+        private DataRow.Columns columns;
+
+        Map<String, String> apply(Map<String, Object> object) {
+            String[] names = object.keySet().toArray(new String[0]);
+            if (columns == null || !columns.getNames().equals(Arrays.asList(names))) {
+                columns = new DataRow.Columns(names);
+            }
+            String[] values = new String[names.length];
+            for (int i = 0; i < names.length; i++) {
+                values[i] = toText(object.get(names[i]));
+            }
+            return columns.row(values, null, pool);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.aliexpress.automation.data;
+
+import com.aliexpress.automation.utils.DataRow;
+import com.aliexpress.automation.utils.TestDataSnapshot;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Reads binary snapshots compiled by the build: .tds files named directly, and CSV or
+ * .xlsx files that have an up-to-date snapshot, which it takes over from the text sources.
+ */
+public class SnapshotDataSource implements TestDataSource {
+
+    @Override
+    public boolean supports(Path file) {
+        return file.getFileName().toString().endsWith(TestDataSnapshot.EXTENSION)
+                || TestDataSnapshot.find(file.toString()) != null;
+    }
+
+    @Override
+    public int getPriority() {
+        return 100;
+    }
+
+    @Override
+    public Stream<Map<String, String>> stream(Path file, String table) throws IOException {
+        TestDataSnapshot snapshot = file.getFileName().toString().endsWith(TestDataSnapshot.EXTENSION)
+                ? TestDataSnapshot.open(file)
+                : TestDataSnapshot.find(file.toString());
+        if (snapshot == null) {
+            throw new IOException("No up-to-date snapshot of " + file);
+        }
+        // CSV snapshots hold a single unnamed table
+        List<String> tableNames = snapshot.getTableNames();
+        String tableName = table == null || tableNames.equals(Collections.singletonList("")) ? tableNames.get(0) : table;
+        TestDataSnapshot.Table snapshotTable = snapshot.getTable(tableName);
+        if (snapshotTable == null) {
+            throw new IllegalArgumentException("Table '" + table + "' not found in snapshot of " + file);
+        }
+        if (snapshotTable.getRecordCount() == 0) {
+            return Stream.empty();
+        }
+
+        DataRow.Columns columns = new DataRow.Columns(snapshotTable.getRecord(0));
+        return IntStream.range(1, snapshotTable.getRecordCount())
+                .mapToObj(i -> columns.row(snapshotTable.getRecord(i), null, null));
+    }
+}
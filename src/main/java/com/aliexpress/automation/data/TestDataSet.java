@@ -0,0 +1,82 @@
+package com.aliexpress.automation.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows of one file or sheet loaded by {@link TestDataSources}. Instances are shared by all
+ * tests through the cache and cannot be modified.
+ */
+public final class TestDataSet {
+    private final List<String> columns;
+    private final List<Map<String, String>> rows;
+
+    TestDataSet(List<Map<String, String>> rows) {
+        // Rows come straight from a source stream, so they are wrapped rather than copied
+        // to keep the compact DataRow representation
+        List<Map<String, String>> readOnly = new ArrayList<>(rows.size());
+        for (Map<String, String> row : rows) {
+            readOnly.add(Collections.unmodifiableMap(row));
+        }
+        this.rows = Collections.unmodifiableList(readOnly);
+        this.columns = rows.isEmpty()
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(rows.get(0).keySet()));
+    }
+
+    /**
+     * Gets the column names in file order
+     *
+     * @return Column names, empty if the data has no rows
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the number of data rows
+     *
+     * @return Row count, excluding the header
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * Gets one data row
+     *
+     * @param index Row index (0-based, excluding the header)
+     * @return Row keyed by column name
+     */
+    public Map<String, String> getRow(int index) {
+        return rows.get(index);
+    }
+
+    /**
+     * Gets all data rows
+     *
+     * @return Rows keyed by column name
+     */
+    public List<Map<String, String>> getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the values of one column
+     *
+     * @param columnName Column name
+     * @return Values in row order
+     */
+    public List<String> getColumn(String columnName) {
+        if (!columns.contains(columnName)) {
+            throw new IllegalArgumentException("Column '" + columnName + "' not found in test data");
+        }
+        List<String> values = new ArrayList<>(rows.size());
+        for (Map<String, String> row : rows) {
+            values.add(row.getOrDefault(columnName, ""));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,43 @@
+package com.aliexpress.automation.data;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Reader for one kind of test data file. Implementations are discovered with
+ * {@link java.util.ServiceLoader} from META-INF/services/com.aliexpress.automation.data.TestDataSource,
+ * so projects can add formats without changing the framework; {@link TestDataSources}
+ * picks the supporting source with the highest priority for each file.
+ */
+public interface TestDataSource {
+
+    /**
+     * Checks if this source can read a file
+     *
+     * @param file Test data file
+     * @return true if the file is in a format this source reads
+     */
+    boolean supports(Path file);
+
+    /**
+     * Gets the priority of this source over other sources that support the same file
+     *
+     * @return Priority, higher wins; built-in text formats use 0
+     */
+    default int getPriority() {
+        return 0;
+    }
+
+    /**
+     * Streams the rows of a file as maps keyed by column name, in column order.
+     * The stream holds the file open and must be closed.
+     *
+     * @param file  Test data file
+     * @param table Sheet or table to read, or null for the first one
+     * @return Lazily read rows
+     * @throws IOException if the file cannot be opened
+     */
+    Stream<Map<String, String>> stream(Path file, String table) throws IOException;
+}
@@ -0,0 +1,211 @@
+package com.aliexpress.automation.data;
+
+import com.aliexpress.automation.utils.ConfigReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Entry point for reading test data in any supported format. Files are read by the
+ * {@link TestDataSource} registered for them, and {@link #load(String, String)} keeps the
+ * rows of each file and sheet in a process-wide cache, so test classes and threads that use
+ * the same data share one load. An entry is reloaded when its file changes on disk, and
+ * concurrent loads of the same entry wait for the first one.
+ */
+public final class TestDataSources {
+    private static final Logger LOGGER = Logger.getLogger(TestDataSources.class.getName());
+    private static final List<TestDataSource> SOURCES = loadSources();
+    private static final ConcurrentMap<String, Entry> CACHE = new ConcurrentHashMap<>();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong LOAD_NANOS = new AtomicLong();
+
+    private TestDataSources() {
+    }
+
+    /**
+     * Finds the source for a file
+     *
+     * @param file Test data file
+     * @return Supporting source with the highest priority
+     * @throws IllegalArgumentException if no source supports the file
+     */
+    public static TestDataSource forFile(Path file) {
+        for (TestDataSource source : SOURCES) {
+            if (source.supports(file)) {
+                return source;
+            }
+        }
+        throw new IllegalArgumentException("No test data source supports " + file);
+    }
+
+    /**
+     * Resolves a file name against the test data directory when it does not exist as given
+     *
+     * @param file File path, or name relative to {@code test.data.path}
+     * @return Path to read
+     */
+    public static Path resolve(String file) {
+        Path path = Paths.get(file);
+        if (!Files.exists(path)) {
+            Path dataPath = Paths.get(new ConfigReader().getProperty("test.data.path", "src/test/resources/testdata/"), file);
+            if (Files.exists(dataPath)) {
+                return dataPath;
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Streams rows without caching them, for files too large to hold in memory.
+     * The stream holds the file open and must be closed.
+     *
+     * @param file  File path, or name relative to {@code test.data.path}
+     * @param table Sheet or table to read, or null for the first one
+     * @return Lazily read rows keyed by column name
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    public static Stream<Map<String, String>> stream(String file, String table) {
+        Path path = resolve(file);
+        try {
+            return forFile(path).stream(path, table);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening test data " + path, e);
+        }
+    }
+
+    /**
+     * Loads the first sheet or table of a file through the cache
+     *
+     * @param file File path, or name relative to {@code test.data.path}
+     * @return Shared rows of the file
+     */
+    public static TestDataSet load(String file) {
+        return load(file, null);
+    }
+
+    /**
+     * Loads a sheet or table of a file through the cache
+     *
+     * @param file  File path, or name relative to {@code test.data.path}
+     * @param table Sheet or table to read, or null for the first one
+     * @return Shared rows of the sheet
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public static TestDataSet load(String file, String table) {
+        Path path = resolve(file).toAbsolutePath().normalize();
+        String key = path + "#" + (table == null ? "" : table);
+        long size;
+        long lastModified;
+        try {
+            size = Files.size(path);
+            lastModified = Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading test data " + path, e);
+        }
+
+        Entry created = null;
+        Entry entry = CACHE.get(key);
+        while (entry == null || !entry.matches(size, lastModified)) {
+            created = new Entry(size, lastModified);
+            if (entry == null ? CACHE.putIfAbsent(key, created) == null : CACHE.replace(key, entry, created)) {
+                entry = created;
+                break;
+            }
+            created = null;
+            entry = CACHE.get(key);
+        }
+
+        if (entry != created) {
+            HITS.incrementAndGet();
+        } else {
+            MISSES.incrementAndGet();
+            long start = System.nanoTime();
+            try (Stream<Map<String, String>> rows = forFile(path).stream(path, table)) {
+                created.rows.complete(new TestDataSet(rows.collect(Collectors.toList())));
+            } catch (IOException | RuntimeException e) {
+                CACHE.remove(key, created);
+                created.rows.completeExceptionally(e);
+            } finally {
+                LOAD_NANOS.addAndGet(System.nanoTime() - start);
+            }
+        }
+
+        try {
+            return entry.rows.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException("Error reading test data " + path, (IOException) cause);
+            }
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+        }
+    }
+
+    /**
+     * Drops all cached data, so the next loads read the files again
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    /**
+     * Gets cache usage for logging
+     *
+     * @return Summary of hits, misses and time spent loading
+     */
+    public static String getStatistics() {
+        long hits = HITS.get();
+        long misses = MISSES.get();
+        long requests = hits + misses;
+        return String.format("Test data cache - %d entries, %d hits, %d misses (%.1f%% hit rate), %d ms loading",
+                CACHE.size(), hits, misses, requests == 0 ? 0.0 : hits * 100.0 / requests,
+                TimeUnit.NANOSECONDS.toMillis(LOAD_NANOS.get()));
+    }
+
+    private static List<TestDataSource> loadSources() {
+        List<TestDataSource> sources = new ArrayList<>();
+        for (TestDataSource source : ServiceLoader.load(TestDataSource.class)) {
+            sources.add(source);
+        }
+        sources.sort(Comparator.comparingInt(TestDataSource::getPriority).reversed());
+        LOGGER.info("Test data sources: " + sources.stream()
+                .map(source -> source.getClass().getSimpleName()).collect(Collectors.joining(", ")));
+        return sources;
+    }
+
+    /**
+     * Cached rows of one file and sheet, with the file state they were read from
+     */
+    private static final class Entry {
+        private final long size;
+        private final long lastModified;
+        private final CompletableFuture<TestDataSet> rows = new CompletableFuture<>();
+
+        Entry(long size, long lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        boolean matches(long size, long lastModified) {
+            return this.size == size && this.lastModified == lastModified;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.aliexpress.automation.data;
+
+import com.aliexpress.automation.utils.ExcelReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Reads .xlsx workbooks through {@link ExcelReader}, one sheet at a time
+ */
+public class XlsxDataSource implements TestDataSource {
+
+    @Override
+    public boolean supports(Path file) {
+        return file.getFileName().toString().toLowerCase().endsWith(".xlsx");
+    }
+
+    @Override
+    public Stream<Map<String, String>> stream(Path file, String table) throws IOException {
+        ExcelReader excelReader = new ExcelReader(file.toString());
+        String sheetName = table;
+        if (sheetName == null) {
+            List<String> sheetNames = excelReader.getSheetNames();
+            if (sheetNames.isEmpty()) {
+                throw new IOException("No sheets found in " + file);
+            }
+            sheetName = sheetNames.get(0);
+        }
+        return excelReader.streamSheetData(sheetName);
+    }
+}
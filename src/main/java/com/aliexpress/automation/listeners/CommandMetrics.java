@@ -0,0 +1,164 @@
+package com.aliexpress.automation.listeners;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts and latency histograms of WebDriver commands, grouped by the page-object method
+ * that issued them. One instance collects the commands of the test running on the current
+ * thread and a shared instance aggregates the whole suite.
+ */
+public class CommandMetrics {
+    /** Upper bounds of the latency histogram buckets, the last bucket is open ended */
+    private static final long[] BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+
+    private static final CommandMetrics SUITE = new CommandMetrics();
+    private static final ThreadLocal<CommandMetrics> CURRENT_TEST = new ThreadLocal<>();
+
+    private final Map<String, Map<String, CommandStats>> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Starts collecting commands for the test running on the current thread
+     */
+    public static void beginTest() {
+        CURRENT_TEST.set(new CommandMetrics());
+    }
+
+    /**
+     * Stops collecting commands for the test running on the current thread
+     *
+     * @return Commands of the test, or null if no test was started on this thread
+     */
+    public static CommandMetrics endTest() {
+        CommandMetrics metrics = CURRENT_TEST.get();
+        CURRENT_TEST.remove();
+        return metrics;
+    }
+
+    /**
+     * Gets the commands of all tests of the suite
+     *
+     * @return Suite-wide CommandMetrics
+     */
+    public static CommandMetrics getSuiteMetrics() {
+        return SUITE;
+    }
+
+    /**
+     * Records one command for the current test and the suite
+     *
+     * @param caller       Page-object method, e.g. ProductDetailPage.addToCart
+     * @param command      WebDriver command, e.g. WebElement.click
+     * @param elapsedNanos Time the command took
+     */
+    static void record(String caller, String command, long elapsedNanos) {
+        CommandMetrics test = CURRENT_TEST.get();
+        if (test != null) {
+            test.add(caller, command, elapsedNanos);
+        }
+        SUITE.add(caller, command, elapsedNanos);
+    }
+
+    private void add(String caller, String command, long elapsedNanos) {
+        stats.computeIfAbsent(caller, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(command, key -> new CommandStats())
+                .add(elapsedNanos);
+    }
+
+    /**
+     * Gets the number of commands recorded
+     *
+     * @return Command count
+     */
+    public long getCommandCount() {
+        long count = 0;
+        for (Map<String, CommandStats> commands : stats.values()) {
+            for (CommandStats commandStats : commands.values()) {
+                count += commandStats.count.get();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Formats the recorded commands per caller, with count, total, average and maximum
+     * latency, estimated percentiles and the non-empty histogram buckets per command
+     *
+     * @param title Heading of the report
+     * @return Human readable report
+     */
+    public String getReport(String title) {
+        StringBuilder report = new StringBuilder(title).append(": ").append(getCommandCount()).append(" commands");
+        new TreeMap<>(stats).forEach((caller, commands) -> {
+            long count = 0;
+            long totalNanos = 0;
+            for (CommandStats commandStats : commands.values()) {
+                count += commandStats.count.get();
+                totalNanos += commandStats.totalNanos.get();
+            }
+            report.append(System.lineSeparator())
+                    .append(String.format("  %s: %d commands, %d ms", caller, count, totalNanos / 1_000_000));
+            new TreeMap<>(commands).forEach((command, commandStats) ->
+                    report.append(System.lineSeparator()).append("    ").append(commandStats.format(command)));
+        });
+        return report.toString();
+    }
+
+    private static class CommandStats {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MILLIS.length + 1);
+
+        void add(long elapsedNanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            buckets.incrementAndGet(bucketOf(elapsedNanos / 1_000_000.0));
+        }
+
+        private static int bucketOf(double millis) {
+            for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+                if (millis < BUCKET_BOUNDS_MILLIS[i]) {
+                    return i;
+                }
+            }
+            return BUCKET_BOUNDS_MILLIS.length;
+        }
+
+        /**
+         * Estimates a percentile as the upper bound of the bucket it falls into
+         */
+        private String percentile(double fraction) {
+            long target = (long) Math.ceil(count.get() * fraction);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+                seen += buckets.get(i);
+                if (seen >= target) {
+                    return "<" + BUCKET_BOUNDS_MILLIS[i] + "ms";
+                }
+            }
+            return ">=" + BUCKET_BOUNDS_MILLIS[BUCKET_BOUNDS_MILLIS.length - 1] + "ms";
+        }
+
+        String format(String command) {
+            long commandCount = count.get();
+            StringBuilder histogram = new StringBuilder();
+            for (int i = 0; i < buckets.length(); i++) {
+                long bucketCount = buckets.get(i);
+                if (bucketCount > 0) {
+                    histogram.append(histogram.length() == 0 ? "" : " ")
+                            .append(i < BUCKET_BOUNDS_MILLIS.length ? "<" + BUCKET_BOUNDS_MILLIS[i] : ">=" + BUCKET_BOUNDS_MILLIS[i - 1])
+                            .append("ms:").append(bucketCount);
+                }
+            }
+            return String.format("%-32s count=%d total=%dms avg=%.1fms max=%dms p50%s p90%s [%s]",
+                    command, commandCount, totalNanos.get() / 1_000_000,
+                    commandCount == 0 ? 0.0 : totalNanos.get() / 1_000_000.0 / commandCount,
+                    maxNanos.get() / 1_000_000, percentile(0.5), percentile(0.9), histogram);
+        }
+    }
+}
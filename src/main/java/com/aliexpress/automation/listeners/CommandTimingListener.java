@@ -0,0 +1,138 @@
+package com.aliexpress.automation.listeners;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * WebDriver listener that times every command sent through a decorated driver or element
+ * and attributes it to the page-object method that issued it, found by walking the stack.
+ * Commands issued outside page objects are attributed to the calling test method.
+ */
+public class CommandTimingListener implements WebDriverListener {
+    private static final String PAGES_PACKAGE = "com.aliexpress.automation.pages.";
+    private static final String TESTS_PACKAGE = "com.aliexpress.automation.tests.";
+    private static final String BASE_PAGE = PAGES_PACKAGE + "BasePage";
+
+    /** Calls answered locally by the client, which never reach the browser */
+    private static final Set<String> LOCAL_CALLS = Set.of(
+            "manage", "navigate", "switchTo", "timeouts", "window", "logs", "getCapabilities",
+            "getWrappedDriver", "getWrappedElement", "getDevTools", "toString", "hashCode", "equals");
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final CommandTimingListener INSTANCE = new CommandTimingListener();
+
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private CommandTimingListener() {
+    }
+
+    /**
+     * Wraps a driver so that its commands are recorded in {@link CommandMetrics}
+     *
+     * @param driver WebDriver instance
+     * @return Decorated WebDriver
+     */
+    public static WebDriver instrument(WebDriver driver) {
+        return new EventFiringDecorator<>(INSTANCE).decorate(driver);
+    }
+
+    /**
+     * Gets the driver behind an instrumented driver. Session bookkeeping such as the driver
+     * pool, network blocking and HAR traffic is keyed by the original driver.
+     *
+     * @param driver Instrumented or plain WebDriver
+     * @return Original WebDriver
+     */
+    public static WebDriver unwrap(WebDriver driver) {
+        WebDriver unwrapped = driver;
+        while (unwrapped instanceof WrapsDriver) {
+            WebDriver wrapped = ((WrapsDriver) unwrapped).getWrappedDriver();
+            if (wrapped == null || wrapped == unwrapped) {
+                break;
+            }
+            unwrapped = wrapped;
+        }
+        return unwrapped;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!LOCAL_CALLS.contains(method.getName())) {
+            startTimes.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        complete(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        complete(method);
+    }
+
+    private void complete(Method method) {
+        if (LOCAL_CALLS.contains(method.getName())) {
+            return;
+        }
+        Long start = startTimes.get().poll();
+        if (start == null) {
+            return;
+        }
+        CommandMetrics.record(findCaller(), method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Finds the innermost page-object method on the stack, skipping BasePage helpers so that
+     * commands are charged to the page method that called them, or the test method otherwise
+     */
+    private static String findCaller() {
+        Optional<StackWalker.StackFrame> page = STACK_WALKER.walk(frames -> frames
+                .filter(frame -> isPageObject(frame.getClassName()))
+                .findFirst());
+        if (page.isPresent()) {
+            return describe(page.get());
+        }
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(TESTS_PACKAGE))
+                .findFirst())
+                .map(CommandTimingListener::describe)
+                .orElse("(outside page objects)");
+    }
+
+    private static boolean isPageObject(String className) {
+        int nested = className.indexOf('$');
+        String outerClass = nested > 0 ? className.substring(0, nested) : className;
+        return outerClass.startsWith(PAGES_PACKAGE) && outerClass.endsWith("Page") && !outerClass.equals(BASE_PAGE);
+    }
+
+    private static String describe(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        // Keep the sub-package for pages so that factory.HomePage and HomePage stay apart
+        String name = className.startsWith(PAGES_PACKAGE)
+                ? className.substring(PAGES_PACKAGE.length())
+                : className.substring(className.lastIndexOf('.') + 1);
+        int nested = name.indexOf('$');
+        if (nested > 0) {
+            name = name.substring(0, nested);
+        }
+        String methodName = frame.getMethodName();
+        if (methodName.startsWith("lambda$")) {
+            // lambda$getProductSummaries$0 belongs to getProductSummaries
+            String[] parts = methodName.split("\\$");
+            methodName = parts.length > 1 ? parts[1] : methodName;
+        }
+        return name + "." + methodName;
+    }
+}
@@ -1,7 +1,5 @@
 package com.aliexpress.automation.listeners;
 
-import com.aliexpress.automation.utils.ScreenshotUtils;
-import org.openqa.selenium.WebDriver;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
@@ -9,8 +7,10 @@ import org.testng.ITestResult;
 import java.util.logging.Logger;
 
 /**
- * TestNG listener implementation for test execution reporting and screenshots
- * Implements ITestListener to hook into TestNG lifecycle events
+ * TestNG listener implementation for test execution reporting
+ * Implements ITestListener to hook into TestNG lifecycle events.
+ * Failure screenshots are taken by BaseTest.tearDown, which TestNG runs before
+ * onTestFailure, while the test's WebDriver is still bound to the thread.
  */
 public class TestListener implements ITestListener {
     private static final Logger LOGGER = Logger.getLogger(TestListener.class.getName());
@@ -28,22 +28,8 @@ public class TestListener implements ITestListener {
     @Override
     public void onTestFailure(ITestResult result) {
         LOGGER.severe("========== Test FAILED: " + result.getMethod().getMethodName() + " ==========");
-        
-        Object testInstance = result.getInstance();
-        
-        // Attempt to get WebDriver instance from test class
-        WebDriver driver = getDriverFromTestInstance(testInstance);
-        
-        if (driver != null) {
-            String screenshotPath = ScreenshotUtils.captureScreenshot(driver, result.getMethod().getMethodName());
-            LOGGER.info("Screenshot captured at: " + screenshotPath);
-            
-            // Log failure details
-            if (result.getThrowable() != null) {
-                LOGGER.severe("Failure reason: " + result.getThrowable().getMessage());
-            }
-        } else {
-            LOGGER.warning("Could not capture screenshot - WebDriver not available");
+        if (result.getThrowable() != null) {
+            LOGGER.severe("Failure reason: " + result.getThrowable().getMessage());
         }
     }
 
@@ -75,22 +61,4 @@ public class TestListener implements ITestListener {
         LOGGER.info(String.format("Total tests: %d, Passed: %d, Failed: %d, Skipped: %d", 
                 total, passed, failed, skipped));
     }
-
-    /**
-     * Attempts to get the WebDriver instance from the test class
-     *
-     * @param testInstance The test class instance
-     * @return WebDriver instance or null if not available
-     */
-    private WebDriver getDriverFromTestInstance(Object testInstance) {
-        try {
-            // Attempt to get driver field through reflection
-            java.lang.reflect.Field driverField = testInstance.getClass().getSuperclass().getDeclaredField("driver");
-            driverField.setAccessible(true);
-            return (WebDriver) driverField.get(testInstance);
-        } catch (Exception e) {
-            LOGGER.warning("Could not access WebDriver from test class: " + e.getMessage());
-            return null;
-        }
-    }
 }
\ No newline at end of file
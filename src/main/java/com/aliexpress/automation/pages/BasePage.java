@@ -1,12 +1,18 @@
 package com.aliexpress.automation.pages;
 
+import com.aliexpress.automation.base.DriverManager;
+import com.aliexpress.automation.utils.DomExtractor;
 import com.aliexpress.automation.utils.JavaScriptUtils;
+import com.aliexpress.automation.utils.LocatorResolver;
 import com.aliexpress.automation.utils.WaitUtils;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 
 import java.util.List;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Logger;
 
 /**
@@ -16,16 +22,96 @@ public class BasePage {
     protected WebDriver driver;
     protected WaitUtils waitUtils;
     protected JavaScriptUtils jsUtils;
+    protected LocatorResolver locatorResolver;
+    protected DomExtractor domExtractor;
     protected Actions actions;
     protected static final Logger LOGGER = Logger.getLogger(BasePage.class.getName());
 
+    /**
+     * Creates the page for the WebDriver owned by the current test thread
+     */
+    public BasePage() {
+        this(DriverManager.getDriver());
+    }
+
     public BasePage(WebDriver driver) {
         this.driver = driver;
         this.waitUtils = new WaitUtils(driver);
         this.jsUtils = new JavaScriptUtils(driver);
+        this.locatorResolver = new LocatorResolver(driver, getClass());
+        this.domExtractor = new DomExtractor(driver);
         this.actions = new Actions(driver);
     }
 
+    /**
+     * Declares the minimal condition under which this page can be used. Pages override
+     * this so navigation can return as soon as the elements they need are there, instead
+     * of waiting for every subresource. The condition is checked after document readiness
+     * for the page load strategy in use. Returning null only waits for document readiness.
+     *
+     * @return Readiness condition for this page, or null to wait for the page load
+     */
+    protected ExpectedCondition<?> readinessCondition() {
+        return null;
+    }
+
+    /**
+     * Turns a check that does not wait (built on {@link #isElementDisplayed(By)} or
+     * {@link #isAnyElementDisplayed(String, By...)}) into a readiness condition. Unlike the
+     * ExpectedConditions element checks, a missing element is not looked up with the implicit
+     * wait, so each poll returns at once.
+     *
+     * @param check Check that the page is usable
+     * @return Readiness condition polling the check
+     */
+    protected ExpectedCondition<Boolean> readyWhen(BooleanSupplier check) {
+        return webDriver -> check.getAsBoolean();
+    }
+
+    /**
+     * Waits until the document is ready and this page satisfies its readiness condition
+     */
+    public void waitUntilReady() {
+        waitUtils.waitForPageLoad();
+        ExpectedCondition<?> condition = readinessCondition();
+        if (condition != null) {
+            waitUtils.waitForCondition(condition);
+        }
+    }
+
+    /**
+     * Runs an action that loads new content into this page, such as sorting or paging, and
+     * waits until the page is ready with the new content. The readiness condition alone
+     * would already hold on the old content, so the wait first sees the element found by
+     * the root locator go stale or the URL change.
+     *
+     * @param root   Locator of an element that is replaced when the new content arrives
+     * @param action Action that triggers the navigation
+     */
+    protected void navigateWithin(By root, Runnable action) {
+        String url = driver.getCurrentUrl();
+        WebElement oldRoot = locatorResolver.findFirstVisible(null, root);
+        action.run();
+        if (oldRoot != null) {
+            waitUtils.waitForCondition(ExpectedConditions.or(
+                    ExpectedConditions.stalenessOf(oldRoot),
+                    ExpectedConditions.not(ExpectedConditions.urlToBe(url))));
+        }
+        waitUntilReady();
+    }
+
+    /**
+     * Waits for a page reached through navigation to become ready
+     *
+     * @param page Page object for the navigation target
+     * @param <P>  Page type
+     * @return The same page once it is ready
+     */
+    protected <P extends BasePage> P awaitPage(P page) {
+        page.waitUntilReady();
+        return page;
+    }
+
     /**
      * Clicks on element with retry mechanism
      *
@@ -230,19 +316,73 @@ public class BasePage {
     }
 
     /**
-     * Checks if element identified by locator is displayed
+     * Checks if element identified by locator is displayed.
+     * Does not wait for the element to appear, so a miss returns immediately.
      *
      * @param locator By locator to find element
      * @return true if element is displayed, false otherwise
      */
     protected boolean isElementDisplayed(By locator) {
+        return locatorResolver.findFirstVisible(null, locator) != null;
+    }
+
+    /**
+     * Checks if any of the candidate locators of a page element matches a visible element, in one round trip
+     *
+     * @param element    Logical element name, used to remember which candidate matched
+     * @param candidates Locators to check
+     * @return true if at least one candidate matches a visible element
+     */
+    protected boolean isAnyElementDisplayed(String element, By... candidates) {
+        return locatorResolver.findFirstVisible(element, null, candidates) != null;
+    }
+
+    /**
+     * Gets the first visible element among candidate locators without waiting
+     *
+     * @param element    Logical element name, used to remember which candidate matched
+     * @param candidates Locators in order of preference, e.g. XPath then CSS
+     * @return First visible element, or null if none of the candidates matches
+     */
+    protected WebElement resolveFirstVisible(String element, By... candidates) {
+        return locatorResolver.findFirstVisible(element, null, candidates);
+    }
+
+    /**
+     * Gets the first visible element among candidate locators. All candidates are checked
+     * in one round trip; if none matches yet, they are polled together until the explicit wait expires.
+     * The candidate that matched last time on this page is tried first, and the lookup is
+     * recorded in the locator cache once, with its final outcome, however often it was polled.
+     *
+     * @param element    Logical element name, used to remember which candidate matched
+     * @param candidates Locators in order of preference, e.g. XPath then CSS
+     * @return First visible element
+     */
+    protected WebElement findFirstVisible(String element, By... candidates) {
+        long start = System.nanoTime();
+        LocatorResolver.Resolution resolution = locatorResolver.resolve(element, null, false, false, candidates);
         try {
-            return driver.findElement(locator).isDisplayed();
-        } catch (NoSuchElementException | StaleElementReferenceException e) {
-            return false;
+            if (resolution == null) {
+                resolution = waitUtils.waitForCondition(
+                        webDriver -> locatorResolver.resolve(element, null, false, false, candidates));
+            }
+            return resolution.getElement();
+        } finally {
+            locatorResolver.record(element, resolution, System.nanoTime() - start, candidates);
         }
     }
 
+    /**
+     * Gets all elements of the first candidate locator that matches a visible element
+     *
+     * @param element    Logical element name, used to remember which candidate matched
+     * @param candidates Locators in order of preference, e.g. XPath then CSS
+     * @return Matching elements, or an empty list if none of the candidates matches
+     */
+    protected List<WebElement> findAllOfFirstVisible(String element, By... candidates) {
+        return locatorResolver.findAllOfFirstVisible(element, null, candidates);
+    }
+
     /**
      * Switches to iframe
      *
@@ -341,7 +481,7 @@ public class BasePage {
      */
     protected void refreshPage() {
         driver.navigate().refresh();
-        waitUtils.waitForPageLoad();
+        waitUntilReady();
         LOGGER.info("Page refreshed");
     }
 
@@ -350,7 +490,7 @@ public class BasePage {
      */
     protected void navigateBack() {
         driver.navigate().back();
-        waitUtils.waitForPageLoad();
+        waitUntilReady();
         LOGGER.info("Navigated back");
     }
 
@@ -359,7 +499,7 @@ public class BasePage {
      */
     protected void navigateForward() {
         driver.navigate().forward();
-        waitUtils.waitForPageLoad();
+        waitUntilReady();
         LOGGER.info("Navigated forward");
     }
 }
\ No newline at end of file
@@ -1,10 +1,14 @@
 package com.aliexpress.automation.pages;
 
+import com.aliexpress.automation.base.DriverManager;
+import com.aliexpress.automation.pages.model.CartItem;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.logging.Logger;
 
 /**
@@ -33,10 +37,27 @@ public class CartPage extends BasePage {
     private final By emptyCartMessageCss = By.cssSelector(".empty-cart, .cart-empty-message");
     private final By itemTitleCss = By.cssSelector(".item-title, .product-name");
 
+    /**
+     * Creates the page for the WebDriver owned by the current test thread
+     */
+    public CartPage() {
+        this(DriverManager.getDriver());
+    }
+
     public CartPage(WebDriver driver) {
         super(driver);
     }
 
+    /**
+     * The cart is usable once it shows either an item or the empty cart message
+     *
+     * @return Readiness condition for this page
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return readyWhen(() -> isAnyElementDisplayed(null, cartItemsCss, emptyCartMessageCss));
+    }
+
     /**
      * Gets all cart items
      *
@@ -45,11 +66,29 @@ public class CartPage extends BasePage {
     public List<WebElement> getCartItems() {
         try {
             LOGGER.info("Getting all cart items");
-            waitUtils.waitForPageLoad();
+            waitUntilReady();
             return driver.findElements(cartItemsCss);
         } catch (Exception e) {
             LOGGER.severe("Error getting cart items: " + e.getMessage());
-            return List.of();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads title, price, quantity, URL and seller of all cart rows with one script call
+     *
+     * @return Cart items in page order
+     */
+    public List<CartItem> getItems() {
+        try {
+            LOGGER.info("Extracting cart items");
+            waitUntilReady();
+            return domExtractor.extract(cartItemsCss, CartItem.FIELDS).stream()
+                    .map(CartItem::fromRecord)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            LOGGER.severe("Error extracting cart items: " + e.getMessage());
+            throw e;
         }
     }
 
@@ -75,8 +114,7 @@ public class CartPage extends BasePage {
     public boolean isCartEmpty() {
         try {
             LOGGER.info("Checking if cart is empty");
-            return isElementDisplayed(emptyCartMessageXpath) || 
-                   isElementDisplayed(emptyCartMessageCss) ||
+            return isAnyElementDisplayed("emptyCartMessage", emptyCartMessageXpath, emptyCartMessageCss) ||
                    getCartItemCount() == 0;
         } catch (Exception e) {
             LOGGER.warning("Error checking if cart is empty: " + e.getMessage());
@@ -112,7 +150,7 @@ public class CartPage extends BasePage {
                 LOGGER.info("No confirmation dialog found or it was automatically dismissed");
             }
             
-            waitUtils.waitForPageLoad();
+            waitUntilReady();
             LOGGER.info("Successfully removed item from cart");
         } catch (Exception e) {
             LOGGER.severe("Error removing item from cart: " + e.getMessage());
@@ -127,9 +165,7 @@ public class CartPage extends BasePage {
     public String getTotalAmount() {
         try {
             LOGGER.info("Getting cart total amount");
-            WebElement totalElement = isElementDisplayed(totalAmountXpath) ?
-                driver.findElement(totalAmountXpath) :
-                driver.findElement(totalAmountCss);
+            WebElement totalElement = findFirstVisible("totalAmount", totalAmountXpath, totalAmountCss);
                 
             return getText(totalElement);
         } catch (Exception e) {
@@ -168,7 +204,7 @@ public class CartPage extends BasePage {
                 jsUtils.executeScript("arguments[0].dispatchEvent(new Event('change'))", quantityInput);
             }
             
-            waitUtils.waitForPageLoad();
+            waitUntilReady();
             LOGGER.info("Successfully updated item quantity");
         } catch (Exception e) {
             LOGGER.severe("Error updating item quantity: " + e.getMessage());
@@ -183,16 +219,13 @@ public class CartPage extends BasePage {
     public CheckoutPage proceedToCheckout() {
         try {
             LOGGER.info("Proceeding to checkout");
-            WebElement checkoutButton = isElementDisplayed(checkoutButtonXpath) ?
-                driver.findElement(checkoutButtonXpath) :
-                driver.findElement(checkoutButtonCss);
+            WebElement checkoutButton = findFirstVisible("checkoutButton", checkoutButtonXpath, checkoutButtonCss);
                 
             jsUtils.scrollToElement(checkoutButton);
             click(checkoutButton);
             
-            waitUtils.waitForPageLoad();
             LOGGER.info("Successfully proceeded to checkout");
-            return new CheckoutPage(driver);
+            return awaitPage(new CheckoutPage(driver));
         } catch (Exception e) {
             LOGGER.severe("Error proceeding to checkout: " + e.getMessage());
             throw e;
@@ -208,16 +241,8 @@ public class CartPage extends BasePage {
     public String getItemTitle(int index) {
         try {
             LOGGER.info("Getting title of item at index: " + index);
-            List<WebElement> cartItems = getCartItems();
-            
-            if (index < 0 || index >= cartItems.size()) {
-                throw new IndexOutOfBoundsException("Cart item index out of bounds: " + index);
-            }
-            
-            WebElement item = cartItems.get(index);
-            WebElement titleElement = item.findElement(itemTitleCss);
-            
-            return getText(titleElement);
+            String title = getItem(index).getTitle();
+            return title == null ? "" : title;
         } catch (Exception e) {
             LOGGER.severe("Error getting item title: " + e.getMessage());
             return "";
@@ -233,19 +258,19 @@ public class CartPage extends BasePage {
     public String getItemPrice(int index) {
         try {
             LOGGER.info("Getting price of item at index: " + index);
-            List<WebElement> cartItems = getCartItems();
-            
-            if (index < 0 || index >= cartItems.size()) {
-                throw new IndexOutOfBoundsException("Cart item index out of bounds: " + index);
-            }
-            
-            WebElement item = cartItems.get(index);
-            WebElement priceElement = item.findElement(itemPriceCss);
-            
-            return getText(priceElement);
+            String price = getItem(index).getPrice();
+            return price == null ? "" : price;
         } catch (Exception e) {
             LOGGER.severe("Error getting item price: " + e.getMessage());
             return "";
         }
     }
+
+    private CartItem getItem(int index) {
+        List<CartItem> items = getItems();
+        if (index < 0 || index >= items.size()) {
+            throw new IndexOutOfBoundsException("Cart item index out of bounds: " + index);
+        }
+        return items.get(index);
+    }
 }
\ No newline at end of file
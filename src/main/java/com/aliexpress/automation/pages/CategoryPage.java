@@ -1,8 +1,10 @@
 package com.aliexpress.automation.pages;
 
+import com.aliexpress.automation.base.DriverManager;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -29,10 +31,27 @@ public class CategoryPage extends BasePage {
     private final By filterSidebarCss = By.cssSelector(".filter-sidebar, .refine-panel");
     private final By sortOptionsCss = By.cssSelector(".sort-options, .sort-dropdown");
 
+    /**
+     * Creates the page for the WebDriver owned by the current test thread
+     */
+    public CategoryPage() {
+        this(DriverManager.getDriver());
+    }
+
     public CategoryPage(WebDriver driver) {
         super(driver);
     }
 
+    /**
+     * The category page is usable once its title or first product card is there
+     *
+     * @return Readiness condition for this page
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return readyWhen(this::isCategoryPageLoaded);
+    }
+
     /**
      * Gets category title
      *
@@ -41,9 +60,7 @@ public class CategoryPage extends BasePage {
     public String getCategoryTitle() {
         try {
             LOGGER.info("Getting category title");
-            WebElement titleElement = isElementDisplayed(categoryTitleXpath) ?
-                driver.findElement(categoryTitleXpath) :
-                driver.findElement(categoryTitleCss);
+            WebElement titleElement = findFirstVisible("categoryTitle", categoryTitleXpath, categoryTitleCss);
                 
             return getText(titleElement);
         } catch (Exception e) {
@@ -60,7 +77,7 @@ public class CategoryPage extends BasePage {
     public List<WebElement> getSubcategories() {
         try {
             LOGGER.info("Getting subcategories");
-            waitUtils.waitForPageLoad();
+            waitUntilReady();
             return driver.findElements(subcategoriesCss);
         } catch (Exception e) {
             LOGGER.severe("Error getting subcategories: " + e.getMessage());
@@ -76,7 +93,7 @@ public class CategoryPage extends BasePage {
     public List<WebElement> getProductItems() {
         try {
             LOGGER.info("Getting product items");
-            waitUtils.waitForPageLoad();
+            waitUntilReady();
             return driver.findElements(productItemsCss);
         } catch (Exception e) {
             LOGGER.severe("Error getting product items: " + e.getMessage());
@@ -99,9 +116,8 @@ public class CategoryPage extends BasePage {
             jsUtils.scrollToElement(subcategory);
             click(subcategory);
             
-            waitUtils.waitForPageLoad();
             LOGGER.info("Successfully opened subcategory: " + subcategoryName);
-            return new CategoryPage(driver);
+            return awaitPage(new CategoryPage(driver));
         } catch (Exception e) {
             LOGGER.severe("Error opening subcategory: " + e.getMessage());
             throw e;
@@ -127,9 +143,8 @@ public class CategoryPage extends BasePage {
             jsUtils.scrollToElement(product);
             click(product);
             
-            waitUtils.waitForPageLoad();
             LOGGER.info("Successfully opened product at index: " + index);
-            return new ProductDetailPage(driver);
+            return awaitPage(new ProductDetailPage(driver));
         } catch (Exception e) {
             LOGGER.severe("Error opening product: " + e.getMessage());
             throw e;
@@ -167,7 +182,7 @@ public class CategoryPage extends BasePage {
             jsUtils.scrollToElement(filterValueElement);
             click(filterValueElement);
             
-            waitUtils.waitForPageLoad();
+            waitUntilReady();
             LOGGER.info("Successfully applied filter");
         } catch (Exception e) {
             LOGGER.severe("Error applying filter: " + e.getMessage());
@@ -184,16 +199,14 @@ public class CategoryPage extends BasePage {
             LOGGER.info("Sorting products by: " + sortOption);
             
             // Click on sort dropdown
-            WebElement sortDropdown = isElementDisplayed(sortOptionsXpath) ?
-                driver.findElement(sortOptionsXpath) :
-                driver.findElement(sortOptionsCss);
+            WebElement sortDropdown = findFirstVisible("sortOptions", sortOptionsXpath, sortOptionsCss);
             click(sortDropdown);
             
             // Click on specific sort option
             By sortOptionLocator = By.xpath("//a[contains(text(), '" + sortOption + "')]");
             click(sortOptionLocator);
             
-            waitUtils.waitForPageLoad();
+            waitUntilReady();
             LOGGER.info("Successfully sorted products by: " + sortOption);
         } catch (Exception e) {
             LOGGER.severe("Error sorting products: " + e.getMessage());
@@ -208,7 +221,7 @@ public class CategoryPage extends BasePage {
     public boolean isCategoryPageLoaded() {
         try {
             return isElementDisplayed(categoryTitleCss) && 
-                   driver.findElements(productItemsCss).size() > 0;
+                   isElementDisplayed(productItemsCss);
         } catch (Exception e) {
             LOGGER.severe("Error checking if category page is loaded: " + e.getMessage());
             return false;
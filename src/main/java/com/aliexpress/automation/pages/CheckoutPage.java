@@ -1,8 +1,10 @@
 package com.aliexpress.automation.pages;
 
+import com.aliexpress.automation.base.DriverManager;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.Select;
 
 import java.util.logging.Logger;
@@ -41,10 +43,27 @@ public class CheckoutPage extends BasePage {
     private final By payPalOptionCss = By.cssSelector(".paypal-option, .payment-option.paypal");
     private final By orderSummaryCss = By.cssSelector(".order-summary, .summary-section");
 
+    /**
+     * Creates the page for the WebDriver owned by the current test thread
+     */
+    public CheckoutPage() {
+        this(DriverManager.getDriver());
+    }
+
     public CheckoutPage(WebDriver driver) {
         super(driver);
     }
 
+    /**
+     * Checkout is usable once the address form or the order summary is shown
+     *
+     * @return Readiness condition for this page
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return readyWhen(() -> isAnyElementDisplayed(null, addressFirstNameCss, orderSummaryCss));
+    }
+
     /**
      * Fills shipping address information
      *
@@ -61,45 +80,31 @@ public class CheckoutPage extends BasePage {
             LOGGER.info("Filling shipping address information");
             
             // Fill first name
-            WebElement firstNameInput = isElementDisplayed(addressFirstNameXpath) ?
-                driver.findElement(addressFirstNameXpath) :
-                driver.findElement(addressFirstNameCss);
+            WebElement firstNameInput = findFirstVisible("addressFirstName", addressFirstNameXpath, addressFirstNameCss);
             type(firstNameInput, firstName);
             
             // Fill last name
-            WebElement lastNameInput = isElementDisplayed(addressLastNameXpath) ?
-                driver.findElement(addressLastNameXpath) :
-                driver.findElement(addressLastNameCss);
+            WebElement lastNameInput = findFirstVisible("addressLastName", addressLastNameXpath, addressLastNameCss);
             type(lastNameInput, lastName);
             
             // Fill address line 1
-            WebElement addressInput = isElementDisplayed(addressLine1Xpath) ?
-                driver.findElement(addressLine1Xpath) :
-                driver.findElement(addressLine1Css);
+            WebElement addressInput = findFirstVisible("addressLine1", addressLine1Xpath, addressLine1Css);
             type(addressInput, address);
             
             // Fill city
-            WebElement cityInput = isElementDisplayed(addressCityXpath) ?
-                driver.findElement(addressCityXpath) :
-                driver.findElement(addressCityCss);
+            WebElement cityInput = findFirstVisible("addressCity", addressCityXpath, addressCityCss);
             type(cityInput, city);
             
             // Select state
-            WebElement stateSelect = isElementDisplayed(addressStateXpath) ?
-                driver.findElement(addressStateXpath) :
-                driver.findElement(addressStateCss);
+            WebElement stateSelect = findFirstVisible("addressState", addressStateXpath, addressStateCss);
             selectByText(stateSelect, state);
             
             // Fill zip code
-            WebElement zipInput = isElementDisplayed(addressZipXpath) ?
-                driver.findElement(addressZipXpath) :
-                driver.findElement(addressZipCss);
+            WebElement zipInput = findFirstVisible("addressZip", addressZipXpath, addressZipCss);
             type(zipInput, zipCode);
             
             // Fill phone number
-            WebElement phoneInput = isElementDisplayed(addressPhoneXpath) ?
-                driver.findElement(addressPhoneXpath) :
-                driver.findElement(addressPhoneCss);
+            WebElement phoneInput = findFirstVisible("addressPhone", addressPhoneXpath, addressPhoneCss);
             type(phoneInput, phone);
             
             LOGGER.info("Successfully filled shipping address");
@@ -119,17 +124,13 @@ public class CheckoutPage extends BasePage {
             
             switch (paymentMethod.toLowerCase()) {
                 case "credit card":
-                    WebElement creditCardOption = isElementDisplayed(creditCardOptionXpath) ?
-                        driver.findElement(creditCardOptionXpath) :
-                        driver.findElement(creditCardOptionCss);
+                    WebElement creditCardOption = findFirstVisible("creditCardOption", creditCardOptionXpath, creditCardOptionCss);
                     jsUtils.scrollToElement(creditCardOption);
                     click(creditCardOption);
                     break;
                     
                 case "paypal":
-                    WebElement payPalOption = isElementDisplayed(payPalOptionXpath) ?
-                        driver.findElement(payPalOptionXpath) :
-                        driver.findElement(payPalOptionCss);
+                    WebElement payPalOption = findFirstVisible("payPalOption", payPalOptionXpath, payPalOptionCss);
                     jsUtils.scrollToElement(payPalOption);
                     click(payPalOption);
                     break;
@@ -138,7 +139,7 @@ public class CheckoutPage extends BasePage {
                     LOGGER.warning("Unsupported payment method: " + paymentMethod);
             }
             
-            waitUtils.waitForPageLoad();
+            waitUntilReady();
             LOGGER.info("Successfully selected payment method: " + paymentMethod);
         } catch (Exception e) {
             LOGGER.severe("Error selecting payment method: " + e.getMessage());
@@ -153,9 +154,7 @@ public class CheckoutPage extends BasePage {
     public String getOrderSummary() {
         try {
             LOGGER.info("Getting order summary");
-            WebElement summaryElement = isElementDisplayed(orderSummaryXpath) ?
-                driver.findElement(orderSummaryXpath) :
-                driver.findElement(orderSummaryCss);
+            WebElement summaryElement = findFirstVisible("orderSummary", orderSummaryXpath, orderSummaryCss);
                 
             jsUtils.scrollToElement(summaryElement);
             return getText(summaryElement);
@@ -173,16 +172,13 @@ public class CheckoutPage extends BasePage {
     public OrderConfirmationPage placeOrder() {
         try {
             LOGGER.info("Placing order");
-            WebElement placeOrderButton = isElementDisplayed(placeOrderButtonXpath) ?
-                driver.findElement(placeOrderButtonXpath) :
-                driver.findElement(placeOrderButtonCss);
+            WebElement placeOrderButton = findFirstVisible("placeOrderButton", placeOrderButtonXpath, placeOrderButtonCss);
                 
             jsUtils.scrollToElement(placeOrderButton);
             click(placeOrderButton);
             
-            waitUtils.waitForPageLoad();
             LOGGER.info("Successfully placed order");
-            return new OrderConfirmationPage(driver);
+            return awaitPage(new OrderConfirmationPage(driver));
         } catch (Exception e) {
             LOGGER.severe("Error placing order: " + e.getMessage());
             throw e;
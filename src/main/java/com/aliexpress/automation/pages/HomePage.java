@@ -1,8 +1,10 @@
 package com.aliexpress.automation.pages;
 
+import com.aliexpress.automation.base.DriverManager;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -33,10 +35,27 @@ public class HomePage extends BasePage {
     private final By topBannerCss = By.cssSelector(".banner-slider, .top-banner, .main-banner");
     private final By closePopupCss = By.cssSelector("img.close, .btn-close, .close-button");
 
+    /**
+     * Creates the page for the WebDriver owned by the current test thread
+     */
+    public HomePage() {
+        this(DriverManager.getDriver());
+    }
+
     public HomePage(WebDriver driver) {
         super(driver);
     }
 
+    /**
+     * The home page is usable once {@link #isHomePageLoaded()} holds
+     *
+     * @return Readiness condition for this page
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return readyWhen(this::isHomePageLoaded);
+    }
+
     /**
      * Performs a search using XPath locators
      *
@@ -49,8 +68,7 @@ public class HomePage extends BasePage {
             waitUtils.waitForElementToBeVisible(searchBoxXpath);
             type(searchBoxXpath, searchQuery);
             click(searchButtonXpath);
-            waitUtils.waitForPageLoad();
-            return new ProductSearchPage(driver);
+            return awaitPage(new ProductSearchPage(driver));
         } catch (Exception e) {
             LOGGER.severe("Error searching product by XPath: " + e.getMessage());
             throw e;
@@ -69,8 +87,7 @@ public class HomePage extends BasePage {
             waitUtils.waitForElementToBeVisible(searchBoxCss);
             type(searchBoxCss, searchQuery);
             click(searchButtonCss);
-            waitUtils.waitForPageLoad();
-            return new ProductSearchPage(driver);
+            return awaitPage(new ProductSearchPage(driver));
         } catch (Exception e) {
             LOGGER.severe("Error searching product by CSS: " + e.getMessage());
             throw e;
@@ -86,13 +103,8 @@ public class HomePage extends BasePage {
         try {
             LOGGER.info("Clicking on login button");
             // Try XPath first, then CSS if XPath fails
-            if (isElementDisplayed(loginButtonXpath)) {
-                click(loginButtonXpath);
-            } else {
-                click(loginButtonCss);
-            }
-            waitUtils.waitForPageLoad();
-            return new LoginPage(driver);
+            click(findFirstVisible("loginButton", loginButtonXpath, loginButtonCss));
+            return awaitPage(new LoginPage(driver));
         } catch (Exception e) {
             LOGGER.severe("Error clicking login button: " + e.getMessage());
             throw e;
@@ -108,13 +120,8 @@ public class HomePage extends BasePage {
         try {
             LOGGER.info("Opening shopping cart");
             // Try XPath first, then CSS if XPath fails
-            if (isElementDisplayed(cartIconXpath)) {
-                click(cartIconXpath);
-            } else {
-                click(cartIconCss);
-            }
-            waitUtils.waitForPageLoad();
-            return new CartPage(driver);
+            click(findFirstVisible("cartIcon", cartIconXpath, cartIconCss));
+            return awaitPage(new CartPage(driver));
         } catch (Exception e) {
             LOGGER.severe("Error opening shopping cart: " + e.getMessage());
             throw e;
@@ -131,9 +138,7 @@ public class HomePage extends BasePage {
         try {
             LOGGER.info("Opening category: " + categoryName);
             // First hover over the categories menu
-            WebElement categoriesMenu = isElementDisplayed(categoriesMenuXpath) ? 
-                driver.findElement(categoriesMenuXpath) : 
-                driver.findElement(categoriesMenuCss);
+            WebElement categoriesMenu = findFirstVisible("categoriesMenu", categoriesMenuXpath, categoriesMenuCss);
             
             hoverOver(categoriesMenu);
             
@@ -141,8 +146,7 @@ public class HomePage extends BasePage {
             By categoryLocator = By.xpath("//a[contains(text(), '" + categoryName + "')]");
             click(categoryLocator);
             
-            waitUtils.waitForPageLoad();
-            return new CategoryPage(driver);
+            return awaitPage(new CategoryPage(driver));
         } catch (Exception e) {
             LOGGER.severe("Error opening category: " + e.getMessage());
             throw e;
@@ -155,12 +159,10 @@ public class HomePage extends BasePage {
     public void closePopupIfPresent() {
         try {
             // Try XPath first, then CSS if XPath fails
-            if (isElementDisplayed(closePopupXpath)) {
-                click(closePopupXpath);
-                LOGGER.info("Closed popup using XPath");
-            } else if (isElementDisplayed(closePopupCss)) {
-                click(closePopupCss);
-                LOGGER.info("Closed popup using CSS");
+            WebElement closeButton = resolveFirstVisible("closePopup", closePopupXpath, closePopupCss);
+            if (closeButton != null) {
+                click(closeButton);
+                LOGGER.info("Closed popup");
             } else {
                 LOGGER.info("No popup detected");
             }
@@ -175,9 +177,7 @@ public class HomePage extends BasePage {
     public void scrollThroughBanners() {
         try {
             LOGGER.info("Scrolling through banners");
-            WebElement banner = isElementDisplayed(topBannerXpath) ?
-                driver.findElement(topBannerXpath) :
-                driver.findElement(topBannerCss);
+            WebElement banner = findFirstVisible("topBanner", topBannerXpath, topBannerCss);
                 
             jsUtils.scrollToElement(banner);
             
@@ -221,7 +221,7 @@ public class HomePage extends BasePage {
             By languageOption = By.xpath("//a[contains(text(), '" + language + "')]");
             click(languageOption);
             
-            waitUtils.waitForPageLoad();
+            waitUntilReady();
             LOGGER.info("Successfully switched language to: " + language);
         } catch (Exception e) {
             LOGGER.severe("Error switching language: " + e.getMessage());
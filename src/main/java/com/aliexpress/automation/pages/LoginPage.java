@@ -1,8 +1,10 @@
 package com.aliexpress.automation.pages;
 
+import com.aliexpress.automation.base.DriverManager;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 
 import java.util.logging.Logger;
 
@@ -30,10 +32,27 @@ public class LoginPage extends BasePage {
     private final By errorMessageCss = By.cssSelector(".error-message, .error-notice, .login-error");
     private final By otherLoginOptionsCss = By.cssSelector(".other-login-methods, .login-with-social");
 
+    /**
+     * Creates the page for the WebDriver owned by the current test thread
+     */
+    public LoginPage() {
+        this(DriverManager.getDriver());
+    }
+
     public LoginPage(WebDriver driver) {
         super(driver);
     }
 
+    /**
+     * The login form is usable once {@link #isLoginPageLoaded()} holds
+     *
+     * @return Readiness condition for this page
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return readyWhen(this::isLoginPageLoaded);
+    }
+
     /**
      * Performs login with credentials
      *
@@ -46,33 +65,30 @@ public class LoginPage extends BasePage {
             LOGGER.info("Attempting login with email: " + email);
             
             // Enter email
-            WebElement emailElement = isElementDisplayed(emailInputXpath) ?
-                driver.findElement(emailInputXpath) :
-                driver.findElement(emailInputCss);
+            WebElement emailElement = findFirstVisible("emailInput", emailInputXpath, emailInputCss);
             type(emailElement, email);
             
             // Enter password
-            WebElement passwordElement = isElementDisplayed(passwordInputXpath) ?
-                driver.findElement(passwordInputXpath) :
-                driver.findElement(passwordInputCss);
+            WebElement passwordElement = findFirstVisible("passwordInput", passwordInputXpath, passwordInputCss);
             type(passwordElement, password);
             
             // Click login button
-            WebElement loginButton = isElementDisplayed(loginButtonXpath) ?
-                driver.findElement(loginButtonXpath) :
-                driver.findElement(loginButtonCss);
+            WebElement loginButton = findFirstVisible("loginButton", loginButtonXpath, loginButtonCss);
             click(loginButton);
             
-            waitUtils.waitForPageLoad();
+            // Wait until either the home page or a login error shows up
+            HomePage homePage = new HomePage(driver);
+            waitUtils.waitForCondition(readyWhen(() ->
+                homePage.isHomePageLoaded() || isAnyElementDisplayed(null, errorMessageXpath, errorMessageCss)));
             
             // Check for error message
-            if (isElementDisplayed(errorMessageXpath) || isElementDisplayed(errorMessageCss)) {
+            if (isAnyElementDisplayed("errorMessage", errorMessageXpath, errorMessageCss)) {
                 LOGGER.warning("Login failed - error message displayed");
                 throw new RuntimeException("Login failed");
             }
             
             LOGGER.info("Login successful");
-            return new HomePage(driver);
+            return homePage;
         } catch (Exception e) {
             LOGGER.severe("Error during login: " + e.getMessage());
             throw e;
@@ -87,14 +103,11 @@ public class LoginPage extends BasePage {
     public RegisterPage navigateToRegister() {
         try {
             LOGGER.info("Navigating to registration page");
-            WebElement registerLink = isElementDisplayed(registerLinkXpath) ?
-                driver.findElement(registerLinkXpath) :
-                driver.findElement(registerLinkCss);
+            WebElement registerLink = findFirstVisible("registerLink", registerLinkXpath, registerLinkCss);
             click(registerLink);
             
-            waitUtils.waitForPageLoad();
             LOGGER.info("Successfully navigated to register page");
-            return new RegisterPage(driver);
+            return awaitPage(new RegisterPage(driver));
         } catch (Exception e) {
             LOGGER.severe("Error navigating to register page: " + e.getMessage());
             throw e;
@@ -109,14 +122,11 @@ public class LoginPage extends BasePage {
     public ForgotPasswordPage clickForgotPassword() {
         try {
             LOGGER.info("Clicking forgot password link");
-            WebElement forgotPasswordLink = isElementDisplayed(forgotPasswordXpath) ?
-                driver.findElement(forgotPasswordXpath) :
-                driver.findElement(forgotPasswordCss);
+            WebElement forgotPasswordLink = findFirstVisible("forgotPassword", forgotPasswordXpath, forgotPasswordCss);
             click(forgotPasswordLink);
             
-            waitUtils.waitForPageLoad();
             LOGGER.info("Successfully navigated to forgot password page");
-            return new ForgotPasswordPage(driver);
+            return awaitPage(new ForgotPasswordPage(driver));
         } catch (Exception e) {
             LOGGER.severe("Error clicking forgot password: " + e.getMessage());
             throw e;
@@ -130,13 +140,8 @@ public class LoginPage extends BasePage {
      */
     public String getErrorMessage() {
         try {
-            if (isElementDisplayed(errorMessageXpath)) {
-                return getText(errorMessageXpath);
-            } else if (isElementDisplayed(errorMessageCss)) {
-                return getText(errorMessageCss);
-            } else {
-                return "";
-            }
+            WebElement errorMessage = resolveFirstVisible("errorMessage", errorMessageXpath, errorMessageCss);
+            return errorMessage == null ? "" : getText(errorMessage);
         } catch (Exception e) {
             LOGGER.severe("Error getting error message: " + e.getMessage());
             return "";
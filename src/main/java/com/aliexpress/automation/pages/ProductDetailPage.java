@@ -1,8 +1,10 @@
 package com.aliexpress.automation.pages;
 
+import com.aliexpress.automation.base.DriverManager;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -45,10 +47,27 @@ public class ProductDetailPage extends BasePage {
     private final By sellerInfoCss = By.cssSelector(".seller-info, .store-info");
     private final By reviewsTabCss = By.cssSelector(".tab-reviews, .reviews-tab");
 
+    /**
+     * Creates the page for the WebDriver owned by the current test thread
+     */
+    public ProductDetailPage() {
+        this(DriverManager.getDriver());
+    }
+
     public ProductDetailPage(WebDriver driver) {
         super(driver);
     }
 
+    /**
+     * The product page is usable once its title is visible; gallery and description load later
+     *
+     * @return Readiness condition for this page
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return readyWhen(() -> isAnyElementDisplayed(null, productTitleCss, productTitleXpath));
+    }
+
     /**
      * Gets product title
      *
@@ -57,9 +76,7 @@ public class ProductDetailPage extends BasePage {
     public String getProductTitle() {
         try {
             LOGGER.info("Getting product title");
-            WebElement titleElement = isElementDisplayed(productTitleXpath) ? 
-                driver.findElement(productTitleXpath) : 
-                driver.findElement(productTitleCss);
+            WebElement titleElement = findFirstVisible("productTitle", productTitleXpath, productTitleCss);
                 
             return getText(titleElement);
         } catch (Exception e) {
@@ -76,9 +93,7 @@ public class ProductDetailPage extends BasePage {
     public String getProductPrice() {
         try {
             LOGGER.info("Getting product price");
-            WebElement priceElement = isElementDisplayed(productPriceXpath) ? 
-                driver.findElement(productPriceXpath) : 
-                driver.findElement(productPriceCss);
+            WebElement priceElement = findFirstVisible("productPrice", productPriceXpath, productPriceCss);
                 
             return getText(priceElement);
         } catch (Exception e) {
@@ -100,14 +115,13 @@ public class ProductDetailPage extends BasePage {
             selectFirstSizeOption();
             
             // Click the Add to Cart button
-            WebElement addToCartButton = isElementDisplayed(addToCartButtonXpath) ?
-                driver.findElement(addToCartButtonXpath) :
-                driver.findElement(addToCartButtonCss);
+            WebElement addToCartButton = findFirstVisible("addToCartButton", addToCartButtonXpath, addToCartButtonCss);
                 
             jsUtils.scrollToElement(addToCartButton);
             click(addToCartButton);
             
-            // Wait for cart confirmation
+            // The live site may show a confirmation popup instead of opening the cart,
+            // so only wait for the page load and leave the cart page unchecked
             waitUtils.waitForPageLoad();
             
             LOGGER.info("Successfully added product to cart");
@@ -123,9 +137,7 @@ public class ProductDetailPage extends BasePage {
      */
     public void selectFirstColorOption() {
         try {
-            List<WebElement> colorOptions = isElementDisplayed(colorOptionsXpath) ?
-                driver.findElements(colorOptionsXpath) :
-                driver.findElements(colorOptionsCss);
+            List<WebElement> colorOptions = findAllOfFirstVisible("colorOptions", colorOptionsXpath, colorOptionsCss);
                 
             if (!colorOptions.isEmpty()) {
                 LOGGER.info("Selecting first color option");
@@ -145,9 +157,7 @@ public class ProductDetailPage extends BasePage {
      */
     public void selectFirstSizeOption() {
         try {
-            List<WebElement> sizeOptions = isElementDisplayed(sizeOptionsXpath) ?
-                driver.findElements(sizeOptionsXpath) :
-                driver.findElements(sizeOptionsCss);
+            List<WebElement> sizeOptions = findAllOfFirstVisible("sizeOptions", sizeOptionsXpath, sizeOptionsCss);
                 
             if (!sizeOptions.isEmpty()) {
                 LOGGER.info("Selecting first size option");
@@ -170,17 +180,11 @@ public class ProductDetailPage extends BasePage {
     public void setQuantity(int quantity) {
         try {
             LOGGER.info("Setting quantity to: " + quantity);
-            WebElement quantityInput = isElementDisplayed(quantityInputXpath) ?
-                driver.findElement(quantityInputXpath) :
-                driver.findElement(quantityInputCss);
+            WebElement quantityInput = findFirstVisible("quantityInput", quantityInputXpath, quantityInputCss);
                 
-            WebElement increaseBtn = isElementDisplayed(quantityIncreaseXpath) ?
-                driver.findElement(quantityIncreaseXpath) :
-                driver.findElement(quantityIncreaseCss);
+            WebElement increaseBtn = findFirstVisible("quantityIncrease", quantityIncreaseXpath, quantityIncreaseCss);
                 
-            WebElement decreaseBtn = isElementDisplayed(quantityDecreaseXpath) ?
-                driver.findElement(quantityDecreaseXpath) :
-                driver.findElement(quantityDecreaseCss);
+            WebElement decreaseBtn = findFirstVisible("quantityDecrease", quantityDecreaseXpath, quantityDecreaseCss);
             
             // Clear and type directly if input is accessible
             try {
@@ -217,9 +221,7 @@ public class ProductDetailPage extends BasePage {
             jsUtils.scrollToElement(descriptionTab);
             click(descriptionTab);
             
-            WebElement description = isElementDisplayed(productDescriptionXpath) ?
-                driver.findElement(productDescriptionXpath) :
-                driver.findElement(productDescriptionCss);
+            WebElement description = findFirstVisible("productDescription", productDescriptionXpath, productDescriptionCss);
                 
             jsUtils.scrollToElement(description);
             LOGGER.info("Successfully navigated to description tab");
@@ -234,14 +236,12 @@ public class ProductDetailPage extends BasePage {
     public void navigateToReviews() {
         try {
             LOGGER.info("Navigating to product reviews");
-            WebElement reviewsTab = isElementDisplayed(reviewsTabXpath) ?
-                driver.findElement(reviewsTabXpath) :
-                driver.findElement(reviewsTabCss);
+            WebElement reviewsTab = findFirstVisible("reviewsTab", reviewsTabXpath, reviewsTabCss);
                 
             jsUtils.scrollToElement(reviewsTab);
             click(reviewsTab);
             
-            waitUtils.waitForPageLoad();
+            waitUntilReady();
             LOGGER.info("Successfully navigated to reviews tab");
         } catch (Exception e) {
             LOGGER.warning("Error navigating to reviews: " + e.getMessage());
@@ -256,9 +256,7 @@ public class ProductDetailPage extends BasePage {
     public String getProductSpecifications() {
         try {
             LOGGER.info("Getting product specifications");
-            WebElement specifications = isElementDisplayed(productSpecificationsXpath) ?
-                driver.findElement(productSpecificationsXpath) :
-                driver.findElement(productSpecificationsCss);
+            WebElement specifications = findFirstVisible("productSpecifications", productSpecificationsXpath, productSpecificationsCss);
                 
             jsUtils.scrollToElement(specifications);
             return getText(specifications);
@@ -276,9 +274,7 @@ public class ProductDetailPage extends BasePage {
     public String getSellerInfo() {
         try {
             LOGGER.info("Getting seller information");
-            WebElement sellerInfo = isElementDisplayed(sellerInfoXpath) ?
-                driver.findElement(sellerInfoXpath) :
-                driver.findElement(sellerInfoCss);
+            WebElement sellerInfo = findFirstVisible("sellerInfo", sellerInfoXpath, sellerInfoCss);
                 
             jsUtils.scrollToElement(sellerInfo);
             return getText(sellerInfo);
@@ -301,16 +297,13 @@ public class ProductDetailPage extends BasePage {
             selectFirstSizeOption();
             
             // Click the Buy Now button
-            WebElement buyNowButton = isElementDisplayed(buyNowButtonXpath) ?
-                driver.findElement(buyNowButtonXpath) :
-                driver.findElement(buyNowButtonCss);
+            WebElement buyNowButton = findFirstVisible("buyNowButton", buyNowButtonXpath, buyNowButtonCss);
                 
             jsUtils.scrollToElement(buyNowButton);
             click(buyNowButton);
             
-            waitUtils.waitForPageLoad();
             LOGGER.info("Successfully clicked Buy Now button");
-            return new CheckoutPage(driver);
+            return awaitPage(new CheckoutPage(driver));
         } catch (Exception e) {
             LOGGER.severe("Error clicking Buy Now button: " + e.getMessage());
             throw e;
@@ -1,13 +1,16 @@
 package com.aliexpress.automation.pages;
 
+import com.aliexpress.automation.base.DriverManager;
+import com.aliexpress.automation.pages.model.ProductSummary;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.logging.Logger;
 
 /**
@@ -36,10 +39,27 @@ public class ProductSearchPage extends BasePage {
     private final By paginationCss = By.cssSelector(".pagination a");
     private final By nextPageCss = By.cssSelector(".next-page, a[aria-label='Next Page']");
 
+    /**
+     * Creates the page for the WebDriver owned by the current test thread
+     */
+    public ProductSearchPage() {
+        this(DriverManager.getDriver());
+    }
+
     public ProductSearchPage(WebDriver driver) {
         super(driver);
     }
 
+    /**
+     * Search results are usable once the first result card or the filter panel is in the DOM
+     *
+     * @return Readiness condition for this page
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return readyWhen(() -> isAnyElementDisplayed(null, searchResultsCss, filterPanelCss));
+    }
+
     /**
      * Gets all product elements from search results
      *
@@ -48,7 +68,7 @@ public class ProductSearchPage extends BasePage {
     public List<WebElement> getSearchResults() {
         try {
             LOGGER.info("Getting search results");
-            waitUtils.waitForPageLoad();
+            waitUntilReady();
             return driver.findElements(searchResultsCss);
         } catch (Exception e) {
             LOGGER.severe("Error getting search results: " + e.getMessage());
@@ -56,6 +76,34 @@ public class ProductSearchPage extends BasePage {
         }
     }
 
+    /**
+     * Reads title, price, URL, rating and seller of all search results with one script call
+     *
+     * @return Product summaries in page order
+     */
+    public List<ProductSummary> getProductSummaries() {
+        try {
+            LOGGER.info("Extracting search result summaries");
+            waitUntilReady();
+            return domExtractor.extract(searchResultsCss, ProductSummary.FIELDS).stream()
+                    .map(ProductSummary::fromRecord)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            LOGGER.severe("Error extracting search result summaries: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Checks if the search results are ordered by price
+     *
+     * @param ascending true for low to high, false for high to low
+     * @return true if the displayed prices are in the requested order
+     */
+    public boolean isSortedByPrice(boolean ascending) {
+        return ProductSummary.isSortedByPrice(getProductSummaries(), ascending);
+    }
+
     /**
      * Opens a product by index from search results
      *
@@ -75,8 +123,7 @@ public class ProductSearchPage extends BasePage {
             jsUtils.scrollToElement(product);
             click(product);
             
-            waitUtils.waitForPageLoad();
-            return new ProductDetailPage(driver);
+            return awaitPage(new ProductDetailPage(driver));
         } catch (Exception e) {
             LOGGER.severe("Error opening product: " + e.getMessage());
             throw e;
@@ -92,17 +139,13 @@ public class ProductSearchPage extends BasePage {
         try {
             LOGGER.info("Sorting by: " + option);
             // First click the sort dropdown
-            WebElement sortDropdown = isElementDisplayed(sortByDropdownXpath) ?
-                driver.findElement(sortByDropdownXpath) :
-                driver.findElement(sortByDropdownCss);
+            WebElement sortDropdown = findFirstVisible("sortByDropdown", sortByDropdownXpath, sortByDropdownCss);
             
             click(sortDropdown);
             
             // Then select the option
             By optionLocator = By.xpath("//a[contains(text(), '" + option + "')]");
-            click(optionLocator);
-            
-            waitUtils.waitForPageLoad();
+            navigateWithin(searchResultsCss, () -> click(optionLocator));
             LOGGER.info("Successfully sorted by: " + option);
         } catch (Exception e) {
             LOGGER.severe("Error sorting results: " + e.getMessage());
@@ -120,22 +163,16 @@ public class ProductSearchPage extends BasePage {
             LOGGER.info("Setting price range: " + minPrice + " - " + maxPrice);
             
             // Find the min and max price inputs
-            WebElement minInput = isElementDisplayed(priceMinInputXpath) ?
-                driver.findElement(priceMinInputXpath) :
-                driver.findElement(priceMinInputCss);
+            WebElement minInput = findFirstVisible("priceMinInput", priceMinInputXpath, priceMinInputCss);
                 
-            WebElement maxInput = isElementDisplayed(priceMaxInputXpath) ?
-                driver.findElement(priceMaxInputXpath) :
-                driver.findElement(priceMaxInputCss);
+            WebElement maxInput = findFirstVisible("priceMaxInput", priceMaxInputXpath, priceMaxInputCss);
             
             // Clear and set values
             type(minInput, minPrice);
             type(maxInput, maxPrice);
             
             // Submit by pressing Enter on the max input
-            maxInput.sendKeys(Keys.ENTER);
-            
-            waitUtils.waitForPageLoad();
+            navigateWithin(searchResultsCss, () -> maxInput.sendKeys(Keys.ENTER));
             LOGGER.info("Price range set successfully");
         } catch (Exception e) {
             LOGGER.severe("Error setting price range: " + e.getMessage());
@@ -148,14 +185,10 @@ public class ProductSearchPage extends BasePage {
     public void goToNextPage() {
         try {
             LOGGER.info("Navigating to next page");
-            WebElement nextPageButton = isElementDisplayed(nextPageXpath) ?
-                driver.findElement(nextPageXpath) :
-                driver.findElement(nextPageCss);
+            WebElement nextPageButton = findFirstVisible("nextPage", nextPageXpath, nextPageCss);
             
             jsUtils.scrollToElement(nextPageButton);
-            click(nextPageButton);
-            
-            waitUtils.waitForPageLoad();
+            navigateWithin(searchResultsCss, () -> click(nextPageButton));
             LOGGER.info("Successfully navigated to next page");
         } catch (Exception e) {
             LOGGER.severe("Error navigating to next page: " + e.getMessage());
@@ -175,9 +208,7 @@ public class ProductSearchPage extends BasePage {
             
             WebElement pageLink = waitUtils.waitForElementToBeClickable(pageLocator);
             jsUtils.scrollToElement(pageLink);
-            click(pageLink);
-            
-            waitUtils.waitForPageLoad();
+            navigateWithin(searchResultsCss, () -> click(pageLink));
             LOGGER.info("Successfully navigated to page: " + pageNumber);
         } catch (Exception e) {
             LOGGER.severe("Error navigating to page " + pageNumber + ": " + e.getMessage());
@@ -208,9 +239,7 @@ public class ProductSearchPage extends BasePage {
             WebElement filterValueElement = waitUtils.waitForElementToBeVisible(filterValueLocator, filterSection);
             
             jsUtils.scrollToElement(filterValueElement);
-            click(filterValueElement);
-            
-            waitUtils.waitForPageLoad();
+            navigateWithin(searchResultsCss, () -> click(filterValueElement));
             LOGGER.info("Successfully applied filter");
         } catch (Exception e) {
             LOGGER.severe("Error applying filter: " + e.getMessage());
@@ -218,18 +247,14 @@ public class ProductSearchPage extends BasePage {
     }
 
     /**
-     * Finds element by XPath within the specified parent element
+     * Checks if an element is displayed within the specified parent element, without waiting
      *
-     * @param xpathLocator XPath locator to find element
-     * @param parent Parent WebElement to search within
-     * @return WebElement found, or null if not found
+     * @param locator Locator to find element
+     * @param parent  Parent WebElement to search within
+     * @return true if element is displayed, false otherwise
      */
     private boolean isElementDisplayed(By locator, WebElement parent) {
-        try {
-            return parent.findElement(locator).isDisplayed();
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        return locatorResolver.findFirstVisible(parent, locator) != null;
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.aliexpress.automation.pages.factory;
 
+import com.aliexpress.automation.base.DriverManager;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -39,9 +40,16 @@ public class HomePage {
     @FindBy(xpath = "//div[contains(@class, 'close-popup') or contains(@class, 'btn-close')]")
     private WebElement closePopupButton;
 
+    /**
+     * Creates the page for the WebDriver owned by the current test thread
+     */
+    public HomePage() {
+        this(DriverManager.getDriver());
+    }
+
     public HomePage(WebDriver driver) {
         this.driver = driver;
-        PageFactory.initElements(driver, this);
+        PageFactory.initElements(new RacingElementLocatorFactory(driver), this);
         LOGGER.info("Initialized Home Page elements with Page Factory");
     }
 
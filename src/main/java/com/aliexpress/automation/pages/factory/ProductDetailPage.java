@@ -1,5 +1,6 @@
 package com.aliexpress.automation.pages.factory;
 
+import com.aliexpress.automation.base.DriverManager;
 import com.aliexpress.automation.utils.JavaScriptUtils;
 import com.aliexpress.automation.utils.WaitUtils;
 import org.openqa.selenium.WebDriver;
@@ -64,11 +65,18 @@ public class ProductDetailPage {
     @FindBy(css = ".tab-description, .description-tab")
     private WebElement descriptionTab;
 
+    /**
+     * Creates the page for the WebDriver owned by the current test thread
+     */
+    public ProductDetailPage() {
+        this(DriverManager.getDriver());
+    }
+
     public ProductDetailPage(WebDriver driver) {
         this.driver = driver;
         this.waitUtils = new WaitUtils(driver);
         this.jsUtils = new JavaScriptUtils(driver);
-        PageFactory.initElements(driver, this);
+        PageFactory.initElements(new RacingElementLocatorFactory(driver), this);
         LOGGER.info("Initialized Product Detail Page elements with Page Factory");
     }
 
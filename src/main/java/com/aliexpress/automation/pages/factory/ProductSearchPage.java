@@ -1,13 +1,18 @@
 package com.aliexpress.automation.pages.factory;
 
+import com.aliexpress.automation.base.DriverManager;
+import com.aliexpress.automation.pages.model.ProductSummary;
+import com.aliexpress.automation.utils.DomExtractor;
 import com.aliexpress.automation.utils.JavaScriptUtils;
 import com.aliexpress.automation.utils.WaitUtils;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
 
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.logging.Logger;
 
 /**
@@ -15,11 +20,13 @@ import java.util.logging.Logger;
  */
 public class ProductSearchPage {
     private static final Logger LOGGER = Logger.getLogger(ProductSearchPage.class.getName());
+    private static final String SEARCH_RESULTS_CSS = ".product-item, .search-item, .item-card";
     private WebDriver driver;
     private WaitUtils waitUtils;
     private JavaScriptUtils jsUtils;
+    private DomExtractor domExtractor;
 
-    @FindBy(css = ".product-item, .search-item, .item-card")
+    @FindBy(css = SEARCH_RESULTS_CSS)
     private List<WebElement> searchResults;
     
     @FindBy(css = ".sort-dropdown, .sort-options")
@@ -55,11 +62,19 @@ public class ProductSearchPage {
     @FindBy(css = ".results-count, .search-count")
     private WebElement resultsCount;
 
+    /**
+     * Creates the page for the WebDriver owned by the current test thread
+     */
+    public ProductSearchPage() {
+        this(DriverManager.getDriver());
+    }
+
     public ProductSearchPage(WebDriver driver) {
         this.driver = driver;
         this.waitUtils = new WaitUtils(driver);
         this.jsUtils = new JavaScriptUtils(driver);
-        PageFactory.initElements(driver, this);
+        this.domExtractor = new DomExtractor(driver);
+        PageFactory.initElements(new RacingElementLocatorFactory(driver), this);
         LOGGER.info("Initialized Product Search Page elements with Page Factory");
     }
 
@@ -73,6 +88,29 @@ public class ProductSearchPage {
         return searchResults;
     }
 
+    /**
+     * Reads title, price, URL, rating and seller of all search results with one script call
+     *
+     * @return Product summaries in page order
+     */
+    public List<ProductSummary> getProductSummaries() {
+        waitUtils.waitForPageLoad();
+        return domExtractor.extract(By.cssSelector(SEARCH_RESULTS_CSS), ProductSummary.FIELDS)
+                .stream()
+                .map(ProductSummary::fromRecord)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Checks if the search results are ordered by price
+     *
+     * @param ascending true for low to high, false for high to low
+     * @return true if the displayed prices are in the requested order
+     */
+    public boolean isSortedByPrice(boolean ascending) {
+        return ProductSummary.isSortedByPrice(getProductSummaries(), ascending);
+    }
+
     /**
      * Opens a product by index
      *
@@ -0,0 +1,114 @@
+package com.aliexpress.automation.pages.factory;
+
+import com.aliexpress.automation.utils.LocatorResolver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Element locator factory for the Page Factory pages. A {@code @FindBy} CSS selector made of
+ * several comma separated alternatives is resolved as a set of candidates, so the alternative
+ * that matched last time is tried first and recorded in the locator cache under the field name.
+ * Everything else, and lists of elements, is located the same way as the default factory.
+ */
+public class RacingElementLocatorFactory implements ElementLocatorFactory {
+    private final WebDriver driver;
+
+    public RacingElementLocatorFactory(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    @Override
+    public ElementLocator createLocator(Field field) {
+        return new RacingElementLocator(driver, field);
+    }
+
+    /**
+     * Splits a CSS selector group into its alternatives, ignoring commas inside quotes,
+     * brackets and parentheses
+     *
+     * @param selector CSS selector, possibly a comma separated group
+     * @return Alternatives in declared order
+     */
+    static List<String> splitSelectorGroup(String selector) {
+        List<String> alternatives = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < selector.length(); i++) {
+            char c = selector.charAt(i);
+            if (quote != 0) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                alternatives.add(selector.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        alternatives.add(selector.substring(start).trim());
+        alternatives.removeIf(String::isEmpty);
+        return alternatives;
+    }
+
+    private static class RacingElementLocator implements ElementLocator {
+        private final WebDriver driver;
+        private final String element;
+        private final By by;
+        private final By[] candidates;
+        private final LocatorResolver locatorResolver;
+
+        RacingElementLocator(WebDriver driver, Field field) {
+            this.driver = driver;
+            this.element = field.getName();
+            this.by = new Annotations(field).buildBy();
+            this.candidates = toCandidates(by);
+            this.locatorResolver = new LocatorResolver(driver, field.getDeclaringClass());
+        }
+
+        @Override
+        public WebElement findElement() {
+            if (candidates.length > 1) {
+                WebElement match = locatorResolver.findFirstVisible(element, null, candidates);
+                if (match != null) {
+                    return match;
+                }
+            }
+            // No visible match yet: keep the default behaviour, including the implicit wait and NoSuchElementException
+            return driver.findElement(by);
+        }
+
+        @Override
+        public List<WebElement> findElements() {
+            return driver.findElements(by);
+        }
+
+        private static By[] toCandidates(By by) {
+            if (!(by instanceof By.ByCssSelector)) {
+                return new By[]{by};
+            }
+            List<String> alternatives = splitSelectorGroup(
+                    String.valueOf(((By.Remotable) by).getRemoteParameters().value()));
+            By[] candidates = new By[alternatives.size()];
+            for (int i = 0; i < candidates.length; i++) {
+                candidates[i] = By.cssSelector(alternatives.get(i));
+            }
+            return candidates;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.aliexpress.automation.pages.model;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One row of the shopping cart, as read in bulk by the cart page
+ */
+public class CartItem {
+    /** Fields read from each cart row, see {@link com.aliexpress.automation.utils.DomExtractor} */
+    public static final Map<String, String> FIELDS;
+
+    static {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("title", ".item-title, .product-name");
+        fields.put("price", ".item-price, .price");
+        fields.put("quantity", "input.quantity-input, input[type='number']@value");
+        fields.put("url", "a[href]@href");
+        fields.put("seller", ".store-name, .seller-name, .shop-name");
+        FIELDS = Collections.unmodifiableMap(fields);
+    }
+
+    private final String title;
+    private final String price;
+    private final String quantity;
+    private final String url;
+    private final String seller;
+
+    public CartItem(String title, String price, String quantity, String url, String seller) {
+        this.title = title;
+        this.price = price;
+        this.quantity = quantity;
+        this.url = url;
+        this.seller = seller;
+    }
+
+    /**
+     * Creates a cart item from a record extracted with {@link #FIELDS}
+     *
+     * @param record Extracted field values
+     * @return CartItem instance
+     */
+    public static CartItem fromRecord(Map<String, String> record) {
+        return new CartItem(record.get("title"), record.get("price"), record.get("quantity"),
+                record.get("url"), record.get("seller"));
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getPrice() {
+        return price;
+    }
+
+    /**
+     * Gets the unit price as a number, e.g. 3.49 for "US $3.49"
+     *
+     * @return Price or null if the price text has no number
+     */
+    public BigDecimal getPriceValue() {
+        return Prices.parse(price);
+    }
+
+    /**
+     * Gets the quantity entered for the item
+     *
+     * @return Quantity, or 1 if the row has no quantity input
+     */
+    public int getQuantity() {
+        try {
+            return quantity == null ? 1 : Integer.parseInt(quantity.trim());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getSeller() {
+        return seller;
+    }
+
+    @Override
+    public String toString() {
+        return "CartItem{title='" + title + "', price='" + price + "', quantity=" + quantity
+                + ", url='" + url + "', seller='" + seller + "'}";
+    }
+}
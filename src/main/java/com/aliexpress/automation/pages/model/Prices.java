@@ -0,0 +1,46 @@
+package com.aliexpress.automation.pages.model;
+
+import java.math.BigDecimal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses displayed prices such as "US $1,234.56" or "12,59 EUR"
+ */
+final class Prices {
+    private static final Pattern NUMBER = Pattern.compile("\\d[\\d,.]*");
+
+    private Prices() {
+    }
+
+    /**
+     * Parses the first number in a price text. Whichever of '.' and ',' comes last is the
+     * decimal separator if one or two digits follow it, so "1,234.56", "1.234,56" and "12,59"
+     * all parse as expected; every other '.' or ',' is a thousands separator.
+     *
+     * @param price Price text
+     * @return Price or null if the text has no number
+     */
+    static BigDecimal parse(String price) {
+        if (price == null) {
+            return null;
+        }
+        Matcher matcher = NUMBER.matcher(price);
+        if (!matcher.find()) {
+            return null;
+        }
+        String number = matcher.group();
+        int separator = Math.max(number.lastIndexOf('.'), number.lastIndexOf(','));
+        int decimals = separator < 0 ? 0 : number.length() - separator - 1;
+        if (decimals == 1 || decimals == 2) {
+            number = number.substring(0, separator).replaceAll("[,.]", "") + "." + number.substring(separator + 1);
+        } else {
+            number = number.replaceAll("[,.]", "");
+        }
+        try {
+            return new BigDecimal(number);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.aliexpress.automation.pages.model;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One product card of the search results, as read in bulk by the search pages
+ */
+public class ProductSummary {
+    /** Fields read from each result card, see {@link com.aliexpress.automation.utils.DomExtractor} */
+    public static final Map<String, String> FIELDS;
+
+    static {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("title", ".item-title, .product-title, .multi--titleText, h3");
+        fields.put("price", ".price-current, .price, .product-price");
+        fields.put("url", "a[href]@href");
+        fields.put("rating", ".rating, .star-score, .evaluation-score");
+        fields.put("seller", ".store-name, .seller-name, .shop-name");
+        FIELDS = Collections.unmodifiableMap(fields);
+    }
+
+    private final String title;
+    private final String price;
+    private final String url;
+    private final String rating;
+    private final String seller;
+
+    public ProductSummary(String title, String price, String url, String rating, String seller) {
+        this.title = title;
+        this.price = price;
+        this.url = url;
+        this.rating = rating;
+        this.seller = seller;
+    }
+
+    /**
+     * Creates a summary from a record extracted with {@link #FIELDS}
+     *
+     * @param record Extracted field values
+     * @return ProductSummary instance
+     */
+    public static ProductSummary fromRecord(Map<String, String> record) {
+        return new ProductSummary(record.get("title"), record.get("price"), record.get("url"),
+                record.get("rating"), record.get("seller"));
+    }
+
+    /**
+     * Checks if the products are ordered by price. Products without a readable price are ignored.
+     *
+     * @param products  Products in page order
+     * @param ascending true for low to high, false for high to low
+     * @return true if the prices are in the requested order
+     */
+    public static boolean isSortedByPrice(List<ProductSummary> products, boolean ascending) {
+        BigDecimal previous = null;
+        for (ProductSummary product : products) {
+            BigDecimal current = product.getPriceValue();
+            if (current == null) {
+                continue;
+            }
+            if (previous != null && (ascending ? previous.compareTo(current) > 0 : previous.compareTo(current) < 0)) {
+                return false;
+            }
+            previous = current;
+        }
+        return true;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getPrice() {
+        return price;
+    }
+
+    /**
+     * Gets the price as a number, e.g. 19.99 for "US $19.99"
+     *
+     * @return Price or null if the price text has no number
+     */
+    public BigDecimal getPriceValue() {
+        return Prices.parse(price);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getRating() {
+        return rating;
+    }
+
+    public String getSeller() {
+        return seller;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductSummary{title='" + title + "', price='" + price + "', url='" + url
+                + "', rating='" + rating + "', seller='" + seller + "'}";
+    }
+}
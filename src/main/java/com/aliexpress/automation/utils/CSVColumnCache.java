@@ -0,0 +1,272 @@
+package com.aliexpress.automation.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Keeps parsed CSV files in memory as column arrays, so that repeated column, row and
+ * whole-file lookups on the same file parse it only once. Entries are keyed by path and
+ * delimiter and are dropped when the file's modification time or size changes. The cache
+ * is bounded by {@code csv.cache.max.mb}; the least recently used files are evicted first.
+ * Files that cannot fit at all are not cached: parsing stops once a table outgrows the
+ * limit, and the file is not parsed into the cache again until it changes.
+ */
+final class CSVColumnCache {
+    private static final Logger LOGGER = Logger.getLogger(CSVColumnCache.class.getName());
+    /** Rough heap cost of a String beyond its characters */
+    private static final int STRING_OVERHEAD = 48;
+    private static CSVColumnCache instance;
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Table> tables = new LinkedHashMap<>(16, 0.75f, true);
+    /** Modification time and size of files found too large to cache, by key */
+    private final Map<String, String> oversized = new HashMap<>();
+    private long cachedBytes;
+
+    CSVColumnCache(boolean enabled, long maxBytes) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the process-wide cache
+     *
+     * @return Shared CSVColumnCache instance
+     */
+    static synchronized CSVColumnCache getInstance() {
+        if (instance == null) {
+            ConfigReader configReader = new ConfigReader();
+            instance = new CSVColumnCache(
+                    Boolean.parseBoolean(configReader.getProperty("csv.cache.enabled", "true")),
+                    Long.parseLong(configReader.getProperty("csv.cache.max.mb", "64")) * 1024 * 1024);
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the parsed contents of a file, parsing it if it is not cached or has changed
+     *
+     * @param filePath  Path of the CSV file
+     * @param delimiter Field delimiter
+     * @param source    Opens the file for parsing
+     * @return Parsed table, or null if caching is disabled or the file is too large to cache,
+     *         in which case the caller should stream the file
+     * @throws IOException if the file cannot be read
+     */
+    Table get(String filePath, char delimiter, RecordSource source) throws IOException {
+        if (!enabled) {
+            return null;
+        }
+        Path file = Paths.get(filePath).toAbsolutePath().normalize();
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        long fileSize = Files.size(file);
+        // A char takes at least as much heap as its encoded byte, twice as much for ASCII
+        if (fileSize * 2 > maxBytes) {
+            return null;
+        }
+
+        String key = file + "|" + delimiter;
+        String stamp = lastModified + ":" + fileSize;
+        synchronized (this) {
+            Table table = tables.get(key);
+            if (table != null && table.lastModified == lastModified && table.fileSize == fileSize) {
+                return table;
+            }
+            if (stamp.equals(oversized.get(key))) {
+                return null;
+            }
+        }
+
+        // Parse outside the lock so that threads reading other files are not blocked
+        Table table;
+        try (CSVReader.RecordIterator records = source.open()) {
+            table = Table.read(records, lastModified, fileSize, maxBytes);
+        }
+        if (table == null) {
+            LOGGER.fine("CSV file too large to cache: " + key);
+            remove(key, stamp);
+            return null;
+        }
+        put(key, table);
+        return table;
+    }
+
+    private synchronized void remove(String key, String oversizedStamp) {
+        Table previous = tables.remove(key);
+        if (previous != null) {
+            cachedBytes -= previous.estimatedBytes;
+        }
+        if (oversizedStamp == null) {
+            oversized.remove(key);
+        } else {
+            oversized.put(key, oversizedStamp);
+        }
+    }
+
+    private synchronized void put(String key, Table table) {
+        remove(key, null);
+        tables.put(key, table);
+        cachedBytes += table.estimatedBytes;
+
+        Iterator<Map.Entry<String, Table>> eldest = tables.entrySet().iterator();
+        while (cachedBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Table> entry = eldest.next();
+            cachedBytes -= entry.getValue().estimatedBytes;
+            eldest.remove();
+            LOGGER.fine("Evicted CSV file from cache: " + entry.getKey());
+        }
+    }
+
+    /**
+     * Opens the records of a file
+     */
+    interface RecordSource {
+        CSVReader.RecordIterator open() throws IOException;
+    }
+
+    /**
+     * Immutable column-major copy of all records of a file, header row included as record 0
+     */
+    static final class Table {
+        private final String[][] columns;
+        private final int[] recordLengths;
+        private final int recordCount;
+        private final Map<String, Integer> headerIndex = new HashMap<>();
+        private final long lastModified;
+        private final long fileSize;
+        private final long estimatedBytes;
+
+        private Table(String[][] columns, int[] recordLengths, int recordCount, long lastModified, long fileSize,
+                      long estimatedBytes) {
+            this.columns = columns;
+            this.recordLengths = recordLengths;
+            this.recordCount = recordCount;
+            this.lastModified = lastModified;
+            this.fileSize = fileSize;
+            this.estimatedBytes = estimatedBytes;
+            if (recordCount > 0) {
+                for (int i = recordLengths[0] - 1; i >= 0; i--) {
+                    headerIndex.put(columns[i][0], i);
+                }
+            }
+        }
+
+        /**
+         * Reads all records into a table, giving up once it would take more than maxBytes
+         *
+         * @param records      Records to read, header row first
+         * @param lastModified Modification time of the file
+         * @param fileSize     Size of the file
+         * @param maxBytes     Heap the table may take
+         * @return Table, or null if it would take more than maxBytes
+         */
+        static Table read(Iterator<String[]> records, long lastModified, long fileSize, long maxBytes) {
+            String[][] columns = new String[0][];
+            int[] recordLengths = new int[64];
+            int count = 0;
+            long bytes = 0;
+            // Repeated values are stored once
+            DataRow.ValuePool values = new DataRow.ValuePool();
+
+            while (records.hasNext()) {
+                String[] record = records.next();
+                if (count == recordLengths.length) {
+                    recordLengths = Arrays.copyOf(recordLengths, count * 2);
+                    for (int i = 0; i < columns.length; i++) {
+                        columns[i] = Arrays.copyOf(columns[i], count * 2);
+                    }
+                }
+                if (record.length > columns.length) {
+                    int width = columns.length;
+                    columns = Arrays.copyOf(columns, record.length);
+                    for (int i = width; i < columns.length; i++) {
+                        columns[i] = new String[recordLengths.length];
+                    }
+                }
+                for (int i = 0; i < record.length; i++) {
+                    String value = values.intern(record[i]);
+                    if (value == record[i]) {
+                        bytes += STRING_OVERHEAD + 2L * value.length();
+                    }
+                    columns[i][count] = value;
+                }
+                recordLengths[count++] = record.length;
+                if (bytes + 8L * columns.length * count + 4L * count > maxBytes) {
+                    return null;
+                }
+            }
+
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = Arrays.copyOf(columns[i], count);
+                // Short rows read as "" in a column; getRecord stops at the record's own length
+                for (int j = 0; j < count; j++) {
+                    if (columns[i][j] == null) {
+                        columns[i][j] = "";
+                    }
+                }
+            }
+            return new Table(columns, Arrays.copyOf(recordLengths, count), count, lastModified, fileSize,
+                    bytes + 8L * columns.length * count + 4L * count);
+        }
+
+        /**
+         * @return Number of records, including the header row
+         */
+        int getRecordCount() {
+            return recordCount;
+        }
+
+        /**
+         * @param index Record index, 0 being the header row
+         * @return Copy of the record's fields
+         */
+        String[] getRecord(int index) {
+            String[] record = new String[recordLengths[index]];
+            for (int i = 0; i < record.length; i++) {
+                record[i] = columns[i][index];
+            }
+            return record;
+        }
+
+        /**
+         * @param name Column name
+         * @return Index of the first column with that header, or -1
+         */
+        int getColumnIndex(String name) {
+            return headerIndex.getOrDefault(name, -1);
+        }
+
+        /**
+         * @return Estimated heap taken by the table
+         */
+        long getEstimatedBytes() {
+            return estimatedBytes;
+        }
+
+        /**
+         * Gets a column as a new array, since callers may modify what they are given.
+         * The copy is a single array copy; the values themselves are shared.
+         *
+         * @param columnIndex Column index (0-based)
+         * @return Copy of the values of the column in all data rows, "" where a row is too short
+         */
+        String[] getColumn(int columnIndex) {
+            int rows = Math.max(recordCount - 1, 0);
+            if (columnIndex < 0 || columnIndex >= columns.length) {
+                String[] empty = new String[rows];
+                Arrays.fill(empty, "");
+                return empty;
+            }
+            return Arrays.copyOfRange(columns[columnIndex], 1, rows + 1);
+        }
+    }
+}
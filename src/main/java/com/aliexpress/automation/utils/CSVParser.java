@@ -0,0 +1,188 @@
+package com.aliexpress.automation.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 record parser over a character stream. Fields may be quoted with double quotes,
+ * quoted fields may contain delimiters, line breaks and escaped quotes ({@code ""}), and
+ * records may end with CRLF, LF or CR. Blank lines are skipped.
+ * The input is read through one reusable char buffer and unquoted runs are copied in bulk,
+ * so memory use does not depend on the file size.
+ */
+final class CSVParser implements RecordCursor {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private static final int START_OF_FIELD = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder(128);
+    private final List<String> fields = new ArrayList<>();
+    private int position;
+    private int limit;
+    private boolean skipLineFeed;
+    private boolean atStart = true;
+
+    CSVParser(Reader reader, char delimiter) {
+        if (delimiter == QUOTE || delimiter == '\r' || delimiter == '\n') {
+            throw new IllegalArgumentException("Unsupported CSV delimiter: " + delimiter);
+        }
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    public String[] next() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        int state = START_OF_FIELD;
+        boolean inRecord = false;
+
+        while (true) {
+            if (position >= limit && !fill()) {
+                if (!inRecord) {
+                    return null;
+                }
+                return endRecord();
+            }
+            char c = buffer[position++];
+
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+
+            switch (state) {
+                case START_OF_FIELD:
+                    if (c == QUOTE) {
+                        state = QUOTED;
+                        inRecord = true;
+                    } else if (c == delimiter) {
+                        fields.add("");
+                        inRecord = true;
+                    } else if (c == '\r' || c == '\n') {
+                        skipLineFeed = c == '\r';
+                        if (inRecord) {
+                            return endRecord();
+                        }
+                        // Blank line
+                    } else {
+                        state = UNQUOTED;
+                        inRecord = true;
+                        position = appendUntil(position - 1, false);
+                    }
+                    break;
+
+                case UNQUOTED:
+                    if (c == delimiter) {
+                        endField();
+                        state = START_OF_FIELD;
+                    } else if (c == '\r' || c == '\n') {
+                        skipLineFeed = c == '\r';
+                        return endRecord();
+                    } else {
+                        position = appendUntil(position - 1, false);
+                    }
+                    break;
+
+                case QUOTED:
+                    if (c == QUOTE) {
+                        state = QUOTE_IN_QUOTED;
+                    } else {
+                        position = appendUntil(position - 1, true);
+                    }
+                    break;
+
+                default:
+                    // QUOTE_IN_QUOTED: either an escaped quote or the end of the quoted part
+                    if (c == QUOTE) {
+                        field.append(QUOTE);
+                        state = QUOTED;
+                    } else if (c == delimiter) {
+                        endField();
+                        state = START_OF_FIELD;
+                    } else if (c == '\r' || c == '\n') {
+                        skipLineFeed = c == '\r';
+                        return endRecord();
+                    } else {
+                        // Lenient: text after a closing quote is kept as is
+                        field.append(c);
+                        state = UNQUOTED;
+                    }
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Copies characters from the buffer into the current field up to the next character
+     * that can change the parser state
+     *
+     * @param from   Buffer index to start at
+     * @param quoted true inside quotes, where only a quote ends the run
+     * @return Buffer index of the first character not copied
+     */
+    private int appendUntil(int from, boolean quoted) {
+        int end = from;
+        if (quoted) {
+            while (end < limit && buffer[end] != QUOTE) {
+                end++;
+            }
+        } else {
+            while (end < limit) {
+                char c = buffer[end];
+                if (c == delimiter || c == '\r' || c == '\n') {
+                    break;
+                }
+                end++;
+            }
+        }
+        field.append(buffer, from, end - from);
+        return end;
+    }
+
+    private void endField() {
+        fields.add(field.toString());
+        field.setLength(0);
+    }
+
+    private String[] endRecord() {
+        endField();
+        return fields.toArray(new String[0]);
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            limit = 0;
+            position = 0;
+            return false;
+        }
+        position = 0;
+        limit = read;
+        if (atStart) {
+            atStart = false;
+            if (buffer[0] == BYTE_ORDER_MARK) {
+                position = 1;
+                return limit > 1 || fill();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -1,29 +1,58 @@
 package com.aliexpress.automation.utils;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Utility class for reading data from CSV files
+ * Utility class for reading data from CSV files.
+ * Files are parsed according to RFC 4180, so quoted fields may contain delimiters, quotes
+ * and line breaks. Besides the methods that return the whole file, records can be streamed
+ * one at a time with {@link #stream()}, {@link #streamAsMap()} or {@link #iterator()}, which
+ * walks files of any size in constant memory.
+ * The read methods keep the parsed file in a shared column cache (see {@code csv.cache.*}),
+ * so reading several columns or rows of the same file parses it only once. Files compiled
+ * into a snapshot by the build (see {@link TestDataSnapshotCompiler}) are not parsed at all.
  */
 public class CSVReader {
     private static final Logger LOGGER = Logger.getLogger(CSVReader.class.getName());
     private String filePath;
-    private String delimiter;
+    private char delimiter;
+    private boolean memoryMapped;
 
     public CSVReader(String filePath) {
         this(filePath, ",");
     }
 
     public CSVReader(String filePath, String delimiter) {
+        this(filePath, delimiter, false);
+    }
+
+    /**
+     * Creates a reader that can read the file through a memory mapping, which avoids
+     * copying data through read calls on large files
+     *
+     * @param filePath     Path of the CSV file
+     * @param delimiter    Field delimiter, a single character such as "," or ";"
+     * @param memoryMapped true to memory-map the file instead of reading it through a stream
+     */
+    public CSVReader(String filePath, String delimiter, boolean memoryMapped) {
         this.filePath = filePath;
-        this.delimiter = delimiter;
+        this.delimiter = toDelimiterChar(delimiter);
+        this.memoryMapped = memoryMapped;
     }
 
     /**
@@ -33,56 +62,53 @@ public class CSVReader {
      */
     public List<String[]> readAll() {
         List<String[]> allData = new ArrayList<>();
-        
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] values = line.split(delimiter);
-                allData.add(values);
+
+        try {
+            CSVColumnCache.Table table = cachedTable();
+            if (table != null) {
+                for (int i = 0; i < table.getRecordCount(); i++) {
+                    allData.add(table.getRecord(i));
+                }
+            } else {
+                try (RecordIterator records = iterator()) {
+                    records.forEachRemaining(allData::add);
+                }
             }
             LOGGER.info("Successfully read CSV data from: " + filePath);
-        } catch (IOException e) {
+        } catch (IOException | UncheckedIOException e) {
             LOGGER.severe("Error reading CSV file: " + e.getMessage());
         }
-        
+
         return allData;
     }
 
     /**
      * Reads CSV data as a list of maps
-     * Each map represents a row with column names as keys
+     * Each map represents a row with column names as keys; all rows share one header index
+     * (see {@link DataRow})
      *
      * @return List of maps with column names as keys and cell data as values
      */
     public List<Map<String, String>> readAllAsMap() {
         List<Map<String, String>> allData = new ArrayList<>();
-        
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            String[] headers = null;
-            
-            // Read header line
-            if ((line = br.readLine()) != null) {
-                headers = line.split(delimiter);
-            }
-            
-            // Read data lines
-            while ((line = br.readLine()) != null) {
-                String[] values = line.split(delimiter);
-                Map<String, String> rowData = new HashMap<>();
-                
-                for (int i = 0; i < headers.length && i < values.length; i++) {
-                    rowData.put(headers[i], values[i]);
+
+        try {
+            CSVColumnCache.Table table = cachedTable();
+            if (table != null) {
+                DataRow.Columns columns = new DataRow.Columns(table.getRecordCount() > 0 ? table.getRecord(0) : new String[0]);
+                for (int i = 1; i < table.getRecordCount(); i++) {
+                    allData.add(columns.row(table.getRecord(i), null, null));
+                }
+            } else {
+                try (Stream<Map<String, String>> rows = streamAsMap()) {
+                    rows.forEach(allData::add);
                 }
-                
-                allData.add(rowData);
             }
-            
             LOGGER.info("Successfully read CSV data as map from: " + filePath);
-        } catch (IOException e) {
+        } catch (IOException | UncheckedIOException e) {
             LOGGER.severe("Error reading CSV file: " + e.getMessage());
         }
-        
+
         return allData;
     }
 
@@ -94,31 +120,25 @@ public class CSVReader {
      */
     public String[] readColumn(int columnIndex) {
         List<String> columnData = new ArrayList<>();
-        
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            boolean isFirstLine = true;
-            
-            while ((line = br.readLine()) != null) {
+
+        try {
+            CSVColumnCache.Table table = cachedTable();
+            if (table != null) {
+                LOGGER.info("Successfully read column data from CSV");
+                return table.getColumn(columnIndex);
+            }
+            try (RecordIterator records = iterator()) {
                 // Skip header row
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue;
-                }
-                
-                String[] values = line.split(delimiter);
-                if (columnIndex < values.length) {
-                    columnData.add(values[columnIndex]);
-                } else {
-                    columnData.add("");
+                if (records.hasNext()) {
+                    records.next();
                 }
+                records.forEachRemaining(values -> columnData.add(columnIndex < values.length ? values[columnIndex] : ""));
             }
-            
             LOGGER.info("Successfully read column data from CSV");
-        } catch (IOException e) {
+        } catch (IOException | UncheckedIOException e) {
             LOGGER.severe("Error reading CSV column data: " + e.getMessage());
         }
-        
+
         return columnData.toArray(new String[0]);
     }
 
@@ -130,43 +150,217 @@ public class CSVReader {
      */
     public String[] readColumnByName(String columnName) {
         List<String> columnData = new ArrayList<>();
-        
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            
-            // Read header row
-            if ((line = br.readLine()) != null) {
-                String[] headers = line.split(delimiter);
-                int columnIndex = -1;
-                
-                // Find the index of the requested column
-                for (int i = 0; i < headers.length; i++) {
-                    if (headers[i].equals(columnName)) {
-                        columnIndex = i;
-                        break;
-                    }
-                }
-                
-                if (columnIndex != -1) {
-                    // Read data for the specified column
-                    while ((line = br.readLine()) != null) {
-                        String[] values = line.split(delimiter);
-                        if (columnIndex < values.length) {
-                            columnData.add(values[columnIndex]);
-                        } else {
-                            columnData.add("");
-                        }
-                    }
-                } else {
+
+        try {
+            CSVColumnCache.Table table = cachedTable();
+            if (table != null) {
+                int columnIndex = table.getColumnIndex(columnName);
+                if (columnIndex == -1) {
                     LOGGER.warning("Column '" + columnName + "' not found in CSV file");
+                    return new String[0];
                 }
+                LOGGER.info("Successfully read column '" + columnName + "' data from CSV");
+                return table.getColumn(columnIndex);
+            }
+            try (RecordIterator records = iterator()) {
+                readColumnByName(records, columnName, columnData);
             }
-            
             LOGGER.info("Successfully read column '" + columnName + "' data from CSV");
-        } catch (IOException e) {
+        } catch (IOException | UncheckedIOException e) {
             LOGGER.severe("Error reading CSV column data: " + e.getMessage());
         }
-        
+
         return columnData.toArray(new String[0]);
     }
-}
\ No newline at end of file
+
+    /**
+     * Reads a single data row
+     *
+     * @param rowIndex Index of the row (0-based, not counting the header row)
+     * @return Values of the row, or an empty array if there is no such row
+     */
+    public String[] readRow(int rowIndex) {
+        if (rowIndex < 0) {
+            return new String[0];
+        }
+        try {
+            CSVColumnCache.Table table = cachedTable();
+            if (table != null) {
+                return rowIndex + 1 < table.getRecordCount() ? table.getRecord(rowIndex + 1) : new String[0];
+            }
+            try (Stream<String[]> records = stream()) {
+                return records.skip(rowIndex + 1L).findFirst().orElse(new String[0]);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.severe("Error reading CSV row: " + e.getMessage());
+        }
+        return new String[0];
+    }
+
+    private static void readColumnByName(RecordIterator records, String columnName, List<String> columnData) {
+        if (records.hasNext()) {
+            String[] headers = records.next();
+            int columnIndex = -1;
+
+            // Find the index of the requested column
+            for (int i = 0; i < headers.length; i++) {
+                if (headers[i].equals(columnName)) {
+                    columnIndex = i;
+                    break;
+                }
+            }
+
+            if (columnIndex != -1) {
+                int index = columnIndex;
+                records.forEachRemaining(values -> columnData.add(index < values.length ? values[index] : ""));
+            } else {
+                LOGGER.warning("Column '" + columnName + "' not found in CSV file");
+            }
+        }
+    }
+
+    /**
+     * Streams all records of the file, including the header row. The stream holds the file
+     * open and must be closed, e.g. with try-with-resources.
+     *
+     * @return Lazily parsed records
+     * @throws UncheckedIOException if the file cannot be opened or read
+     */
+    public Stream<String[]> stream() {
+        RecordIterator records = openIterator();
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(records::closeQuietly);
+    }
+
+    /**
+     * Streams the data rows as maps keyed by the header row. Values missing at the end of a
+     * short row are left out of its map. Rows are {@link DataRow}s sharing one header index,
+     * and repeated values share one String. The stream must be closed.
+     *
+     * @return Lazily parsed rows
+     * @throws UncheckedIOException if the file cannot be opened or read
+     */
+    public Stream<Map<String, String>> streamAsMap() {
+        RecordIterator records = openIterator();
+        DataRow.Columns columns;
+        try {
+            columns = new DataRow.Columns(records.hasNext() ? records.next() : new String[0]);
+        } catch (RuntimeException e) {
+            // The stream that would close the file is never returned
+            records.closeQuietly();
+            throw e;
+        }
+        DataRow.ValuePool pool = new DataRow.ValuePool(DataRow.ValuePool.STREAM_POOL_SIZE);
+        Iterator<Map<String, String>> rows = new Iterator<Map<String, String>>() {
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+
+            @Override
+            public Map<String, String> next() {
+                return columns.row(records.next(), null, pool);
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(records::closeQuietly);
+    }
+
+    /**
+     * Opens an iterator over all records of the file, including the header row.
+     * Close it to release the file.
+     *
+     * @return Record iterator
+     * @throws IOException if the file cannot be opened
+     */
+    public RecordIterator iterator() throws IOException {
+        TestDataSnapshot snapshot = TestDataSnapshot.find(filePath);
+        if (snapshot != null && snapshot.getDelimiter() == delimiter) {
+            return new RecordIterator(snapshot.getTable("").cursor());
+        }
+        Reader reader = memoryMapped
+                ? new MappedFileReader(Paths.get(filePath), StandardCharsets.UTF_8)
+                : Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8);
+        return new RecordIterator(new CSVParser(reader, delimiter));
+    }
+
+    private CSVColumnCache.Table cachedTable() throws IOException {
+        return CSVColumnCache.getInstance().get(filePath, delimiter, this::iterator);
+    }
+
+    private RecordIterator openIterator() {
+        try {
+            return iterator();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening CSV file " + filePath, e);
+        }
+    }
+
+    /**
+     * Accepts a single character, or an escaped one such as "\\|" as passed to String.split before
+     */
+    private static char toDelimiterChar(String delimiter) {
+        if (delimiter != null && delimiter.length() == 1) {
+            return delimiter.charAt(0);
+        }
+        if (delimiter != null && delimiter.length() == 2 && delimiter.charAt(0) == '\\') {
+            return delimiter.charAt(1) == 't' ? '\t' : delimiter.charAt(1);
+        }
+        throw new IllegalArgumentException("CSV delimiter must be a single character: " + delimiter);
+    }
+
+    /**
+     * Iterator over the records of an open CSV file
+     */
+    public static class RecordIterator implements Iterator<String[]>, AutoCloseable {
+        private final RecordCursor cursor;
+        private String[] nextRecord;
+        private boolean done;
+
+        RecordIterator(RecordCursor cursor) {
+            this.cursor = cursor;
+        }
+
+        /**
+         * @throws UncheckedIOException if the file cannot be read
+         */
+        @Override
+        public boolean hasNext() {
+            if (nextRecord == null && !done) {
+                try {
+                    nextRecord = cursor.next();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                done = nextRecord == null;
+            }
+            return nextRecord != null;
+        }
+
+        @Override
+        public String[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String[] record = nextRecord;
+            nextRecord = null;
+            return record;
+        }
+
+        @Override
+        public void close() throws IOException {
+            done = true;
+            cursor.close();
+        }
+
+        private void closeQuietly() {
+            try {
+                close();
+            } catch (IOException e) {
+                LOGGER.warning("Error closing CSV file: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -15,14 +15,23 @@ public class ConfigReader {
     private static final String CONFIG_FILE = "src/test/resources/config.properties";
 
     public ConfigReader() {
-        loadProperties();
+        this(CONFIG_FILE);
     }
 
-    private void loadProperties() {
+    /**
+     * Creates a reader for a properties file other than the default config.properties
+     *
+     * @param configFile Path of the properties file
+     */
+    public ConfigReader(String configFile) {
+        loadProperties(configFile);
+    }
+
+    private void loadProperties(String configFile) {
         properties = new Properties();
-        try (InputStream inputStream = new FileInputStream(CONFIG_FILE)) {
+        try (InputStream inputStream = new FileInputStream(configFile)) {
             properties.load(inputStream);
-            LOGGER.info("Successfully loaded properties from: " + CONFIG_FILE);
+            LOGGER.info("Successfully loaded properties from: " + configFile);
         } catch (IOException e) {
             LOGGER.severe("Failed to load properties file: " + e.getMessage());
         }
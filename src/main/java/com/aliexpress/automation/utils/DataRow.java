@@ -0,0 +1,290 @@
+package com.aliexpress.automation.utils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Compact row of test data, keyed by column name. All rows read from the same header share
+ * one immutable {@link Columns} index and each row only holds its values in an array, so a
+ * row costs two small objects instead of a hash map with an entry per column.
+ * Values of an existing column can be replaced with {@link #put(String, String)}; columns
+ * cannot be added or removed.
+ */
+public final class DataRow extends AbstractMap<String, String> {
+    private final Columns columns;
+    private final String[] values;
+
+    private DataRow(Columns columns, String[] values) {
+        this.columns = columns;
+        this.values = values;
+    }
+
+    /**
+     * Gets the header index shared by the rows of the same read
+     *
+     * @return Column index
+     */
+    public Columns getColumns() {
+        return columns;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (String value : values) {
+            if (value != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int index = columns.indexOf(key);
+        return index >= 0 && values[index] != null;
+    }
+
+    @Override
+    public String get(Object key) {
+        int index = columns.indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    /**
+     * Replaces the value of a column
+     *
+     * @throws UnsupportedOperationException if the column is not in the header row
+     */
+    @Override
+    public String put(String key, String value) {
+        int index = columns.indexOf(key);
+        if (index < 0) {
+            throw new UnsupportedOperationException("Column '" + key + "' is not in the header row");
+        }
+        String previous = values[index];
+        values[index] = Objects.requireNonNull(value);
+        return previous;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super String> action) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                action.accept(columns.names[i], values[i]);
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+            @Override
+            public int size() {
+                return DataRow.this.size();
+            }
+
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<Entry<String, String>>() {
+                    private int next = skipAbsent(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int index = next;
+                        next = skipAbsent(next + 1);
+                        return new ValueEntry(index);
+                    }
+                };
+            }
+        };
+    }
+
+    private int skipAbsent(int index) {
+        while (index < values.length && values[index] == null) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Entry that reads and writes the row's value array
+     */
+    private final class ValueEntry implements Entry<String, String> {
+        private final int index;
+
+        ValueEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return columns.names[index];
+        }
+
+        @Override
+        public String getValue() {
+            return values[index];
+        }
+
+        @Override
+        public String setValue(String value) {
+            String previous = values[index];
+            values[index] = Objects.requireNonNull(value);
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            return getKey().equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    /**
+     * Immutable index of a header row. A repeated column name keeps the position of its
+     * first occurrence and the value of its last, like a map filled column by column.
+     */
+    public static final class Columns {
+        private final String[] names;
+        private final int[] sources;
+        private final Map<String, Integer> index = new HashMap<>();
+
+        /**
+         * @param headers Header row
+         */
+        public Columns(String[] headers) {
+            String[] names = new String[headers.length];
+            int[] sources = new int[headers.length];
+            int count = 0;
+            for (int i = 0; i < headers.length; i++) {
+                Integer existing = index.get(headers[i]);
+                if (existing == null) {
+                    index.put(headers[i], count);
+                    names[count] = headers[i];
+                    sources[count++] = i;
+                } else {
+                    sources[existing] = i;
+                }
+            }
+            this.names = Arrays.copyOf(names, count);
+            this.sources = Arrays.copyOf(sources, count);
+        }
+
+        /**
+         * @param headers Header row
+         */
+        public Columns(List<String> headers) {
+            this(headers.toArray(new String[0]));
+        }
+
+        /**
+         * @return Distinct column names in header order
+         */
+        public List<String> getNames() {
+            return Collections.unmodifiableList(Arrays.asList(names));
+        }
+
+        /**
+         * @return Number of distinct columns
+         */
+        public int size() {
+            return names.length;
+        }
+
+        /**
+         * Creates a row from a record read under this header
+         *
+         * @param record      Field values in header order
+         * @param missingValue Value of columns the record is too short for, or null to leave
+         *                     them out of the row
+         * @param pool        Pool that deduplicates the values, or null to keep them as read
+         * @return Row backed by a new value array
+         */
+        public DataRow row(String[] record, String missingValue, ValuePool pool) {
+            String[] values = new String[names.length];
+            for (int i = 0; i < values.length; i++) {
+                String value = sources[i] < record.length ? record[sources[i]] : missingValue;
+                values[i] = pool == null || value == null ? value : pool.intern(value);
+            }
+            return new DataRow(this, values);
+        }
+
+        int indexOf(Object name) {
+            Integer position = index.get(name);
+            return position == null ? -1 : position;
+        }
+    }
+
+    /**
+     * Shares one String instance among equal cell values, so that repeated values such as
+     * categories or flags are stored once across all rows of a read. A bounded pool stops
+     * adding values when full, which keeps streamed reads in constant memory.
+     */
+    public static final class ValuePool {
+        /** Pool size used for streamed rows */
+        public static final int STREAM_POOL_SIZE = 4096;
+        private final Map<String, String> values = new HashMap<>();
+        private final int maxSize;
+
+        /**
+         * Creates an unbounded pool, for reads that keep every row
+         */
+        public ValuePool() {
+            this(Integer.MAX_VALUE);
+        }
+
+        /**
+         * @param maxSize Maximum number of distinct values kept
+         */
+        public ValuePool(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * @param value Cell value
+         * @return Pooled instance equal to the value
+         */
+        public String intern(String value) {
+            String pooled = values.get(value);
+            if (pooled != null) {
+                return pooled;
+            }
+            if (values.size() < maxSize) {
+                values.put(value, value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.aliexpress.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Reads fields of repeated page rows, such as search results or cart items, with one
+ * script call instead of a findElement and getText round trip per row and field.
+ * A field is described by a CSS selector relative to the row, optionally followed by
+ * {@code @name} to read a property or attribute instead of the visible text, e.g.
+ * {@code "a[href]@href"}. An empty selector refers to the row itself.
+ */
+public class DomExtractor {
+    private static final Logger LOGGER = Logger.getLogger(DomExtractor.class.getName());
+
+    private static final String EXTRACT_SCRIPT =
+            "var rows = document.querySelectorAll(arguments[0]), fields = arguments[1];"
+            + "function read(row, spec) {"
+            + "  var at = spec.lastIndexOf('@');"
+            + "  var selector = (at < 0 ? spec : spec.substring(0, at)).trim();"
+            + "  var name = at < 0 ? null : spec.substring(at + 1);"
+            + "  var element = null;"
+            + "  try {"
+            + "    element = !selector ? row : row.matches(selector) ? row : row.querySelector(selector);"
+            + "  } catch (e) {}"
+            + "  if (!element) { return null; }"
+            + "  if (name === null) { return (element.innerText || element.textContent || '').trim(); }"
+            + "  var value = element[name];"
+            + "  if (typeof value !== 'string' && typeof value !== 'number') { value = element.getAttribute(name); }"
+            + "  return value === null || value === undefined ? null : String(value);"
+            + "}"
+            + "return Array.prototype.map.call(rows, function (row) {"
+            + "  var record = {};"
+            + "  for (var field in fields) { record[field] = read(row, fields[field]); }"
+            + "  return record;"
+            + "});";
+
+    private final JavascriptExecutor jsExecutor;
+
+    public DomExtractor(WebDriver driver) {
+        this.jsExecutor = (JavascriptExecutor) driver;
+    }
+
+    /**
+     * Extracts the given fields from every row matched by a CSS locator, in document order
+     *
+     * @param rows   CSS locator of the rows
+     * @param fields Field name to field description, see class documentation
+     * @return One record per row; fields that are missing in a row are null
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, String>> extract(By rows, Map<String, String> fields) {
+        if (!(rows instanceof By.ByCssSelector)) {
+            throw new IllegalArgumentException("Rows must be located by CSS selector: " + rows);
+        }
+        String selector = String.valueOf(((By.Remotable) rows).getRemoteParameters().value());
+        try {
+            List<Map<String, String>> records =
+                    (List<Map<String, String>>) jsExecutor.executeScript(EXTRACT_SCRIPT, selector, fields);
+            if (records == null) {
+                return Collections.emptyList();
+            }
+            LOGGER.info("Extracted " + records.size() + " rows for " + selector);
+            return new ArrayList<>(records);
+        } catch (Exception e) {
+            LOGGER.severe("Error extracting rows for " + selector + ": " + e.getMessage());
+            throw e;
+        }
+    }
+}
@@ -1,27 +1,32 @@
 package com.aliexpress.automation.utils;
 
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Utility class for reading data from Excel files using Apache POI
+ * Utility class for reading data from Excel files using Apache POI.
+ * Random access reads share loaded workbooks through a cache that is refreshed when the
+ * file changes (see {@code excel.cache.*}). {@link #streamSheetData(String)} reads rows
+ * straight from the file instead, for data sets too large to load as a workbook.
+ * Workbooks compiled into a snapshot by the build (see {@link TestDataSnapshotCompiler})
+ * are read from the snapshot by the sheet-level methods. Cell and column reads always use
+ * the workbook, because a snapshot keeps the data rows in order but not the row numbers of
+ * empty rows or which cells are missing.
  */
 public class ExcelReader {
     private static final Logger LOGGER = Logger.getLogger(ExcelReader.class.getName());
     private String filePath;
-    private FileInputStream fileInputStream;
-    private Workbook workbook;
-    private Sheet sheet;
-    private Row row;
-    private Cell cell;
 
     public ExcelReader(String filePath) {
         this.filePath = filePath;
@@ -29,46 +34,113 @@ public class ExcelReader {
 
     /**
      * Gets data from a specific sheet in the Excel file as a list of maps
-     * Each map represents a row with column names as keys
+     * Each map represents a row with column names as keys; all rows share one header index
+     * and repeated values are stored once (see {@link DataRow})
      *
      * @param sheetName Name of the sheet
      * @return List of maps containing the data
      */
     public List<Map<String, String>> getSheetData(String sheetName) {
         List<Map<String, String>> excelData = new ArrayList<>();
+        TestDataSnapshot.Table snapshot = snapshotTable(sheetName);
+        if (snapshot != null) {
+            DataRow.Columns columns = new DataRow.Columns(snapshot.getRecord(0));
+            for (int i = 1; i < snapshot.getRecordCount(); i++) {
+                excelData.add(columns.row(snapshot.getRecord(i), "", null));
+            }
+            LOGGER.info("Successfully read data from sheet snapshot: " + sheetName);
+            return excelData;
+        }
+
         try {
-            fileInputStream = new FileInputStream(filePath);
-            workbook = new XSSFWorkbook(fileInputStream);
-            sheet = workbook.getSheet(sheetName);
-            
-            // Get header row for column names
-            Row headerRow = sheet.getRow(0);
-            
-            // Iterate through data rows
-            for (int i = 1; i < sheet.getPhysicalNumberOfRows(); i++) {
-                Row currentRow = sheet.getRow(i);
-                Map<String, String> rowData = new HashMap<>();
-                
-                for (int j = 0; j < headerRow.getPhysicalNumberOfCells(); j++) {
-                    Cell headerCell = headerRow.getCell(j);
-                    Cell dataCell = currentRow.getCell(j);
-                    rowData.put(getCellValueAsString(headerCell), getCellValueAsString(dataCell));
+            Workbook workbook = WorkbookCache.getInstance().get(filePath);
+            try {
+                synchronized (workbook) {
+                    Sheet sheet = workbook.getSheet(sheetName);
+
+                    // Get header row for column names
+                    Row headerRow = sheet.getRow(0);
+                    String[] headers = new String[headerRow.getPhysicalNumberOfCells()];
+                    for (int j = 0; j < headers.length; j++) {
+                        headers[j] = getCellValueAsString(headerRow.getCell(j));
+                    }
+                    DataRow.Columns columns = new DataRow.Columns(headers);
+                    DataRow.ValuePool pool = new DataRow.ValuePool();
+
+                    // Iterate through data rows
+                    for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                        Row currentRow = sheet.getRow(i);
+                        if (currentRow == null) {
+                            continue;
+                        }
+                        String[] values = new String[headers.length];
+                        for (int j = 0; j < values.length; j++) {
+                            values[j] = getCellValueAsString(currentRow.getCell(j));
+                        }
+
+                        excelData.add(columns.row(values, "", pool));
+                    }
                 }
-                
-                excelData.add(rowData);
+            } finally {
+                WorkbookCache.getInstance().release(workbook);
             }
-            
-            fileInputStream.close();
-            workbook.close();
-            
+
             LOGGER.info("Successfully read data from sheet: " + sheetName);
         } catch (IOException e) {
             LOGGER.severe("Error reading Excel file: " + e.getMessage());
         }
-        
+
         return excelData;
     }
 
+    /**
+     * Streams the data rows of a sheet as maps keyed by the header row, in column order.
+     * Rows are parsed from the sheet XML as they are consumed, without loading the workbook,
+     * so sheets of any size are read in constant memory. The stream holds the file open and
+     * must be closed.
+     *
+     * @param sheetName Name of the sheet
+     * @return Lazily read rows
+     * @throws UncheckedIOException if the file cannot be read
+     * @throws IllegalArgumentException if the sheet does not exist
+     */
+    public Stream<Map<String, String>> streamSheetData(String sheetName) {
+        TestDataSnapshot.Table snapshot = snapshotTable(sheetName);
+        if (snapshot != null) {
+            DataRow.Columns columns = new DataRow.Columns(snapshot.getRecord(0));
+            return IntStream.range(1, snapshot.getRecordCount())
+                    .mapToObj(i -> columns.row(snapshot.getRecord(i), "", null));
+        }
+
+        XlsxRowReader rows;
+        try {
+            rows = new XlsxRowReader(filePath, sheetName);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading Excel file " + filePath, e);
+        }
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(rows::close);
+    }
+
+    /**
+     * Lists the sheets of the workbook
+     *
+     * @return Sheet names in workbook order, empty if the file cannot be read
+     */
+    public List<String> getSheetNames() {
+        TestDataSnapshot snapshot = TestDataSnapshot.find(filePath);
+        if (snapshot != null) {
+            return snapshot.getTableNames();
+        }
+        try {
+            return XlsxRowReader.getSheetNames(filePath);
+        } catch (IOException e) {
+            LOGGER.severe("Error reading Excel file: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
     /**
      * Gets data from specific cell by row and column index
      *
@@ -79,17 +151,17 @@ public class ExcelReader {
      */
     public String getCellData(String sheetName, int rowNum, int columnNum) {
         try {
-            fileInputStream = new FileInputStream(filePath);
-            workbook = new XSSFWorkbook(fileInputStream);
-            sheet = workbook.getSheet(sheetName);
-            row = sheet.getRow(rowNum);
-            cell = row.getCell(columnNum);
-            
-            String cellValue = getCellValueAsString(cell);
-            
-            fileInputStream.close();
-            workbook.close();
-            return cellValue;
+            Workbook workbook = WorkbookCache.getInstance().get(filePath);
+            try {
+                synchronized (workbook) {
+                    Sheet sheet = workbook.getSheet(sheetName);
+                    Row row = sheet.getRow(rowNum);
+                    Cell cell = row.getCell(columnNum);
+                    return getCellValueAsString(cell);
+                }
+            } finally {
+                WorkbookCache.getInstance().release(workbook);
+            }
         } catch (IOException e) {
             LOGGER.severe("Error reading cell data: " + e.getMessage());
             return "";
@@ -105,43 +177,56 @@ public class ExcelReader {
      */
     public String[] getColumnData(String sheetName, String columnName) {
         try {
-            fileInputStream = new FileInputStream(filePath);
-            workbook = new XSSFWorkbook(fileInputStream);
-            sheet = workbook.getSheet(sheetName);
-            
-            // Find column index from header row
-            Row headerRow = sheet.getRow(0);
-            int columnIndex = -1;
-            for (int i = 0; i < headerRow.getPhysicalNumberOfCells(); i++) {
-                if (headerRow.getCell(i).getStringCellValue().equals(columnName)) {
-                    columnIndex = i;
-                    break;
-                }
-            }
-            
-            if (columnIndex == -1) {
-                LOGGER.warning("Column '" + columnName + "' not found in sheet: " + sheetName);
-                return new String[0];
-            }
-            
-            // Read column data
-            String[] columnData = new String[sheet.getPhysicalNumberOfRows() - 1];
-            for (int i = 1; i < sheet.getPhysicalNumberOfRows(); i++) {
-                row = sheet.getRow(i);
-                if (row != null && row.getCell(columnIndex) != null) {
-                    columnData[i - 1] = getCellValueAsString(row.getCell(columnIndex));
+            Workbook workbook = WorkbookCache.getInstance().get(filePath);
+            try {
+                synchronized (workbook) {
+                    Sheet sheet = workbook.getSheet(sheetName);
+
+                    // Find column index from header row
+                    Row headerRow = sheet.getRow(0);
+                    int columnIndex = -1;
+                    for (int i = 0; i < headerRow.getPhysicalNumberOfCells(); i++) {
+                        if (headerRow.getCell(i).getStringCellValue().equals(columnName)) {
+                            columnIndex = i;
+                            break;
+                        }
+                    }
+
+                    if (columnIndex == -1) {
+                        LOGGER.warning("Column '" + columnName + "' not found in sheet: " + sheetName);
+                        return new String[0];
+                    }
+
+                    // Read column data
+                    String[] columnData = new String[sheet.getPhysicalNumberOfRows() - 1];
+                    for (int i = 1; i < sheet.getPhysicalNumberOfRows(); i++) {
+                        Row row = sheet.getRow(i);
+                        if (row != null && row.getCell(columnIndex) != null) {
+                            columnData[i - 1] = getCellValueAsString(row.getCell(columnIndex));
+                        }
+                    }
+                    return columnData;
                 }
+            } finally {
+                WorkbookCache.getInstance().release(workbook);
             }
-            
-            fileInputStream.close();
-            workbook.close();
-            return columnData;
         } catch (IOException e) {
             LOGGER.severe("Error reading column data: " + e.getMessage());
             return new String[0];
         }
     }
 
+    /**
+     * Gets a sheet from the snapshot compiled by the build, if it is up to date
+     *
+     * @param sheetName Name of the sheet
+     * @return Snapshot table or null to read the workbook
+     */
+    private TestDataSnapshot.Table snapshotTable(String sheetName) {
+        TestDataSnapshot snapshot = TestDataSnapshot.find(filePath);
+        return snapshot == null ? null : snapshot.getTable(sheetName);
+    }
+
     /**
      * Converts cell value to string regardless of the cell type
      *
@@ -152,7 +237,7 @@ public class ExcelReader {
         if (cell == null) {
             return "";
         }
-        
+
         switch (cell.getCellType()) {
             case STRING:
                 return cell.getStringCellValue();
@@ -171,4 +256,4 @@ public class ExcelReader {
                 return "";
         }
     }
-}
\ No newline at end of file
+}
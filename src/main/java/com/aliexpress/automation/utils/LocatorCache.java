@@ -0,0 +1,231 @@
+package com.aliexpress.automation.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Remembers which candidate locator of a page element actually resolved, so that the
+ * winner is tried first next time. Entries are keyed by page class, logical element name
+ * and URL pattern, and are persisted to {@code locator.cache.path} between runs as a small
+ * tab separated file. The statistics show how often each candidate won and how long the
+ * lookups took, which exposes fallback locators that never match anything.
+ */
+public class LocatorCache {
+    private static final Logger LOGGER = Logger.getLogger(LocatorCache.class.getName());
+    private static final String HEADER = "# page\telement\turl pattern\tlocator\twins\ttotal micros";
+    private static final String NO_MATCH = "<none>";
+    private static LocatorCache instance;
+
+    private final Path cacheFile;
+    private final boolean enabled;
+    private final Map<String, Map<String, CandidateStats>> entries = new ConcurrentHashMap<>();
+
+    LocatorCache(Path cacheFile, boolean enabled) {
+        this.cacheFile = cacheFile;
+        this.enabled = enabled;
+        if (enabled) {
+            load();
+        }
+    }
+
+    /**
+     * Gets the process-wide cache, loading it from disk on first use
+     *
+     * @return Shared LocatorCache instance
+     */
+    public static synchronized LocatorCache getInstance() {
+        if (instance == null) {
+            ConfigReader configReader = new ConfigReader();
+            instance = new LocatorCache(
+                    Paths.get(configReader.getProperty("locator.cache.path", "test-output/locator-cache.tsv")),
+                    Boolean.parseBoolean(configReader.getProperty("locator.cache.enabled", "true")));
+        }
+        return instance;
+    }
+
+    /**
+     * Checks if winning locators are remembered
+     *
+     * @return true if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Orders candidate locators so the ones that won before come first, by number of wins.
+     * Candidates that never won keep their declared order behind them.
+     *
+     * @param page       Page class name
+     * @param element    Logical element name
+     * @param urlPattern URL pattern of the page, or null if not known yet
+     * @param candidates Candidate locator descriptions in declared order
+     * @return Indexes into candidates in the order they should be tried
+     */
+    public List<Integer> order(String page, String element, String urlPattern, List<String> candidates) {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            order.add(i);
+        }
+        if (!enabled) {
+            return order;
+        }
+
+        Map<String, Long> wins = new TreeMap<>();
+        if (urlPattern != null && entries.containsKey(key(page, element, urlPattern))) {
+            entries.get(key(page, element, urlPattern)).forEach((locator, stats) -> wins.put(locator, stats.wins.get()));
+        } else {
+            // Page seen on a new URL: use what won for this element on any URL
+            String prefix = key(page, element, "");
+            entries.forEach((key, candidateStats) -> {
+                if (key.startsWith(prefix)) {
+                    candidateStats.forEach((locator, stats) -> wins.merge(locator, stats.wins.get(), Long::sum));
+                }
+            });
+        }
+
+        order.sort(Comparator.comparingLong((Integer index) -> -wins.getOrDefault(candidates.get(index), 0L)));
+        return order;
+    }
+
+    /**
+     * Records the outcome of a lookup. Candidates that did not win are recorded with zero
+     * wins so that fallbacks which never match show up in the statistics.
+     *
+     * @param page         Page class name
+     * @param element      Logical element name
+     * @param urlPattern   URL pattern of the page the lookup ran on
+     * @param candidates   Descriptions of all candidate locators
+     * @param winner       Description of the winning locator, or null if nothing matched
+     * @param elapsedNanos Time the lookup took
+     */
+    public void record(String page, String element, String urlPattern, List<String> candidates, String winner,
+                       long elapsedNanos) {
+        if (!enabled) {
+            return;
+        }
+        Map<String, CandidateStats> candidateStats = entries.computeIfAbsent(key(page, element, urlPattern),
+                key -> new ConcurrentHashMap<>());
+        for (String candidate : candidates) {
+            candidateStats.computeIfAbsent(candidate, key -> new CandidateStats());
+        }
+        CandidateStats stats = candidateStats.computeIfAbsent(winner == null ? NO_MATCH : winner,
+                key -> new CandidateStats());
+        stats.wins.incrementAndGet();
+        stats.totalMicros.addAndGet(elapsedNanos / 1000);
+    }
+
+    /**
+     * Reduces a URL to a pattern shared by pages of the same kind: the path only, with
+     * numeric ids replaced by {@code *}
+     *
+     * @param path URL path
+     * @return URL pattern
+     */
+    public static String toUrlPattern(String path) {
+        return path == null || path.isEmpty() ? "/" : path.replaceAll("\\d+", "*");
+    }
+
+    /**
+     * Writes the cache to disk
+     */
+    public void save() {
+        if (!enabled || entries.isEmpty()) {
+            return;
+        }
+        try {
+            if (cacheFile.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(cacheFile.toAbsolutePath().getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(cacheFile, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (Map.Entry<String, Map<String, CandidateStats>> entry : new TreeMap<>(entries).entrySet()) {
+                    for (Map.Entry<String, CandidateStats> candidate : new TreeMap<>(entry.getValue()).entrySet()) {
+                        writer.write(entry.getKey() + "\t" + candidate.getKey() + "\t"
+                                + candidate.getValue().wins.get() + "\t" + candidate.getValue().totalMicros.get());
+                        writer.newLine();
+                    }
+                }
+            }
+            LOGGER.info("Saved locator cache to " + cacheFile);
+        } catch (IOException e) {
+            LOGGER.warning("Could not save locator cache: " + e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(cacheFile)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(cacheFile, StandardCharsets.UTF_8)) {
+                String[] fields = line.split("\t");
+                if (line.startsWith("#") || fields.length != 6) {
+                    continue;
+                }
+                CandidateStats stats = new CandidateStats();
+                stats.wins.set(Long.parseLong(fields[4]));
+                stats.totalMicros.set(Long.parseLong(fields[5]));
+                entries.computeIfAbsent(key(fields[0], fields[1], fields[2]), key -> new ConcurrentHashMap<>())
+                        .put(fields[3], stats);
+            }
+            LOGGER.info("Loaded locator cache with " + entries.size() + " elements from " + cacheFile);
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.warning("Ignoring unreadable locator cache " + cacheFile + ": " + e.getMessage());
+            entries.clear();
+        }
+    }
+
+    /**
+     * Summarizes wins and average lookup time per candidate across all URL patterns.
+     * Candidates that never won are flagged DEAD and lookups that matched nothing MISSING.
+     *
+     * @return Human readable statistics
+     */
+    public String getStatistics() {
+        Map<String, Map<String, long[]>> byElement = new TreeMap<>();
+        entries.forEach((key, candidateStats) -> {
+            String element = key.substring(0, key.lastIndexOf('\t'));
+            candidateStats.forEach((locator, stats) -> {
+                long[] totals = byElement.computeIfAbsent(element, k -> new TreeMap<>())
+                        .computeIfAbsent(locator, k -> new long[2]);
+                totals[0] += stats.wins.get();
+                totals[1] += stats.totalMicros.get();
+            });
+        });
+
+        StringBuilder report = new StringBuilder("Locator cache statistics:");
+        byElement.forEach((element, candidates) -> {
+            report.append(System.lineSeparator()).append("  ").append(element.replace('\t', '.'));
+            candidates.forEach((locator, totals) -> {
+                String status = NO_MATCH.equals(locator) ? "MISSING" : totals[0] == 0 ? "DEAD" : "";
+                report.append(System.lineSeparator()).append(String.format("    %-8s wins=%d avg=%dus %s",
+                        status, totals[0], totals[0] == 0 ? 0 : totals[1] / totals[0],
+                        NO_MATCH.equals(locator) ? "" : locator));
+            });
+        });
+        return report.toString();
+    }
+
+    private static String key(String page, String element, String urlPattern) {
+        return page + "\t" + element + "\t" + urlPattern;
+    }
+
+    private static class CandidateStats {
+        private final AtomicLong wins = new AtomicLong();
+        private final AtomicLong totalMicros = new AtomicLong();
+    }
+}
@@ -0,0 +1,330 @@
+package com.aliexpress.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Resolves an ordered set of candidate locators in a single browser round trip.
+ * All candidates are evaluated by one script, without the implicit wait, and the first
+ * candidate that has a visible match wins. A miss therefore costs one script call
+ * instead of a full implicit wait per locator.
+ * Lookups that name the element are recorded in the {@link LocatorCache}, which puts the
+ * candidate that won before on this page first. A candidate that is not a valid selector
+ * fails the lookup with an {@link InvalidSelectorException} when it is reached, as
+ * findElements does, instead of being recorded as a miss.
+ */
+public class LocatorResolver {
+    private static final Logger LOGGER = Logger.getLogger(LocatorResolver.class.getName());
+
+    /** Result index the script reports when a candidate is not a valid selector */
+    private static final int INVALID_SELECTOR = -2;
+
+    private static final String RESOLVE_SCRIPT =
+            "var INVALID_SELECTOR = " + INVALID_SELECTOR + ";"
+            + "var root = arguments[0] || document, locators = arguments[1], collectAll = arguments[2];"
+            + "function query(using, value) {"
+            + "  switch (using) {"
+            + "    case 'css selector': return Array.prototype.slice.call(root.querySelectorAll(value));"
+            + "    case 'xpath':"
+            + "      var snapshot = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "      var nodes = [];"
+            + "      for (var i = 0; i < snapshot.snapshotLength; i++) { nodes.push(snapshot.snapshotItem(i)); }"
+            + "      return nodes;"
+            + "    case 'tag name': return Array.prototype.slice.call(root.getElementsByTagName(value));"
+            + "    case 'link text':"
+            + "    case 'partial link text':"
+            + "      return Array.prototype.filter.call(root.querySelectorAll('a'), function (link) {"
+            + "        var text = (link.innerText || link.textContent || '').trim();"
+            + "        return using === 'link text' ? text === value : text.indexOf(value) !== -1;"
+            + "      });"
+            + "  }"
+            + "  return [];"
+            + "}"
+            + "function visible(element) {"
+            + "  if (!(element instanceof Element)) { return false; }"
+            + "  for (var node = element; node instanceof Element; node = node.parentElement) {"
+            + "    var style = window.getComputedStyle(node);"
+            + "    if (style.display === 'none' || style.opacity === '0') { return false; }"
+            + "  }"
+            + "  var visibility = window.getComputedStyle(element).visibility;"
+            + "  if (visibility === 'hidden' || visibility === 'collapse') { return false; }"
+            + "  return Array.prototype.some.call(element.getClientRects(), function (rect) {"
+            + "    return rect.width > 0 && rect.height > 0;"
+            + "  });"
+            + "}"
+            + "for (var i = 0; i < locators.length; i++) {"
+            + "  var matches;"
+            + "  try { matches = query(locators[i][0], locators[i][1]); }"
+            + "  catch (e) { return [INVALID_SELECTOR, i, String(e && e.message || e), location.pathname]; }"
+            + "  for (var j = 0; j < matches.length; j++) {"
+            + "    if (visible(matches[j])) { return [i, matches[j], collectAll ? matches : [], location.pathname]; }"
+            + "  }"
+            + "}"
+            + "return [-1, null, [], location.pathname];";
+
+    private final WebDriver driver;
+    private final JavascriptExecutor jsExecutor;
+    private final String page;
+    private final LocatorCache locatorCache;
+    private volatile String lastUrlPattern;
+
+    public LocatorResolver(WebDriver driver) {
+        this(driver, null);
+    }
+
+    /**
+     * Creates a resolver whose named lookups are cached under the given page class
+     *
+     * @param driver WebDriver instance
+     * @param owner  Page class the looked up elements belong to, or null to disable caching
+     */
+    public LocatorResolver(WebDriver driver, Class<?> owner) {
+        this.driver = driver;
+        this.jsExecutor = (JavascriptExecutor) driver;
+        this.page = owner == null ? null : owner.getName().replace("com.aliexpress.automation.", "");
+        this.locatorCache = owner == null ? null : LocatorCache.getInstance();
+    }
+
+    /**
+     * Finds the first visible element matched by the candidates, trying them in order
+     *
+     * @param root       Element to search within, or null to search the whole page
+     * @param candidates Locators in order of preference
+     * @return First visible element, or null if no candidate matches a visible element
+     */
+    public WebElement findFirstVisible(WebElement root, By... candidates) {
+        return findFirstVisible(null, root, candidates);
+    }
+
+    /**
+     * Finds the first visible element matched by the candidates of a named page element
+     *
+     * @param element    Logical element name used as cache key, or null to skip the cache
+     * @param root       Element to search within, or null to search the whole page
+     * @param candidates Locators in declared order of preference
+     * @return First visible element, or null if no candidate matches a visible element
+     */
+    public WebElement findFirstVisible(String element, WebElement root, By... candidates) {
+        Resolution resolution = resolve(element, root, false, candidates);
+        return resolution == null ? null : resolution.element;
+    }
+
+    /**
+     * Finds all elements of the first candidate of a named page element that matches a visible element
+     *
+     * @param element    Logical element name used as cache key, or null to skip the cache
+     * @param root       Element to search within, or null to search the whole page
+     * @param candidates Locators in declared order of preference
+     * @return Elements matched by the winning candidate, or an empty list
+     */
+    public List<WebElement> findAllOfFirstVisible(String element, WebElement root, By... candidates) {
+        Resolution resolution = resolve(element, root, true, candidates);
+        return resolution == null ? Collections.emptyList() : resolution.matches;
+    }
+
+    /**
+     * Resolves the candidates and reports which one won. Named lookups with more than one
+     * candidate try the previous winner first and record the outcome in the locator cache.
+     *
+     * @param element    Logical element name used as cache key, or null to skip the cache
+     * @param root       Element to search within, or null to search the whole page
+     * @param collectAll true to also return every element of the winning candidate
+     * @param candidates Locators in declared order of preference
+     * @return Resolution or null if no candidate matches a visible element
+     */
+    public Resolution resolve(String element, WebElement root, boolean collectAll, By... candidates) {
+        return resolve(element, root, collectAll, true, candidates);
+    }
+
+    /**
+     * Resolves the candidates, optionally without recording the outcome. Callers that poll
+     * a lookup pass record=false and report the final outcome once through
+     * {@link #record(String, Resolution, long, By...)}.
+     *
+     * @param element    Logical element name used as cache key, or null to skip the cache
+     * @param root       Element to search within, or null to search the whole page
+     * @param collectAll true to also return every element of the winning candidate
+     * @param record     true to record the outcome in the locator cache
+     * @param candidates Locators in declared order of preference
+     * @return Resolution or null if no candidate matches a visible element
+     */
+    public Resolution resolve(String element, WebElement root, boolean collectAll, boolean record, By... candidates) {
+        if (!isCached(element, candidates)) {
+            return evaluate(root, collectAll, candidates);
+        }
+
+        List<String> descriptions = describe(candidates);
+        String urlPattern = lastUrlPattern;
+        List<Integer> order = locatorCache.order(page, element, urlPattern, descriptions);
+        long start = System.nanoTime();
+        Resolution resolution = evaluate(root, collectAll, reorder(candidates, order));
+        if (!Objects.equals(urlPattern, lastUrlPattern)) {
+            // The browser has navigated since the previous lookup, so the candidates were ordered
+            // for the wrong page; try again in the order that won on the page the script ran on
+            List<Integer> pageOrder = locatorCache.order(page, element, lastUrlPattern, descriptions);
+            if (!pageOrder.equals(order)) {
+                order = pageOrder;
+                resolution = evaluate(root, collectAll, reorder(candidates, order));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (resolution != null) {
+            // Report the index in declared order, not in the order the candidates were tried
+            int declaredIndex = order.get(resolution.index);
+            resolution = new Resolution(declaredIndex, candidates[declaredIndex], resolution.element, resolution.matches);
+        }
+        if (record) {
+            record(element, resolution, elapsed, candidates);
+        }
+        return resolution;
+    }
+
+    /**
+     * Records the outcome of a named lookup in the locator cache, under the URL pattern of the
+     * page the last lookup ran on
+     *
+     * @param element      Logical element name
+     * @param resolution   Final resolution, or null if nothing matched
+     * @param elapsedNanos Time the lookup took
+     * @param candidates   Locators in declared order of preference
+     */
+    public void record(String element, Resolution resolution, long elapsedNanos, By... candidates) {
+        if (isCached(element, candidates)) {
+            locatorCache.record(page, element, lastUrlPattern == null ? "/" : lastUrlPattern, describe(candidates),
+                    resolution == null ? null : resolution.locator.toString(), elapsedNanos);
+        }
+    }
+
+    private boolean isCached(String element, By... candidates) {
+        return element != null && locatorCache != null && locatorCache.isEnabled() && candidates.length > 1;
+    }
+
+    private static List<String> describe(By... candidates) {
+        List<String> descriptions = new ArrayList<>();
+        for (By candidate : candidates) {
+            descriptions.add(candidate.toString());
+        }
+        return descriptions;
+    }
+
+    private static By[] reorder(By[] candidates, List<Integer> order) {
+        By[] ordered = new By[candidates.length];
+        for (int i = 0; i < ordered.length; i++) {
+            ordered[i] = candidates[order.get(i)];
+        }
+        return ordered;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Resolution evaluate(WebElement root, boolean collectAll, By... candidates) {
+        List<List<Object>> remotable = new ArrayList<>();
+        for (By candidate : candidates) {
+            if (!(candidate instanceof By.Remotable)) {
+                return resolveNatively(root, collectAll, candidates);
+            }
+            By.Remotable.Parameters parameters = ((By.Remotable) candidate).getRemoteParameters();
+            remotable.add(Arrays.asList(parameters.using(), parameters.value()));
+        }
+
+        List<Object> result;
+        int index;
+        try {
+            result = (List<Object>) jsExecutor.executeScript(RESOLVE_SCRIPT, root, remotable, collectAll);
+            lastUrlPattern = LocatorCache.toUrlPattern((String) result.get(3));
+            index = ((Number) result.get(0)).intValue();
+        } catch (StaleElementReferenceException e) {
+            return null;
+        } catch (WebDriverException | ClassCastException | NullPointerException e) {
+            LOGGER.warning("Locator script failed, resolving candidates one by one: " + e.getMessage());
+            return resolveNatively(root, collectAll, candidates);
+        }
+
+        if (index == INVALID_SELECTOR) {
+            // Fail like findElements would rather than report the candidate as a miss
+            By invalid = candidates[((Number) result.get(1)).intValue()];
+            LOGGER.warning("Invalid locator " + invalid + ": " + result.get(2));
+            throw new InvalidSelectorException("Invalid locator " + invalid + ": " + result.get(2));
+        }
+        if (index < 0) {
+            return null;
+        }
+        return new Resolution(index, candidates[index], (WebElement) result.get(1),
+                (List<WebElement>) result.get(2));
+    }
+
+    /**
+     * Fallback for locators the script cannot evaluate, such as custom By implementations.
+     * The implicit wait is switched off while the candidates are tried so a miss stays fast.
+     */
+    private Resolution resolveNatively(WebElement root, boolean collectAll, By... candidates) {
+        SearchContext context = root == null ? driver : root;
+        Duration implicitWait = driver.manage().timeouts().getImplicitWaitTimeout();
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            for (int i = 0; i < candidates.length; i++) {
+                List<WebElement> matches = context.findElements(candidates[i]);
+                for (WebElement match : matches) {
+                    try {
+                        if (match.isDisplayed()) {
+                            return new Resolution(i, candidates[i], match,
+                                    collectAll ? matches : Collections.emptyList());
+                        }
+                    } catch (StaleElementReferenceException e) {
+                        // Element went away while checking, try the next one
+                    }
+                }
+            }
+            return null;
+        } finally {
+            driver.manage().timeouts().implicitlyWait(implicitWait);
+        }
+    }
+
+    /**
+     * Outcome of a successful resolution
+     */
+    public static class Resolution {
+        private final int index;
+        private final By locator;
+        private final WebElement element;
+        private final List<WebElement> matches;
+
+        Resolution(int index, By locator, WebElement element, List<WebElement> matches) {
+            this.index = index;
+            this.locator = locator;
+            this.element = element;
+            this.matches = matches;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public By getLocator() {
+            return locator;
+        }
+
+        public WebElement getElement() {
+            return element;
+        }
+
+        public List<WebElement> getMatches() {
+            return matches;
+        }
+    }
+}
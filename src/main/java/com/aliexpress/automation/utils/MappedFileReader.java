@@ -0,0 +1,111 @@
+package com.aliexpress.automation.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reader that decodes a file through read-only memory mappings instead of read calls.
+ * The file is mapped in fixed-size segments one after another, so files larger than 2GB
+ * are supported and only the current segment is mapped at a time.
+ */
+final class MappedFileReader extends Reader {
+    private static final long SEGMENT_SIZE = 64L * 1024 * 1024;
+    /** Longest encoded character, a shorter tail is carried over into the next segment */
+    private static final int MAX_BYTES_PER_CHAR = 4;
+
+    private final FileChannel channel;
+    private final long size;
+    private final CharsetDecoder decoder;
+    /**
+     * Decoding target for reads with room for less than two chars, since a supplementary
+     * character decodes to a surrogate pair. Holds chars decoded but not returned yet.
+     */
+    private final CharBuffer pending = CharBuffer.allocate(2).flip();
+    private MappedByteBuffer segment;
+    private long segmentStart;
+    private boolean flushed;
+
+    MappedFileReader(Path file, Charset charset) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    @Override
+    public int read(char[] chars, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        CharBuffer out = CharBuffer.wrap(chars, offset, length);
+        transferPending(out);
+        while (out.position() == offset && !flushed) {
+            if (out.remaining() < 2) {
+                pending.clear();
+                decode(pending);
+                pending.flip();
+                transferPending(out);
+            } else {
+                decode(out);
+            }
+        }
+        int read = out.position() - offset;
+        return read == 0 ? -1 : read;
+    }
+
+    private void decode(CharBuffer target) throws IOException {
+        if (segment == null || (segment.remaining() < MAX_BYTES_PER_CHAR && !isLastSegment())) {
+            if (!mapNextSegment()) {
+                finish(target);
+                return;
+            }
+        }
+        decoder.decode(segment, target, isLastSegment());
+        if (isLastSegment() && !segment.hasRemaining()) {
+            finish(target);
+        }
+    }
+
+    private void transferPending(CharBuffer out) {
+        while (pending.hasRemaining() && out.hasRemaining()) {
+            out.put(pending.get());
+        }
+    }
+
+    private boolean isLastSegment() {
+        return segmentStart + segment.limit() >= size;
+    }
+
+    private boolean mapNextSegment() throws IOException {
+        long start = segment == null ? 0 : segmentStart + segment.position();
+        if (start >= size) {
+            return false;
+        }
+        segment = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, size - start));
+        segmentStart = start;
+        return true;
+    }
+
+    private void finish(CharBuffer out) {
+        // An empty file is never decoded, and the decoder cannot be flushed before decoding
+        if (segment != null) {
+            decoder.flush(out);
+        }
+        flushed = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        segment = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,18 @@
+package com.aliexpress.automation.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Source of records for {@link CSVReader.RecordIterator}: a text parser or a snapshot table
+ */
+interface RecordCursor extends Closeable {
+
+    /**
+     * Reads the next record
+     *
+     * @return Fields of the record, or null after the last record
+     * @throws IOException if the input cannot be read
+     */
+    String[] next() throws IOException;
+}
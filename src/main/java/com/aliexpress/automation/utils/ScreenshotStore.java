@@ -0,0 +1,306 @@
+package com.aliexpress.automation.utils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Stores screenshots under the SHA-256 of their content in {@code objects/} of the
+ * screenshot directory, so identical captures (the same popup, the same error page) are
+ * written once. Each capture is recorded in a per-run manifest, a tab separated file that
+ * maps the capture name to the stored file.
+ * With {@code screenshot.store.perceptual.enabled} a 64-bit difference hash (dHash) of
+ * every capture is compared to the stored ones, and captures that differ by at most
+ * {@code screenshot.store.perceptual.threshold} bits reuse the stored file. Only images
+ * whose file has been written are compared. Decoding the image for this happens on the
+ * capturing thread.
+ */
+public class ScreenshotStore {
+    private static final Logger LOGGER = Logger.getLogger(ScreenshotStore.class.getName());
+    private static final String HEADER = "# name\tsha256\tfile\tdhash\tmatch";
+    private static ScreenshotStore instance;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final Path objectsDirectory;
+    private final Path manifest;
+    private final boolean perceptual;
+    private final int threshold;
+    private final Set<String> storedHashes = ConcurrentHashMap.newKeySet();
+    private final Map<String, CompletableFuture<Path>> pendingWrites = new ConcurrentHashMap<>();
+    private final List<PerceptualEntry> perceptualEntries = new ArrayList<>();
+    private final AtomicLong captures = new AtomicLong();
+    private final AtomicLong exactMatches = new AtomicLong();
+    private final AtomicLong similarMatches = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    ScreenshotStore(boolean enabled, Path directory, boolean perceptual, int threshold) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.objectsDirectory = directory.resolve("objects");
+        this.manifest = directory.resolve("manifest_" + new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date()) + ".tsv");
+        this.perceptual = perceptual;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Gets the process-wide store
+     *
+     * @return Shared ScreenshotStore instance
+     */
+    public static synchronized ScreenshotStore getInstance() {
+        if (instance == null) {
+            ConfigReader configReader = new ConfigReader();
+            instance = new ScreenshotStore(
+                    Boolean.parseBoolean(configReader.getProperty("screenshot.store.enabled", "true")),
+                    Paths.get(configReader.getProperty("screenshot.path", "test-output/screenshots/")),
+                    Boolean.parseBoolean(configReader.getProperty("screenshot.store.perceptual.enabled", "false")),
+                    Integer.parseInt(configReader.getProperty("screenshot.store.perceptual.threshold", "4")));
+        }
+        return instance;
+    }
+
+    /**
+     * Checks if screenshots are stored by content
+     *
+     * @return true if the store is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Stores a screenshot unless the same (or, with perceptual hashing, a similar) image is
+     * already stored, and records it in the manifest. New files are written by
+     * {@link ScreenshotWriter}; an image only counts as stored once its file is written, so
+     * a failed write is retried by the next identical capture.
+     *
+     * @param name Capture name recorded in the manifest
+     * @param png  Image bytes as returned by the driver
+     * @return Stored file holding the image, or null if the write has already failed, as it
+     *         has in synchronous mode
+     */
+    public Path store(String name, byte[] png) {
+        captures.incrementAndGet();
+        String sha256 = sha256(png);
+        String storedHash = sha256;
+        String dHashText = "";
+        Long dHash = null;
+        if (perceptual && !isKnown(sha256)) {
+            dHash = dHash(png);
+            if (dHash != null) {
+                dHashText = String.format("%016x", dHash);
+                String similar = findSimilar(dHash);
+                if (similar != null) {
+                    storedHash = similar;
+                }
+            }
+        }
+
+        Path object = objectsDirectory.resolve(storedHash + ".png");
+        CompletableFuture<Path> write = storedHash.equals(sha256) ? claimWrite(sha256, object, png, dHash) : null;
+        String match;
+        if (!storedHash.equals(sha256)) {
+            match = "similar";
+            similarMatches.incrementAndGet();
+            bytesSaved.addAndGet(png.length);
+        } else if (write != null) {
+            if (write.isCompletedExceptionally()) {
+                return null;
+            }
+            match = "new";
+        } else {
+            match = "exact";
+            exactMatches.incrementAndGet();
+            bytesSaved.addAndGet(png.length);
+        }
+
+        appendToManifest(name + "\t" + sha256 + "\t" + directory.relativize(object) + "\t" + dHashText + "\t" + match);
+        return object;
+    }
+
+    /**
+     * Gets store usage for logging
+     *
+     * @return Summary of captures, deduplicated captures and bytes not written
+     */
+    public String getStatistics() {
+        return String.format("Screenshot store - %d captures, %d stored, %d identical, %d similar, %d KB saved, manifest %s",
+                captures.get(), captures.get() - exactMatches.get() - similarMatches.get(),
+                exactMatches.get(), similarMatches.get(), bytesSaved.get() / 1024, manifest);
+    }
+
+    private boolean isKnown(String sha256) {
+        return storedHashes.contains(sha256) || pendingWrites.containsKey(sha256);
+    }
+
+    /**
+     * Starts writing an image unless it is stored or being written by another capture.
+     * The hash, and the dHash if there is one, are registered as stored only when the write
+     * succeeds.
+     *
+     * @return Write started by this capture, or null if the file is written by another
+     */
+    private CompletableFuture<Path> claimWrite(String sha256, Path object, byte[] png, Long dHash) {
+        if (storedHashes.contains(sha256)) {
+            return null;
+        }
+        CompletableFuture<Path> claim = new CompletableFuture<>();
+        if (pendingWrites.putIfAbsent(sha256, claim) != null) {
+            return null;
+        }
+        if (Files.exists(object)) {
+            // Written by an earlier run, or by a capture that finished since the check above
+            markStored(sha256, dHash);
+            pendingWrites.remove(sha256, claim);
+            claim.complete(object);
+            return null;
+        }
+
+        ScreenshotWriter.getInstance().write(object, png).whenComplete((path, error) -> {
+            if (error == null) {
+                markStored(sha256, dHash);
+            }
+            pendingWrites.remove(sha256, claim);
+            if (error == null) {
+                claim.complete(path);
+            } else {
+                claim.completeExceptionally(error);
+            }
+        });
+        return claim;
+    }
+
+    /**
+     * Finds a stored image whose dHash is within the threshold. Images are registered only
+     * once their file is written, so a match never points at a file whose write may fail.
+     *
+     * @return Content hash of the closest stored image, or null if none is close enough
+     */
+    private String findSimilar(long dHash) {
+        synchronized (perceptualEntries) {
+            PerceptualEntry closest = null;
+            int closestDistance = Integer.MAX_VALUE;
+            for (PerceptualEntry entry : perceptualEntries) {
+                int distance = Long.bitCount(entry.dHash ^ dHash);
+                if (distance < closestDistance) {
+                    closest = entry;
+                    closestDistance = distance;
+                }
+            }
+            return closest != null && closestDistance <= threshold ? closest.sha256 : null;
+        }
+    }
+
+    private void markStored(String sha256, Long dHash) {
+        if (!storedHashes.add(sha256) || dHash == null) {
+            return;
+        }
+        synchronized (perceptualEntries) {
+            perceptualEntries.add(new PerceptualEntry(dHash, sha256));
+        }
+    }
+
+    private synchronized void appendToManifest(String line) {
+        try {
+            Files.createDirectories(directory);
+            List<String> lines = Files.exists(manifest)
+                    ? Collections.singletonList(line)
+                    : List.of(HEADER, line);
+            Files.write(manifest, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOGGER.warning("Could not update screenshot manifest " + manifest + ": " + e.getMessage());
+        }
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Computes the difference hash of an image: the image is averaged down to 9x8 gray cells
+     * and each bit tells whether a cell is brighter than its right neighbour
+     *
+     * @param png Image bytes
+     * @return 64-bit hash, or null if the bytes are not a readable image
+     */
+    static Long dHash(byte[] png) {
+        BufferedImage image;
+        try {
+            image = ImageIO.read(new ByteArrayInputStream(png));
+        } catch (IOException e) {
+            image = null;
+        }
+        if (image == null) {
+            return null;
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double[] sums = new double[9 * 8];
+        int[] counts = new int[9 * 8];
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            int cellRow = y * 8 / height;
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                int cell = cellRow * 9 + x * 9 / width;
+                sums[cell] += 0.299 * ((rgb >> 16) & 0xff) + 0.587 * ((rgb >> 8) & 0xff) + 0.114 * (rgb & 0xff);
+                counts[cell]++;
+            }
+        }
+
+        long hash = 0;
+        for (int y = 0; y < 8; y++) {
+            for (int x = 0; x < 8; x++) {
+                int left = y * 9 + x;
+                double leftGray = counts[left] == 0 ? 0 : sums[left] / counts[left];
+                double rightGray = counts[left + 1] == 0 ? 0 : sums[left + 1] / counts[left + 1];
+                hash = (hash << 1) | (leftGray > rightGray ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Difference hash of a stored image
+     */
+    private static final class PerceptualEntry {
+        private final long dHash;
+        private final String sha256;
+
+        PerceptualEntry(long dHash, String sha256) {
+            this.dHash = dHash;
+            this.sha256 = sha256;
+        }
+    }
+}
@@ -3,47 +3,41 @@ package com.aliexpress.automation.utils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
-import org.apache.commons.io.FileUtils;
 
-import java.io.File;
-import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 /**
- * Utility class for capturing screenshots during test execution
+ * Utility class for capturing screenshots during test execution.
+ * Screenshots are taken as bytes and written by {@link ScreenshotWriter} in the background,
+ * so the returned path may only exist once the writer has caught up (at the latest when it
+ * is flushed at the end of the suite). File names contain the capturing thread and a
+ * per-name attempt number, so parallel tests never overwrite each other's screenshots.
+ * With {@link ScreenshotStore} enabled, identical images are stored once and the unique
+ * names are kept in the store's manifest instead. With {@code screenshot.async.enabled=false}
+ * the file is written before the capture returns, and a failed write returns null.
  */
 public class ScreenshotUtils {
     private static final Logger LOGGER = Logger.getLogger(ScreenshotUtils.class.getName());
-    private static final String SCREENSHOT_DIRECTORY = "test-output/screenshots/";
-
-    static {
-        createScreenshotDirectory();
-    }
-
-    /**
-     * Creates the screenshot directory if it doesn't exist
-     */
-    private static void createScreenshotDirectory() {
-        File directory = new File(SCREENSHOT_DIRECTORY);
-        if (!directory.exists()) {
-            boolean created = directory.mkdirs();
-            if (created) {
-                LOGGER.info("Created screenshot directory at: " + SCREENSHOT_DIRECTORY);
-            } else {
-                LOGGER.warning("Failed to create screenshot directory");
-            }
-        }
-    }
+    private static final String SCREENSHOT_DIRECTORY =
+            new ConfigReader().getProperty("screenshot.path", "test-output/screenshots/");
+    private static final Map<String, AtomicInteger> ATTEMPTS = new ConcurrentHashMap<>();
 
     /**
      * Captures screenshot of the entire page
      *
      * @param driver    WebDriver instance
      * @param testName  Name of the test
-     * @return          Path to the captured screenshot
+     * @return          Path the screenshot is written to, or null if it could not be taken or written
      */
     public static String captureScreenshot(WebDriver driver, String testName) {
         if (driver == null) {
@@ -51,18 +45,16 @@ public class ScreenshotUtils {
             return null;
         }
 
-        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        String fileName = testName + "_" + timestamp + ".png";
-        String filePath = SCREENSHOT_DIRECTORY + fileName;
-
         try {
-            TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File srcFile = screenshot.getScreenshotAs(OutputType.FILE);
-            File destFile = new File(filePath);
-            FileUtils.copyFile(srcFile, destFile);
-            LOGGER.info("Screenshot captured: " + filePath);
-            return filePath;
-        } catch (IOException e) {
+            byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            Path target = save(newScreenshotPath(testName), png);
+            if (target == null) {
+                LOGGER.severe("Failed to save screenshot for: " + testName);
+                return null;
+            }
+            LOGGER.info("Screenshot captured: " + target);
+            return target.toString();
+        } catch (WebDriverException e) {
             LOGGER.severe("Failed to capture screenshot: " + e.getMessage());
             return null;
         }
@@ -73,7 +65,7 @@ public class ScreenshotUtils {
      *
      * @param element   WebElement to capture
      * @param testName  Name of the test
-     * @return          Path to the captured screenshot
+     * @return          Path the screenshot is written to, or null if it could not be taken or written
      */
     public static String captureElementScreenshot(WebElement element, String testName) {
         if (element == null) {
@@ -81,19 +73,50 @@ public class ScreenshotUtils {
             return null;
         }
 
-        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        String fileName = testName + "_element_" + timestamp + ".png";
-        String filePath = SCREENSHOT_DIRECTORY + fileName;
-
         try {
-            File srcFile = element.getScreenshotAs(OutputType.FILE);
-            File destFile = new File(filePath);
-            FileUtils.copyFile(srcFile, destFile);
-            LOGGER.info("Element screenshot captured: " + filePath);
-            return filePath;
-        } catch (IOException e) {
+            byte[] png = element.getScreenshotAs(OutputType.BYTES);
+            Path target = save(newScreenshotPath(testName + "_element"), png);
+            if (target == null) {
+                LOGGER.severe("Failed to save element screenshot for: " + testName);
+                return null;
+            }
+            LOGGER.info("Element screenshot captured: " + target);
+            return target.toString();
+        } catch (WebDriverException e) {
             LOGGER.severe("Failed to capture element screenshot: " + e.getMessage());
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Saves a screenshot under its own name, or in the content-addressed store with the name
+     * recorded in the store's manifest
+     *
+     * @param target Unique screenshot path
+     * @param png    Image bytes
+     * @return Path of the file holding the image, or null if the write has already failed
+     */
+    private static Path save(Path target, byte[] png) {
+        ScreenshotStore store = ScreenshotStore.getInstance();
+        if (store.isEnabled()) {
+            return store.store(target.getFileName().toString(), png);
+        }
+        CompletableFuture<Path> write = ScreenshotWriter.getInstance().write(target, png);
+        // A synchronous write has finished by now, so its failure is already known
+        return write.isCompletedExceptionally() ? null : target;
+    }
+
+    /**
+     * Builds a unique file name of the form name_timestamp_thread_attempt.png
+     *
+     * @param name Screenshot name, usually the test name
+     * @return Path in the screenshot directory
+     */
+    private static Path newScreenshotPath(String name) {
+        String safeName = name.replaceAll("[^A-Za-z0-9._-]", "_");
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss_SSS").format(new Date());
+        int attempt = ATTEMPTS.computeIfAbsent(safeName, key -> new AtomicInteger()).incrementAndGet();
+        String fileName = safeName + "_" + timestamp + "_t" + Thread.currentThread().getId() + "_" + attempt + ".png";
+        return Paths.get(SCREENSHOT_DIRECTORY, fileName);
+    }
+}
@@ -0,0 +1,155 @@
+package com.aliexpress.automation.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Writes captured screenshots to disk on background threads, so that tests only pay for
+ * taking the screenshot and not for the file I/O. Writes are queued up to
+ * {@code screenshot.writer.queue.size}; when the queue is full the capturing thread writes
+ * the file itself, which bounds the memory held by pending screenshots.
+ * {@link #flush(long)} waits for all queued writes and is called at the end of the suite.
+ */
+public class ScreenshotWriter {
+    private static final Logger LOGGER = Logger.getLogger(ScreenshotWriter.class.getName());
+    private static ScreenshotWriter instance;
+
+    private final boolean async;
+    private final ThreadPoolExecutor executor;
+    private final Set<CompletableFuture<Path>> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong writeNanos = new AtomicLong();
+
+    ScreenshotWriter(boolean async, int threads, int queueSize) {
+        this.async = async;
+        if (async) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueSize), runnable -> {
+                        Thread thread = new Thread(runnable, "screenshot-writer-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.allowCoreThreadTimeOut(true);
+        } else {
+            executor = null;
+        }
+    }
+
+    /**
+     * Gets the process-wide writer
+     *
+     * @return Shared ScreenshotWriter instance
+     */
+    public static synchronized ScreenshotWriter getInstance() {
+        if (instance == null) {
+            ConfigReader configReader = new ConfigReader();
+            instance = new ScreenshotWriter(
+                    Boolean.parseBoolean(configReader.getProperty("screenshot.async.enabled", "true")),
+                    Integer.parseInt(configReader.getProperty("screenshot.writer.threads", "1")),
+                    Integer.parseInt(configReader.getProperty("screenshot.writer.queue.size", "32")));
+        }
+        return instance;
+    }
+
+    /**
+     * Queues a screenshot to be written. An existing file is never overwritten.
+     *
+     * @param target Screenshot file
+     * @param png    Image bytes as returned by the driver
+     * @return Future completed with the target once the file is written
+     */
+    public CompletableFuture<Path> write(Path target, byte[] png) {
+        if (!async) {
+            CompletableFuture<Path> result = new CompletableFuture<>();
+            try {
+                result.complete(writeFile(target, png));
+            } catch (UncheckedIOException e) {
+                result.completeExceptionally(e.getCause());
+            }
+            return result;
+        }
+
+        CompletableFuture<Path> result = CompletableFuture.supplyAsync(() -> writeFile(target, png), executor);
+        pending.add(result);
+        result.whenComplete((path, error) -> pending.remove(result));
+        return result;
+    }
+
+    /**
+     * Waits for all queued screenshots to be written
+     *
+     * @param timeoutMillis Maximum time to wait
+     * @return true if every queued write finished in time
+     */
+    public boolean flush(long timeoutMillis) {
+        CompletableFuture<?>[] writes = pending.toArray(new CompletableFuture<?>[0]);
+        if (writes.length == 0) {
+            return true;
+        }
+        LOGGER.info("Waiting for " + writes.length + " screenshot writes");
+        try {
+            CompletableFuture.allOf(writes).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // Failures are logged by the write itself
+        } catch (TimeoutException e) {
+            LOGGER.warning(pending.size() + " screenshot writes still pending after " + timeoutMillis + " ms");
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets writer usage for logging
+     *
+     * @return Summary of written and failed screenshots
+     */
+    public String getStatistics() {
+        long count = written.get();
+        return String.format("Screenshot writer - %d written (%d KB), %d failed, %.1f ms average write",
+                count, bytesWritten.get() / 1024, failed.get(),
+                count == 0 ? 0.0 : writeNanos.get() / 1_000_000.0 / count);
+    }
+
+    private Path writeFile(Path target, byte[] png) {
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(png);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            written.incrementAndGet();
+            bytesWritten.addAndGet(png.length);
+            writeNanos.addAndGet(System.nanoTime() - start);
+            return target;
+        } catch (IOException e) {
+            failed.incrementAndGet();
+            LOGGER.severe("Failed to write screenshot " + target + ": " + e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.aliexpress.automation.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Pre-parsed copy of a CSV file or Excel workbook, compiled at build time by
+ * {@link TestDataSnapshotCompiler} and memory-mapped at runtime, so that readers get
+ * records without parsing any text. A snapshot holds one table per sheet (a single table
+ * named "" for CSV files) and is only used while the source file keeps the size and
+ * modification time it was compiled from.
+ * <p>
+ * Layout, big-endian:
+ * <pre>
+ * int    magic "TDS1"
+ * long   source size, long source modification time (ms)
+ * char   CSV delimiter, 0 for workbooks
+ * int    string count S, int table count T
+ * int[S + 1]  string offsets into the string data
+ * byte[]      string data, UTF-8; every distinct value is stored once
+ * T times:
+ *   int    table name (string id), int record count R
+ *   int[R + 1]  record offsets into the cells, in cells
+ *   int[]       cells as string ids, record after record
+ * </pre>
+ */
+public final class TestDataSnapshot {
+    public static final String EXTENSION = ".tds";
+    private static final Logger LOGGER = Logger.getLogger(TestDataSnapshot.class.getName());
+    private static final int MAGIC = 0x54445331;
+    private static final int HEADER_SIZE = 30;
+    private static final Map<Path, TestDataSnapshot> OPENED = new ConcurrentHashMap<>();
+    private static Config config;
+
+    private final ByteBuffer buffer;
+    private final long sourceSize;
+    private final long sourceLastModified;
+    private final char delimiter;
+    private final int stringOffsets;
+    private final int stringData;
+    private final String[] strings;
+    private final Map<String, Table> tables = new LinkedHashMap<>();
+
+    private TestDataSnapshot(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a test data snapshot");
+        }
+        this.sourceSize = buffer.getLong(4);
+        this.sourceLastModified = buffer.getLong(12);
+        this.delimiter = buffer.getChar(20);
+        int stringCount = buffer.getInt(22);
+        int tableCount = buffer.getInt(26);
+        this.strings = new String[stringCount];
+        this.stringOffsets = HEADER_SIZE;
+        this.stringData = stringOffsets + 4 * (stringCount + 1);
+
+        int position = stringData + buffer.getInt(stringOffsets + 4 * stringCount);
+        for (int t = 0; t < tableCount; t++) {
+            Table table = new Table(buffer.getInt(position), buffer.getInt(position + 4), position + 8);
+            tables.put(getString(table.nameId), table);
+            position = table.cells + 4 * buffer.getInt(table.recordOffsets + 4 * table.recordCount);
+        }
+    }
+
+    /**
+     * Finds the up-to-date snapshot of a test data file, if one was compiled
+     *
+     * @param sourceFile Path of the CSV or Excel file
+     * @return Mapped snapshot, or null if there is none or the file has changed since
+     */
+    public static TestDataSnapshot find(String sourceFile) {
+        Config snapshotConfig = getConfig();
+        if (!snapshotConfig.enabled) {
+            return null;
+        }
+        try {
+            Path source = Paths.get(sourceFile).toAbsolutePath().normalize();
+            if (!source.startsWith(snapshotConfig.dataDir) || !Files.isRegularFile(source)) {
+                return null;
+            }
+            Path snapshotFile = snapshotConfig.snapshotDir.resolve(snapshotConfig.dataDir.relativize(source) + EXTENSION);
+            if (!Files.isRegularFile(snapshotFile)) {
+                return null;
+            }
+
+            TestDataSnapshot snapshot = OPENED.get(snapshotFile);
+            if (snapshot == null) {
+                snapshot = open(snapshotFile);
+                OPENED.put(snapshotFile, snapshot);
+            }
+            if (snapshot.sourceSize != Files.size(source)
+                    || snapshot.sourceLastModified != Files.getLastModifiedTime(source).toMillis()) {
+                LOGGER.fine("Ignoring outdated snapshot " + snapshotFile);
+                return null;
+            }
+            return snapshot;
+        } catch (IOException e) {
+            LOGGER.warning("Error reading test data snapshot for " + sourceFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Maps a snapshot file
+     *
+     * @param snapshotFile Snapshot file
+     * @return Mapped snapshot
+     * @throws IOException if the file cannot be read or is not a snapshot
+     */
+    public static TestDataSnapshot open(Path snapshotFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            return new TestDataSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Checks the header of a snapshot file without mapping it
+     *
+     * @param snapshotFile       Snapshot file
+     * @param sourceSize         Current size of the source file
+     * @param sourceLastModified Current modification time of the source file in milliseconds
+     * @return true if the snapshot exists and was compiled from the source as it is now
+     */
+    static boolean isUpToDate(Path snapshotFile, long sourceSize, long sourceLastModified) {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return false;
+        }
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(snapshotFile))) {
+            return input.readInt() == MAGIC && input.readLong() == sourceSize && input.readLong() == sourceLastModified;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static synchronized Config getConfig() {
+        if (config == null) {
+            ConfigReader configReader = new ConfigReader();
+            config = new Config(
+                    Boolean.parseBoolean(configReader.getProperty("test.data.snapshot.enabled", "true")),
+                    Paths.get(configReader.getProperty("test.data.path", "src/test/resources/testdata/")),
+                    Paths.get(configReader.getProperty("test.data.snapshot.path", "target/testdata-snapshots/")));
+        }
+        return config;
+    }
+
+    /**
+     * @return Delimiter the CSV file was parsed with, 0 for workbooks
+     */
+    char getDelimiter() {
+        return delimiter;
+    }
+
+    /**
+     * @param name Sheet name, or "" for a CSV file
+     * @return Table or null if the snapshot has no such table
+     */
+    public Table getTable(String name) {
+        return tables.get(name);
+    }
+
+    /**
+     * @return Sheet names in workbook order, or "" for a CSV file
+     */
+    public List<String> getTableNames() {
+        return new ArrayList<>(tables.keySet());
+    }
+
+    private String getString(int id) {
+        String value = strings[id];
+        if (value == null) {
+            int start = buffer.getInt(stringOffsets + 4 * id);
+            byte[] bytes = new byte[buffer.getInt(stringOffsets + 4 * (id + 1)) - start];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(stringData + start + i);
+            }
+            value = new String(bytes, StandardCharsets.UTF_8);
+            strings[id] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Records of one CSV file or sheet, header row included as record 0
+     */
+    public final class Table {
+        private final int nameId;
+        private final int recordCount;
+        private final int recordOffsets;
+        private final int cells;
+
+        private Table(int nameId, int recordCount, int recordOffsets) {
+            this.nameId = nameId;
+            this.recordCount = recordCount;
+            this.recordOffsets = recordOffsets;
+            this.cells = recordOffsets + 4 * (recordCount + 1);
+        }
+
+        public int getRecordCount() {
+            return recordCount;
+        }
+
+        /**
+         * @param index Record index, 0 being the header row
+         * @return Fields of the record
+         */
+        public String[] getRecord(int index) {
+            int start = buffer.getInt(recordOffsets + 4 * index);
+            String[] record = new String[buffer.getInt(recordOffsets + 4 * (index + 1)) - start];
+            for (int i = 0; i < record.length; i++) {
+                record[i] = getString(buffer.getInt(cells + 4 * (start + i)));
+            }
+            return record;
+        }
+
+        /**
+         * @return Cursor over all records, starting with the header row
+         */
+        RecordCursor cursor() {
+            return new RecordCursor() {
+                private int next;
+
+                @Override
+                public String[] next() {
+                    return next < recordCount ? getRecord(next++) : null;
+                }
+
+                @Override
+                public void close() {
+                    next = recordCount;
+                }
+            };
+        }
+    }
+
+    /**
+     * Writes a snapshot. Every distinct value is stored once and referenced by id.
+     * Only the distinct values are kept in memory; record offsets and cells are streamed to
+     * temporary files next to the target and copied behind the values once all are known.
+     *
+     * @param target             Snapshot file to write
+     * @param sourceSize         Size of the source file
+     * @param sourceLastModified Modification time of the source file in milliseconds
+     * @param delimiter          CSV delimiter, 0 for workbooks
+     * @param tables             Records of every table by name, header row first
+     * @throws IOException if the snapshot cannot be written or exceeds 2GB
+     */
+    static void write(Path target, long sourceSize, long sourceLastModified, char delimiter,
+                      Map<String, Iterator<String[]>> tables) throws IOException {
+        Map<String, Integer> ids = new HashMap<>();
+        ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+        List<Integer> stringOffsets = new ArrayList<>();
+        int[] nameIds = new int[tables.size()];
+        int[] recordCounts = new int[tables.size()];
+        long[] cellCounts = new long[tables.size()];
+
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        String prefix = target.getFileName().toString();
+        Path recordsFile = Files.createTempFile(directory, prefix, ".records.tmp");
+        Path cellsFile = Files.createTempFile(directory, prefix, ".cells.tmp");
+        Path tempFile = null;
+        try {
+            long tableSize = 0;
+            try (DataOutputStream records = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(recordsFile)));
+                 DataOutputStream cells = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(cellsFile)))) {
+                int t = 0;
+                for (Map.Entry<String, Iterator<String[]>> table : tables.entrySet()) {
+                    nameIds[t] = intern(table.getKey(), ids, stringOffsets, stringBytes);
+                    long cellCount = 0;
+                    records.writeInt(0);
+                    while (table.getValue().hasNext()) {
+                        for (String value : table.getValue().next()) {
+                            cells.writeInt(intern(value, ids, stringOffsets, stringBytes));
+                            cellCount++;
+                        }
+                        if (cellCount > Integer.MAX_VALUE) {
+                            throw new IOException("Snapshot exceeds the 2GB limit");
+                        }
+                        records.writeInt((int) cellCount);
+                        recordCounts[t]++;
+                    }
+                    cellCounts[t] = cellCount;
+                    tableSize += 8 + 4L * (recordCounts[t] + 1) + 4L * cellCount;
+                    t++;
+                }
+            }
+            stringOffsets.add(stringBytes.size());
+
+            long totalSize = HEADER_SIZE + 4L * stringOffsets.size() + stringBytes.size() + tableSize;
+            if (totalSize > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot of " + totalSize + " bytes exceeds the 2GB limit");
+            }
+
+            tempFile = Files.createTempFile(directory, prefix, ".tmp");
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile));
+                 DataOutputStream output = new DataOutputStream(outputStream);
+                 InputStream records = new BufferedInputStream(Files.newInputStream(recordsFile));
+                 InputStream cells = new BufferedInputStream(Files.newInputStream(cellsFile))) {
+                output.writeInt(MAGIC);
+                output.writeLong(sourceSize);
+                output.writeLong(sourceLastModified);
+                output.writeChar(delimiter);
+                output.writeInt(stringOffsets.size() - 1);
+                output.writeInt(tables.size());
+                for (int offset : stringOffsets) {
+                    output.writeInt(offset);
+                }
+                stringBytes.writeTo(output);
+                for (int t = 0; t < nameIds.length; t++) {
+                    output.writeInt(nameIds[t]);
+                    output.writeInt(recordCounts[t]);
+                    copy(records, output, 4L * (recordCounts[t] + 1));
+                    copy(cells, output, 4L * cellCounts[t]);
+                }
+            }
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(recordsFile);
+            Files.deleteIfExists(cellsFile);
+            if (tempFile != null) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    private static void copy(InputStream input, OutputStream output, long length) throws IOException {
+        byte[] chunk = new byte[8192];
+        while (length > 0) {
+            int read = input.read(chunk, 0, (int) Math.min(chunk.length, length));
+            if (read < 0) {
+                throw new IOException("Temporary snapshot data ended early");
+            }
+            output.write(chunk, 0, read);
+            length -= read;
+        }
+    }
+
+    private static int intern(String value, Map<String, Integer> ids, List<Integer> offsets,
+                              ByteArrayOutputStream stringBytes) {
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = offsets.size();
+            ids.put(value, id);
+            offsets.add(stringBytes.size());
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            stringBytes.write(bytes, 0, bytes.length);
+        }
+        return id;
+    }
+
+    private static final class Config {
+        private final boolean enabled;
+        private final Path dataDir;
+        private final Path snapshotDir;
+
+        Config(boolean enabled, Path dataDir, Path snapshotDir) {
+            this.enabled = enabled;
+            this.dataDir = dataDir.toAbsolutePath().normalize();
+            this.snapshotDir = snapshotDir.toAbsolutePath().normalize();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.aliexpress.automation.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Build step that compiles the CSV and .xlsx files of the test data directory into
+ * {@link TestDataSnapshot} files, which {@link CSVReader} and {@link ExcelReader} then read
+ * without parsing. Runs in the process-test-resources phase of the Maven build; snapshots
+ * whose source has not changed are skipped.
+ * <pre>
+ * java TestDataSnapshotCompiler [test data dir] [snapshot dir]
+ * </pre>
+ */
+public class TestDataSnapshotCompiler {
+    private static final Logger LOGGER = Logger.getLogger(TestDataSnapshotCompiler.class.getName());
+
+    private TestDataSnapshotCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path dataDir = Paths.get(args.length > 0 ? args[0] : "src/test/resources/testdata");
+        Path snapshotDir = Paths.get(args.length > 1 ? args[1] : "target/testdata-snapshots");
+        if (!Files.isDirectory(dataDir)) {
+            LOGGER.info("No test data directory at " + dataDir);
+            return;
+        }
+
+        List<Path> sources;
+        try (Stream<Path> files = Files.walk(dataDir)) {
+            sources = files.filter(file -> {
+                String name = file.getFileName().toString().toLowerCase();
+                return Files.isRegularFile(file) && (name.endsWith(".csv") || name.endsWith(".xlsx"));
+            }).collect(Collectors.toList());
+        }
+
+        int compiled = 0;
+        for (Path source : sources) {
+            Path target = snapshotDir.resolve(dataDir.relativize(source) + TestDataSnapshot.EXTENSION);
+            if (compile(source, target)) {
+                compiled++;
+            }
+        }
+        LOGGER.info("Compiled " + compiled + " of " + sources.size() + " test data files into " + snapshotDir);
+    }
+
+    /**
+     * Compiles one file, unless its snapshot is up to date
+     *
+     * @param source CSV or .xlsx file
+     * @param target Snapshot file
+     * @return true if the snapshot was written
+     * @throws IOException if the file cannot be read or the snapshot cannot be written
+     */
+    static boolean compile(Path source, Path target) throws IOException {
+        long size = Files.size(source);
+        long lastModified = Files.getLastModifiedTime(source).toMillis();
+        if (TestDataSnapshot.isUpToDate(target, size, lastModified)) {
+            return false;
+        }
+
+        if (source.getFileName().toString().toLowerCase().endsWith(".xlsx")) {
+            Map<String, Iterator<String[]>> tables = new LinkedHashMap<>();
+            List<XlsxRowReader> readers = new ArrayList<>();
+            try {
+                for (String sheetName : XlsxRowReader.getSheetNames(source.toString())) {
+                    XlsxRowReader rows = new XlsxRowReader(source.toString(), sheetName);
+                    readers.add(rows);
+                    tables.put(sheetName, sheetRecords(rows));
+                }
+                TestDataSnapshot.write(target, size, lastModified, (char) 0, tables);
+            } finally {
+                readers.forEach(XlsxRowReader::close);
+            }
+        } else {
+            try (CSVParser parser = new CSVParser(Files.newBufferedReader(source, StandardCharsets.UTF_8), ',')) {
+                Map<String, Iterator<String[]>> tables = new LinkedHashMap<>();
+                tables.put("", new CSVReader.RecordIterator(parser));
+                TestDataSnapshot.write(target, size, lastModified, ',', tables);
+            }
+        }
+        LOGGER.info("Compiled " + source + " into " + target);
+        return true;
+    }
+
+    /**
+     * Yields the header row of a sheet followed by its data rows
+     */
+    private static Iterator<String[]> sheetRecords(XlsxRowReader rows) {
+        return new Iterator<String[]>() {
+            private boolean headerDone;
+
+            @Override
+            public boolean hasNext() {
+                return !headerDone || rows.hasNext();
+            }
+
+            @Override
+            public String[] next() {
+                if (!headerDone) {
+                    headerDone = true;
+                    return rows.getHeaders().toArray(new String[0]);
+                }
+                return rows.next().values().toArray(new String[0]);
+            }
+        };
+    }
+}
@@ -1,7 +1,10 @@
 package com.aliexpress.automation.utils;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedCondition;
@@ -18,15 +21,33 @@ public class WaitUtils {
     private static final Logger LOGGER = Logger.getLogger(WaitUtils.class.getName());
     private WebDriver driver;
     private WebDriverWait wait;
+    private PageLoadStrategy pageLoadStrategy;
 
     public WaitUtils(WebDriver driver) {
-        this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this(driver, 10);
     }
 
     public WaitUtils(WebDriver driver, long timeoutInSeconds) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        this.pageLoadStrategy = getPageLoadStrategy(driver);
+    }
+
+    /**
+     * Reads the page load strategy the session was started with
+     *
+     * @param driver WebDriver instance
+     * @return Page load strategy, NORMAL if the driver does not report one
+     */
+    private static PageLoadStrategy getPageLoadStrategy(WebDriver driver) {
+        if (driver instanceof HasCapabilities) {
+            Capabilities capabilities = ((HasCapabilities) driver).getCapabilities();
+            Object strategy = capabilities.getCapability("pageLoadStrategy");
+            if (strategy != null && PageLoadStrategy.fromString(strategy.toString()) != null) {
+                return PageLoadStrategy.fromString(strategy.toString());
+            }
+        }
+        return PageLoadStrategy.NORMAL;
     }
 
     /**
@@ -74,12 +95,35 @@ public class WaitUtils {
     }
 
     /**
-     * Waits for page to load completely
+     * Waits for page to load as far as the session's page load strategy requires:
+     * the full load for NORMAL, a parsed document for EAGER and nothing for NONE,
+     * where page objects rely on their own readiness conditions instead
      */
     public void waitForPageLoad() {
-        LOGGER.info("Waiting for page to load completely");
-        wait.until((ExpectedCondition<Boolean>) wd ->
-                ((JavascriptExecutor) wd).executeScript("return document.readyState").equals("complete"));
+        switch (pageLoadStrategy) {
+            case NONE:
+                return;
+            case EAGER:
+                LOGGER.info("Waiting for page DOM to be ready");
+                wait.until((ExpectedCondition<Boolean>) wd ->
+                        !"loading".equals(((JavascriptExecutor) wd).executeScript("return document.readyState")));
+                return;
+            default:
+                LOGGER.info("Waiting for page to load completely");
+                wait.until((ExpectedCondition<Boolean>) wd ->
+                        ((JavascriptExecutor) wd).executeScript("return document.readyState").equals("complete"));
+        }
+    }
+
+    /**
+     * Waits for a custom condition
+     *
+     * @param condition Condition to wait for
+     * @param <T>       Type of the condition result
+     * @return Result of the condition once it holds
+     */
+    public <T> T waitForCondition(ExpectedCondition<T> condition) {
+        return wait.until(condition);
     }
 
     /**
@@ -0,0 +1,160 @@
+package com.aliexpress.automation.utils;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Keeps loaded workbooks for random access by {@link ExcelReader}, so that repeated cell,
+ * column and sheet reads of the same file do not parse it again. Entries are keyed by path
+ * and dropped when the file's modification time or size changes. At most
+ * {@code excel.cache.max.workbooks} workbooks are kept, evicting the least recently used.
+ * Evicted and replaced workbooks are closed once no caller is still reading them.
+ * POI workbooks are not thread-safe; callers synchronize on the workbook while reading it.
+ */
+final class WorkbookCache {
+    private static final Logger LOGGER = Logger.getLogger(WorkbookCache.class.getName());
+    private static WorkbookCache instance;
+
+    private final boolean enabled;
+    private final Map<String, CachedWorkbook> workbooks;
+    /** Every workbook handed out and not yet closed, including evicted ones still in use */
+    private final Map<Workbook, CachedWorkbook> open = new IdentityHashMap<>();
+
+    WorkbookCache(boolean enabled, int maxWorkbooks) {
+        this.enabled = enabled;
+        this.workbooks = new LinkedHashMap<String, CachedWorkbook>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedWorkbook> eldest) {
+                if (size() > maxWorkbooks) {
+                    LOGGER.fine("Evicted workbook from cache: " + eldest.getKey());
+                    retire(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the process-wide cache
+     *
+     * @return Shared WorkbookCache instance
+     */
+    static synchronized WorkbookCache getInstance() {
+        if (instance == null) {
+            ConfigReader configReader = new ConfigReader();
+            instance = new WorkbookCache(
+                    Boolean.parseBoolean(configReader.getProperty("excel.cache.enabled", "true")),
+                    Integer.parseInt(configReader.getProperty("excel.cache.max.workbooks", "4")));
+        }
+        return instance;
+    }
+
+    /**
+     * Gets a workbook, loading it if it is not cached or has changed on disk.
+     * Pass it to {@link #release(Workbook)} when done.
+     *
+     * @param filePath Path of the .xlsx file
+     * @return Loaded workbook
+     * @throws IOException if the file cannot be read
+     */
+    Workbook get(String filePath) throws IOException {
+        Path file = Paths.get(filePath).toAbsolutePath().normalize();
+        if (!enabled) {
+            return load(file);
+        }
+
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        long fileSize = Files.size(file);
+        String key = file.toString();
+        synchronized (this) {
+            CachedWorkbook cached = workbooks.get(key);
+            if (cached != null && cached.lastModified == lastModified && cached.fileSize == fileSize) {
+                cached.users++;
+                return cached.workbook;
+            }
+        }
+
+        // Load outside the lock so that threads reading other files are not blocked
+        Workbook workbook = load(file);
+        synchronized (this) {
+            CachedWorkbook cached = new CachedWorkbook(workbook, lastModified, fileSize);
+            cached.users++;
+            open.put(workbook, cached);
+            CachedWorkbook previous = workbooks.put(key, cached);
+            if (previous != null) {
+                retire(previous);
+            }
+        }
+        return workbook;
+    }
+
+    /**
+     * Closes a workbook obtained from {@link #get(String)} unless it is kept in the cache
+     *
+     * @param workbook Workbook to release
+     */
+    void release(Workbook workbook) {
+        if (!enabled) {
+            close(workbook);
+            return;
+        }
+        synchronized (this) {
+            CachedWorkbook cached = open.get(workbook);
+            if (cached != null && --cached.users == 0 && cached.retired) {
+                open.remove(workbook);
+                close(workbook);
+            }
+        }
+    }
+
+    /**
+     * Closes a workbook that left the cache, or has it closed by the last {@link #release(Workbook)}
+     */
+    private void retire(CachedWorkbook cached) {
+        cached.retired = true;
+        if (cached.users == 0) {
+            open.remove(cached.workbook);
+            close(cached.workbook);
+        }
+    }
+
+    private static void close(Workbook workbook) {
+        try {
+            workbook.close();
+        } catch (IOException e) {
+            LOGGER.warning("Error closing Excel file: " + e.getMessage());
+        }
+    }
+
+    private static Workbook load(Path file) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return new XSSFWorkbook(inputStream);
+        }
+    }
+
+    private static final class CachedWorkbook {
+        private final Workbook workbook;
+        private final long lastModified;
+        private final long fileSize;
+        /** Callers that got the workbook and have not released it, guarded by the cache */
+        private int users;
+        private boolean retired;
+
+        CachedWorkbook(Workbook workbook, long lastModified, long fileSize) {
+            this.workbook = workbook;
+            this.lastModified = lastModified;
+            this.fileSize = fileSize;
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.aliexpress.automation.utils;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the rows of one .xlsx sheet straight from the sheet XML, without building a
+ * workbook. The package is opened read-only through POI's event API ({@link XSSFReader}
+ * with the read-only shared strings table) and the sheet is pulled row by row with StAX,
+ * so memory use does not depend on the number of rows.
+ * Cell values are formatted like {@link ExcelReader} does for workbook cells, dates in the
+ * workbook's 1900 or 1904 date system, and the header row has one column per header cell
+ * present in the sheet like {@code Row.getPhysicalNumberOfCells()}. Cells that share a
+ * formula only carry it in the first cell of the range, so their formula is rebuilt from
+ * that cell's by moving its relative A1 references.
+ */
+final class XlsxRowReader implements Iterator<Map<String, String>>, Closeable {
+    private static final Pattern FORMULA_TOKEN = Pattern.compile(
+            "\"(?:[^\"]|\"\")*\"|'(?:[^']|'')*'"
+            + "|(?<![A-Za-z0-9_.$])(\\$?)([A-Z]{1,3})(\\$?)([0-9]+)(?![A-Za-z0-9_.(!])");
+    private final OPCPackage xlsxPackage;
+    private final InputStream sheetStream;
+    private final XMLStreamReader xml;
+    private final SharedStrings sharedStrings;
+    private final StylesTable styles;
+    private final boolean date1904;
+    private final Map<Integer, Boolean> dateStyles = new HashMap<>();
+    private final Map<String, SharedFormula> sharedFormulas = new HashMap<>();
+    private final DataRow.ValuePool pool = new DataRow.ValuePool(DataRow.ValuePool.STREAM_POOL_SIZE);
+    private List<String> headers;
+    private DataRow.Columns columns;
+    private Map<String, String> nextRow;
+    private boolean done;
+    private int rowNumber = -1;
+    private int rowCellCount;
+
+    XlsxRowReader(String filePath, String sheetName) throws IOException {
+        try {
+            xlsxPackage = OPCPackage.open(new File(filePath), PackageAccess.READ);
+        } catch (OpenXML4JException e) {
+            throw new IOException("Not an .xlsx file: " + filePath, e);
+        }
+
+        try {
+            XSSFReader reader = new XSSFReader(xlsxPackage, true);
+            sharedStrings = reader.getSharedStringsTable();
+            styles = reader.getStylesTable();
+            try (InputStream workbookXml = reader.getWorkbookData()) {
+                date1904 = isDate1904(workbookXml);
+            }
+
+            InputStream found = null;
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext() && found == null) {
+                InputStream sheet = sheets.next();
+                if (sheetName.equals(sheets.getSheetName())) {
+                    found = sheet;
+                } else {
+                    sheet.close();
+                }
+            }
+            if (found == null) {
+                throw new IllegalArgumentException("Sheet '" + sheetName + "' not found in " + filePath);
+            }
+            sheetStream = found;
+            xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetStream);
+        } catch (IOException | OpenXML4JException | XMLStreamException | RuntimeException e) {
+            xlsxPackage.revert();
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            throw e instanceof IOException ? (IOException) e : new IOException("Error opening sheet " + sheetName, e);
+        }
+    }
+
+    /**
+     * Lists the sheets of a workbook in workbook order
+     *
+     * @param filePath Path of the .xlsx file
+     * @return Sheet names
+     * @throws IOException if the file cannot be read
+     */
+    static List<String> getSheetNames(String filePath) throws IOException {
+        OPCPackage workbookPackage;
+        try {
+            workbookPackage = OPCPackage.open(new File(filePath), PackageAccess.READ);
+        } catch (OpenXML4JException e) {
+            throw new IOException("Not an .xlsx file: " + filePath, e);
+        }
+        try {
+            List<String> names = new ArrayList<>();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(workbookPackage).getSheetsData();
+            while (sheets.hasNext()) {
+                sheets.next().close();
+                names.add(sheets.getSheetName());
+            }
+            return names;
+        } catch (OpenXML4JException e) {
+            throw new IOException("Error reading workbook " + filePath, e);
+        } finally {
+            workbookPackage.revert();
+        }
+    }
+
+    /**
+     * Reads whether the workbook uses the 1904 date system from workbookPr, which comes
+     * before the sheet list in workbook.xml
+     */
+    private static boolean isDate1904(InputStream workbookXml) throws XMLStreamException {
+        XMLStreamReader workbook = XMLHelper.newXMLInputFactory().createXMLStreamReader(workbookXml);
+        try {
+            while (workbook.hasNext()) {
+                if (workbook.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                if ("workbookPr".equals(workbook.getLocalName())) {
+                    String date1904 = workbook.getAttributeValue(null, "date1904");
+                    return "1".equals(date1904) || "true".equals(date1904);
+                }
+                if ("sheets".equals(workbook.getLocalName())) {
+                    break;
+                }
+            }
+            return false;
+        } finally {
+            workbook.close();
+        }
+    }
+
+    /**
+     * Gets the header row, reading it if no row has been read yet
+     *
+     * @return Column names, empty for an empty sheet
+     */
+    List<String> getHeaders() {
+        if (headers == null && !done) {
+            hasNext();
+        }
+        return headers == null ? new ArrayList<>() : headers;
+    }
+
+    /**
+     * @throws UncheckedIOException if the sheet XML cannot be read
+     */
+    @Override
+    public boolean hasNext() {
+        if (nextRow == null && !done) {
+            try {
+                if (headers == null) {
+                    headers = readRow();
+                    if (headers != null) {
+                        // As many columns as header cells, like getPhysicalNumberOfCells in ExcelReader.getSheetData
+                        headers = new ArrayList<>(headers.subList(0, rowCellCount));
+                    }
+                }
+                List<String> values = headers == null ? null : readRow();
+                if (values == null) {
+                    close();
+                } else {
+                    if (columns == null) {
+                        columns = new DataRow.Columns(headers);
+                    }
+                    nextRow = columns.row(values.toArray(new String[0]), "", pool);
+                }
+            } catch (XMLStreamException e) {
+                close();
+                throw new UncheckedIOException(new IOException("Error reading sheet XML", e));
+            }
+        }
+        return nextRow != null;
+    }
+
+    @Override
+    public Map<String, String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Map<String, String> row = nextRow;
+        nextRow = null;
+        return row;
+    }
+
+    /**
+     * Reads the cells of the next row element
+     *
+     * @return Cell values by column index, "" for missing cells, or null after the last row.
+     *         The number of cell elements read is left in rowCellCount.
+     */
+    private List<String> readRow() throws XMLStreamException {
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT && "sheetData".equals(xml.getLocalName())) {
+                return null;
+            }
+        }
+        if (!xml.hasNext()) {
+            return null;
+        }
+        String rowReference = xml.getAttributeValue(null, "r");
+        rowNumber = rowReference == null ? rowNumber + 1 : Integer.parseInt(rowReference) - 1;
+
+        List<String> values = new ArrayList<>();
+        rowCellCount = 0;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                return values;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+                String reference = xml.getAttributeValue(null, "r");
+                int column = reference == null ? values.size() : new CellReference(reference).getCol();
+                rowCellCount++;
+                String value = readCell(column, xml.getAttributeValue(null, "t"), xml.getAttributeValue(null, "s"));
+                while (values.size() <= column) {
+                    values.add("");
+                }
+                values.set(column, value);
+            }
+        }
+        return values;
+    }
+
+    private String readCell(int column, String type, String style) throws XMLStreamException {
+        String value = null;
+        String formula = null;
+        StringBuilder inlineText = new StringBuilder();
+        int phoneticDepth = 0;
+
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                if ("c".equals(xml.getLocalName())) {
+                    break;
+                }
+                if ("rPh".equals(xml.getLocalName())) {
+                    phoneticDepth--;
+                }
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("v".equals(name)) {
+                    value = xml.getElementText();
+                } else if ("f".equals(name)) {
+                    boolean shared = "shared".equals(xml.getAttributeValue(null, "t"));
+                    String sharedIndex = xml.getAttributeValue(null, "si");
+                    formula = xml.getElementText();
+                    if (shared && sharedIndex != null) {
+                        formula = resolveSharedFormula(sharedIndex, formula, column);
+                    }
+                } else if ("rPh".equals(name)) {
+                    phoneticDepth++;
+                } else if ("t".equals(name) && phoneticDepth == 0) {
+                    inlineText.append(xml.getElementText());
+                }
+            }
+        }
+
+        // Same conversions as ExcelReader.getCellValueAsString
+        if (formula != null && !formula.isEmpty()) {
+            return formula;
+        }
+        if ("inlineStr".equals(type)) {
+            return inlineText.toString();
+        }
+        if (value == null) {
+            return "";
+        }
+        if ("s".equals(type)) {
+            return sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+        }
+        if ("b".equals(type)) {
+            return String.valueOf("1".equals(value));
+        }
+        if ("str".equals(type)) {
+            return value;
+        }
+        if ("e".equals(type)) {
+            return "";
+        }
+        double number = Double.parseDouble(value);
+        if (style != null && isDateStyle(Integer.parseInt(style)) && DateUtil.isValidExcelDate(number)) {
+            return DateUtil.getJavaDate(number, date1904).toString();
+        }
+        // To avoid scientific notation for numbers
+        return String.valueOf((long) number);
+    }
+
+    /**
+     * Registers the formula of the first cell of a shared range, or derives the formula of
+     * another cell of the range from it
+     *
+     * @return Formula of the cell, or "" if the range's first cell has not been read
+     */
+    private String resolveSharedFormula(String sharedIndex, String formula, int column) {
+        if (!formula.isEmpty()) {
+            sharedFormulas.put(sharedIndex, new SharedFormula(formula, rowNumber, column));
+            return formula;
+        }
+        SharedFormula master = sharedFormulas.get(sharedIndex);
+        return master == null ? "" : shiftFormula(master.formula, rowNumber - master.row, column - master.column);
+    }
+
+    /**
+     * Moves the relative A1 references of a formula. String literals and quoted sheet names
+     * are left alone; references moved off the sheet become #REF!.
+     *
+     * @param formula Formula text without the leading '='
+     * @param rows    Rows to move down
+     * @param columns Columns to move right
+     * @return Moved formula
+     */
+    static String shiftFormula(String formula, int rows, int columns) {
+        Matcher matcher = FORMULA_TOKEN.matcher(formula);
+        StringBuilder shifted = new StringBuilder();
+        while (matcher.find()) {
+            String replacement = matcher.group();
+            if (matcher.group(2) != null) {
+                int column = CellReference.convertColStringToIndex(matcher.group(2));
+                int row = Integer.parseInt(matcher.group(4)) - 1;
+                if (column < 16384) {
+                    column += matcher.group(1).isEmpty() ? columns : 0;
+                    row += matcher.group(3).isEmpty() ? rows : 0;
+                    boolean offSheet = column < 0 || column >= 16384 || row < 0 || row >= 1048576;
+                    replacement = offSheet ? "#REF!" : matcher.group(1)
+                            + CellReference.convertNumToColString(column) + matcher.group(3) + (row + 1);
+                }
+            }
+            matcher.appendReplacement(shifted, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(shifted);
+        return shifted.toString();
+    }
+
+    private boolean isDateStyle(int styleIndex) {
+        return dateStyles.computeIfAbsent(styleIndex, index -> {
+            XSSFCellStyle style = styles.getStyleAt(index);
+            return style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+        });
+    }
+
+    @Override
+    public void close() {
+        if (done) {
+            return;
+        }
+        done = true;
+        try {
+            xml.close();
+            sheetStream.close();
+        } catch (XMLStreamException | IOException e) {
+            // Nothing left to read
+        } finally {
+            xlsxPackage.revert();
+        }
+    }
+
+    /**
+     * Formula of the first cell of a shared formula range
+     */
+    private static final class SharedFormula {
+        private final String formula;
+        private final int row;
+        private final int column;
+
+        SharedFormula(String formula, int row, int column) {
+            this.formula = formula;
+            this.row = row;
+            this.column = column;
+        }
+    }
+}
@@ -25,17 +25,17 @@ public class ActionClassTest extends BaseTest {
     public void testHoverOverElement() {
         LOGGER.info("Starting test: testHoverOverElement");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create Actions instance
-            Actions actions = new Actions(driver);
+            Actions actions = new Actions(getDriver());
             
             // Find element to hover over (e.g., categories menu)
-            WebElement menuElement = driver.findElement(By.cssSelector(
+            WebElement menuElement = getDriver().findElement(By.cssSelector(
                 ".categories-list, .category-menu, .top-menu"));
             
             LOGGER.info("Hovering over menu element");
@@ -51,7 +51,7 @@ public class ActionClassTest extends BaseTest {
             }
             
             // Try to find submenu elements that appeared after hover
-            List<WebElement> submenuItems = driver.findElements(By.cssSelector(
+            List<WebElement> submenuItems = getDriver().findElements(By.cssSelector(
                 ".submenu .submenu-item, .dropdown-content a"));
             
             LOGGER.info("Found " + submenuItems.size() + " submenu items after hover");
@@ -72,20 +72,20 @@ public class ActionClassTest extends BaseTest {
     public void testDragAndDrop() {
         LOGGER.info("Starting test: testDragAndDrop");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create Actions instance
-            Actions actions = new Actions(driver);
+            Actions actions = new Actions(getDriver());
             
             // Search for products to get to a page that might have sliders
             ProductSearchPage searchPage = homePage.searchProductByCss("laptop");
             
             // Find potential drag elements (price slider handles)
-            List<WebElement> sliderHandles = driver.findElements(By.cssSelector(
+            List<WebElement> sliderHandles = getDriver().findElements(By.cssSelector(
                 ".slider-handle, .range-slider span, .filter-slider .handle"));
             
             if (sliderHandles.size() >= 2) {
@@ -101,7 +101,7 @@ public class ActionClassTest extends BaseTest {
                 LOGGER.warning("No suitable drag elements found, demonstrating drag with offsets instead");
                 
                 // Find any element to demonstrate dragAndDropBy
-                WebElement element = driver.findElement(By.cssSelector("a, button, img"));
+                WebElement element = getDriver().findElement(By.cssSelector("a, button, img"));
                 
                 // Just demonstrate the API without actually moving anything functional
                 // This is for teaching purposes only
@@ -129,17 +129,17 @@ public class ActionClassTest extends BaseTest {
     public void testRightClickContextMenu() {
         LOGGER.info("Starting test: testRightClickContextMenu");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create Actions instance
-            Actions actions = new Actions(driver);
+            Actions actions = new Actions(getDriver());
             
             // Find element to right-click
-            WebElement element = driver.findElement(By.cssSelector("img, a, div.product-item"));
+            WebElement element = getDriver().findElement(By.cssSelector("img, a, div.product-item"));
             
             LOGGER.info("Performing right-click on element");
             
@@ -172,17 +172,17 @@ public class ActionClassTest extends BaseTest {
     public void testKeyboardActions() {
         LOGGER.info("Starting test: testKeyboardActions");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create Actions instance
-            Actions actions = new Actions(driver);
+            Actions actions = new Actions(getDriver());
             
             // Find search input
-            WebElement searchBox = driver.findElement(By.cssSelector(
+            WebElement searchBox = getDriver().findElement(By.cssSelector(
                 "input[placeholder*='Search'], .search-box"));
             
             LOGGER.info("Demonstrating keyboard actions");
@@ -201,13 +201,13 @@ public class ActionClassTest extends BaseTest {
                    .perform();
             
             // Wait for page to load after search
-            new com.aliexpress.automation.utils.WaitUtils(driver).waitForPageLoad();
+            new com.aliexpress.automation.utils.WaitUtils(getDriver()).waitForPageLoad();
             
             // Verify search was performed
-            Assert.assertTrue(driver.getCurrentUrl().contains("tablet"), 
+            Assert.assertTrue(getDriver().getCurrentUrl().contains("tablet"), 
                 "URL should contain search term after keyboard actions");
             
-            LOGGER.info("Successfully performed keyboard actions, current URL: " + driver.getCurrentUrl());
+            LOGGER.info("Successfully performed keyboard actions, current URL: " + getDriver().getCurrentUrl());
         } catch (Exception e) {
             LOGGER.warning("Could not complete keyboard actions test: " + e.getMessage());
             // Don't fail the test, as we're just demonstrating the Actions class
@@ -222,14 +222,14 @@ public class ActionClassTest extends BaseTest {
     public void testDoubleClick() {
         LOGGER.info("Starting test: testDoubleClick");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create Actions instance
-            Actions actions = new Actions(driver);
+            Actions actions = new Actions(getDriver());
             
             // Search for a product
             ProductSearchPage searchPage = homePage.searchProductByCss("smartphone");
@@ -238,13 +238,13 @@ public class ActionClassTest extends BaseTest {
             ProductDetailPage productPage = searchPage.openProductByIndex(0);
             
             // Find element to double-click (e.g., product image)
-            WebElement productImage = driver.findElement(By.cssSelector(
+            WebElement productImage = getDriver().findElement(By.cssSelector(
                 ".product-image, .gallery-image, img.product"));
             
             LOGGER.info("Performing double-click on product image");
             
             // Scroll to image and perform double-click
-            new com.aliexpress.automation.utils.JavaScriptUtils(driver)
+            new com.aliexpress.automation.utils.JavaScriptUtils(getDriver())
                 .scrollToElement(productImage);
             
             actions.doubleClick(productImage).perform();
@@ -268,26 +268,26 @@ public class ActionClassTest extends BaseTest {
     public void testClickAndHold() {
         LOGGER.info("Starting test: testClickAndHold");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create Actions instance
-            Actions actions = new Actions(driver);
+            Actions actions = new Actions(getDriver());
             
             // Search for a product
             homePage.searchProductByCss("power bank");
             
             // Find an element to click and hold
-            WebElement element = driver.findElement(By.cssSelector(
+            WebElement element = getDriver().findElement(By.cssSelector(
                 ".product-image, img.product, div.item-content"));
             
             LOGGER.info("Performing click and hold on element");
             
             // Scroll to element and perform click and hold
-            new com.aliexpress.automation.utils.JavaScriptUtils(driver)
+            new com.aliexpress.automation.utils.JavaScriptUtils(getDriver())
                 .scrollToElement(element);
             
             // Perform click and hold for a short time
@@ -319,17 +319,17 @@ public class ActionClassTest extends BaseTest {
     public void testComplexActionsChain() {
         LOGGER.info("Starting test: testComplexActionsChain");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create Actions instance
-            Actions actions = new Actions(driver);
+            Actions actions = new Actions(getDriver());
             
             // Find search input
-            WebElement searchBox = driver.findElement(By.cssSelector(
+            WebElement searchBox = getDriver().findElement(By.cssSelector(
                 "input[placeholder*='Search'], .search-box"));
             
             LOGGER.info("Demonstrating complex action chain");
@@ -358,14 +358,14 @@ public class ActionClassTest extends BaseTest {
                    .perform();
             
             // Wait for page to load after search
-            new com.aliexpress.automation.utils.WaitUtils(driver).waitForPageLoad();
+            new com.aliexpress.automation.utils.WaitUtils(getDriver()).waitForPageLoad();
             
             // Verify search was performed
-            Assert.assertTrue(driver.getCurrentUrl().contains("wireless") || 
-                             driver.getCurrentUrl().contains("headphones"), 
+            Assert.assertTrue(getDriver().getCurrentUrl().contains("wireless") || 
+                             getDriver().getCurrentUrl().contains("headphones"), 
                 "URL should contain search term after complex action chain");
             
-            LOGGER.info("Successfully performed complex action chain, current URL: " + driver.getCurrentUrl());
+            LOGGER.info("Successfully performed complex action chain, current URL: " + getDriver().getCurrentUrl());
         } catch (Exception e) {
             LOGGER.warning("Could not complete complex actions test: " + e.getMessage());
             // Don't fail the test, as we're just demonstrating the Actions class
@@ -23,7 +23,7 @@ public class CSSSelectorTest extends BaseTest {
     public void testSearchWithCssSelector() {
         LOGGER.info("Starting test: testSearchWithCssSelector");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -45,7 +45,7 @@ public class CSSSelectorTest extends BaseTest {
     public void testProductDetailWithCssSelector() {
         LOGGER.info("Starting test: testProductDetailWithCssSelector");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -73,7 +73,7 @@ public class CSSSelectorTest extends BaseTest {
     public void testCategoryNavigationWithCssSelector() {
         LOGGER.info("Starting test: testCategoryNavigationWithCssSelector");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -81,18 +81,18 @@ public class CSSSelectorTest extends BaseTest {
         // Navigate to a category using CSS selectors
         try {
             // Using CSS selector to find the Electronics category
-            WebElement electronicsCategory = driver.findElement(By.cssSelector(
+            WebElement electronicsCategory = getDriver().findElement(By.cssSelector(
                 "a[href*='electronics'], a.category-item:nth-child(1)"));
             
             LOGGER.info("Found Electronics category element");
             
             // Scroll to the element and click it
-            new com.aliexpress.automation.utils.JavaScriptUtils(driver)
+            new com.aliexpress.automation.utils.JavaScriptUtils(getDriver())
                 .scrollToElement(electronicsCategory);
             electronicsCategory.click();
             
             // Verify we are on the category page by checking for elements
-            WebElement categoryTitle = driver.findElement(By.cssSelector(
+            WebElement categoryTitle = getDriver().findElement(By.cssSelector(
                 "h1.category-title, .category-name"));
             
             Assert.assertTrue(categoryTitle.isDisplayed(), "Category title should be displayed");
@@ -110,7 +110,7 @@ public class CSSSelectorTest extends BaseTest {
     public void testProductFilteringWithCssSelector() {
         LOGGER.info("Starting test: testProductFilteringWithCssSelector");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -120,15 +120,15 @@ public class CSSSelectorTest extends BaseTest {
         
         try {
             // Find and click on a filter using CSS selectors
-            WebElement priceFilter = driver.findElement(By.cssSelector(
+            WebElement priceFilter = getDriver().findElement(By.cssSelector(
                 ".filter-section:has(span:contains('Price')), .filter-item.price"));
             
             // Scroll to the filter element
-            new com.aliexpress.automation.utils.JavaScriptUtils(driver)
+            new com.aliexpress.automation.utils.JavaScriptUtils(getDriver())
                 .scrollToElement(priceFilter);
             
             // Set price range if input fields are available
-            List<WebElement> priceInputs = driver.findElements(By.cssSelector(
+            List<WebElement> priceInputs = getDriver().findElements(By.cssSelector(
                 "input[placeholder*='min'], input[placeholder*='max'], input.price-filter"));
             
             if (priceInputs.size() >= 2) {
@@ -139,7 +139,7 @@ public class CSSSelectorTest extends BaseTest {
                 
                 // Find and click apply button if available
                 try {
-                    WebElement applyButton = driver.findElement(By.cssSelector(
+                    WebElement applyButton = getDriver().findElement(By.cssSelector(
                         "button.apply, button.ok-button, button.apply-filter"));
                     applyButton.click();
                 } catch (Exception e) {
@@ -150,13 +150,13 @@ public class CSSSelectorTest extends BaseTest {
                 LOGGER.info("Applied price filter: $150-$600");
                 
                 // Wait for page to load after filtering
-                new com.aliexpress.automation.utils.WaitUtils(driver).waitForPageLoad();
+                new com.aliexpress.automation.utils.WaitUtils(getDriver()).waitForPageLoad();
                 
                 // Verify filtering worked by checking current URL or results
-                Assert.assertTrue(driver.getCurrentUrl().contains("price"), 
+                Assert.assertTrue(getDriver().getCurrentUrl().contains("price"), 
                     "URL should contain price parameter after filtering");
                 
-                LOGGER.info("Filter applied successfully, current URL: " + driver.getCurrentUrl());
+                LOGGER.info("Filter applied successfully, current URL: " + getDriver().getCurrentUrl());
             } else {
                 LOGGER.warning("Price filter inputs not found, skipping test");
             }
@@ -173,7 +173,7 @@ public class CSSSelectorTest extends BaseTest {
     public void testAdvancedCssSelectorUsage() {
         LOGGER.info("Starting test: testAdvancedCssSelectorUsage");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -182,23 +182,23 @@ public class CSSSelectorTest extends BaseTest {
             // Example of using complex CSS selector expressions
             
             // Find elements using child combinator
-            List<WebElement> childElements = driver.findElements(By.cssSelector(
+            List<WebElement> childElements = getDriver().findElements(By.cssSelector(
                 ".header > .navigation, .top-section > .nav-item"));
             
             // Find elements using descendant combinator
-            List<WebElement> descendantElements = driver.findElements(By.cssSelector(
+            List<WebElement> descendantElements = getDriver().findElements(By.cssSelector(
                 ".product-section img, .item-container span"));
             
             // Find elements using adjacent sibling combinator
-            List<WebElement> adjacentSiblingElements = driver.findElements(By.cssSelector(
+            List<WebElement> adjacentSiblingElements = getDriver().findElements(By.cssSelector(
                 ".header + .content, .title + .description"));
             
             // Find elements using general sibling combinator
-            List<WebElement> generalSiblingElements = driver.findElements(By.cssSelector(
+            List<WebElement> generalSiblingElements = getDriver().findElements(By.cssSelector(
                 ".header ~ .footer, .nav-item ~ .dropdown"));
             
             // Find elements using attribute selectors
-            List<WebElement> attributeElements = driver.findElements(By.cssSelector(
+            List<WebElement> attributeElements = getDriver().findElements(By.cssSelector(
                 "[data-role='search'], [class*='product'][id^='item']"));
             
             LOGGER.info("Advanced CSS selector elements found: " + 
@@ -0,0 +1,144 @@
+package com.aliexpress.automation.tests.csv;
+
+import com.aliexpress.automation.utils.CSVReader;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Checks the RFC 4180 parsing behind {@link CSVReader} on small temporary files.
+ * Runs without a browser.
+ */
+public class CSVParserTest {
+
+    private Path directory;
+
+    @BeforeClass
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("csv-parser-test");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Test quoted fields that contain delimiters, escaped quotes and line breaks
+     */
+    @Test
+    public void testQuotedFields() throws IOException {
+        Path file = write("quoted.csv", "name,description\n"
+                + "\"Doe, John\",\"He said \"\"hi\"\"\"\n"
+                + "multi,\"first line\nsecond line\"\n");
+
+        List<String[]> records = new CSVReader(file.toString()).readAll();
+
+        Assert.assertEquals(records.size(), 3, "Quoted line breaks should not start a new record");
+        Assert.assertEquals(records.get(1), new String[]{"Doe, John", "He said \"hi\""});
+        Assert.assertEquals(records.get(2), new String[]{"multi", "first line\nsecond line"});
+    }
+
+    /**
+     * Test that CRLF line endings are not kept in the last field
+     */
+    @Test
+    public void testCrlfLineEndings() throws IOException {
+        Path file = write("crlf.csv", "a,b\r\n1,2\r\n\"3\",\"x\r\ny\"\r\n");
+
+        List<String[]> records = new CSVReader(file.toString()).readAll();
+
+        Assert.assertEquals(records.size(), 3);
+        Assert.assertEquals(records.get(1), new String[]{"1", "2"});
+        Assert.assertEquals(records.get(2), new String[]{"3", "x\r\ny"});
+    }
+
+    /**
+     * Test that a UTF-8 byte order mark is not part of the first column name
+     */
+    @Test
+    public void testByteOrderMark() throws IOException {
+        Path file = write("bom.csv", "\uFEFFid,name\n1,Jane\n");
+
+        List<String[]> records = new CSVReader(file.toString()).readAll();
+
+        Assert.assertEquals(records.get(0), new String[]{"id", "name"});
+        Assert.assertEquals(new CSVReader(file.toString()).readAllAsMap().get(0).get("id"), "1");
+    }
+
+    /**
+     * Test that empty fields at the end of a record are kept
+     */
+    @Test
+    public void testTrailingEmptyFields() throws IOException {
+        Path file = write("trailing.csv", "a,b,c\n1,,\n,,\n");
+
+        List<String[]> records = new CSVReader(file.toString()).readAll();
+
+        Assert.assertEquals(records.get(1), new String[]{"1", "", ""});
+        Assert.assertEquals(records.get(2), new String[]{"", "", ""});
+    }
+
+    /**
+     * Test that blank lines do not produce records
+     */
+    @Test
+    public void testBlankLinesSkipped() throws IOException {
+        Path file = write("blank.csv", "a,b\n\n1,2\r\n\r\n3,4\n\n");
+
+        List<String[]> records = new ArrayList<>();
+        try (CSVReader.RecordIterator iterator = new CSVReader(file.toString()).iterator()) {
+            iterator.forEachRemaining(records::add);
+        }
+
+        Assert.assertEquals(records.size(), 3, "Blank lines should be skipped");
+        Assert.assertEquals(records.get(1), new String[]{"1", "2"});
+        Assert.assertEquals(records.get(2), new String[]{"3", "4"});
+    }
+
+    /**
+     * Test that a memory-mapped reader returns the same records as a stream reader
+     */
+    @Test
+    public void testMemoryMappedReader() throws IOException {
+        StringBuilder content = new StringBuilder("id,text\n");
+        for (int i = 0; i < 5000; i++) {
+            content.append(i).append(",\"caf\u00e9, \"\"").append(i).append("\"\"\nline\"\n");
+        }
+        Path file = write("mapped.csv", content.toString());
+
+        List<String[]> mapped = new ArrayList<>();
+        try (CSVReader.RecordIterator iterator = new CSVReader(file.toString(), ",", true).iterator()) {
+            iterator.forEachRemaining(mapped::add);
+        }
+        List<String[]> streamed = new ArrayList<>();
+        try (CSVReader.RecordIterator iterator = new CSVReader(file.toString(), ",", false).iterator()) {
+            iterator.forEachRemaining(streamed::add);
+        }
+
+        Assert.assertEquals(mapped.size(), 5001);
+        Assert.assertEquals(mapped.get(4321), new String[]{"4320", "caf\u00e9, \"4320\"\nline"});
+        for (int i = 0; i < mapped.size(); i++) {
+            Assert.assertEquals(mapped.get(i), streamed.get(i), "Record " + i + " differs");
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,6 +1,8 @@
 package com.aliexpress.automation.tests.csv;
 
 import com.aliexpress.automation.base.BaseTest;
+import com.aliexpress.automation.base.TestData;
+import com.aliexpress.automation.base.TestDataProviders;
 import com.aliexpress.automation.pages.HomePage;
 import com.aliexpress.automation.utils.CSVReader;
 import org.testng.Assert;
@@ -161,41 +163,28 @@ public class CSVReaderTest extends BaseTest {
     }
     
     /**
-     * Test data-driven search using CSV data
+     * Test data-driven search using CSV data.
+     * Rows are streamed from the CSV file by the data provider, limited to the first 2 terms to save time.
+     *
+     * @param searchTerm Search term from the SearchTerm column
      */
-    @Test
-    public void testDataDrivenSearchWithCSV() {
-        LOGGER.info("Starting test: testDataDrivenSearchWithCSV");
+    @Test(dataProvider = "testData", dataProviderClass = TestDataProviders.class)
+    @TestData(file = CSV_FILE, columns = "SearchTerm", limit = 2)
+    public void testDataDrivenSearchWithCSV(String searchTerm) {
+        LOGGER.info("Starting test: testDataDrivenSearchWithCSV with term: " + searchTerm);
         
         try {
-            // Create CSV reader
-            CSVReader csvReader = new CSVReader(CSV_FILE);
+            HomePage homePage = new HomePage(getDriver());
             
-            // Read search terms column
-            String[] searchTerms = csvReader.readColumn(0);
+            // Close popup if it appears
+            homePage.closePopupIfPresent();
             
-            // Limit to first 2 terms to save time
-            int termsToTest = Math.min(2, searchTerms.length);
+            // Search for product
+            homePage.searchProductByCss(searchTerm);
             
-            for (int i = 0; i < termsToTest; i++) {
-                String searchTerm = searchTerms[i];
-                LOGGER.info("Testing search with term: " + searchTerm);
-                
-                HomePage homePage = new HomePage(driver);
-                
-                // Close popup if it appears
-                homePage.closePopupIfPresent();
-                
-                // Search for product
-                homePage.searchProductByCss(searchTerm);
-                
-                // Capture screenshot of results
-                String screenshotPath = ScreenshotUtils.captureScreenshot(driver, "CSV_Search_" + searchTerm);
-                LOGGER.info("Captured search results screenshot: " + screenshotPath);
-                
-                // Navigate back to home page for next search
-                driver.get(configReader.getProperty("base.url", "https://aliexpress.com"));
-            }
+            // Capture screenshot of results
+            String screenshotPath = ScreenshotUtils.captureScreenshot(getDriver(), "CSV_Search_" + searchTerm);
+            LOGGER.info("Captured search results screenshot: " + screenshotPath);
             
             LOGGER.info("Successfully completed data-driven search with CSV data");
             Assert.assertTrue(true, "Successfully completed data-driven search");
@@ -1,6 +1,7 @@
 package com.aliexpress.automation.tests.excel;
 
 import com.aliexpress.automation.base.BaseTest;
+import com.aliexpress.automation.data.TestDataSources;
 import com.aliexpress.automation.pages.HomePage;
 import com.aliexpress.automation.utils.ExcelReader;
 import org.testng.Assert;
@@ -167,11 +168,8 @@ public class ExcelReaderTest extends BaseTest {
         LOGGER.info("Starting test: testDataDrivenSearchWithExcel");
         
         try {
-            // Create Excel reader
-            ExcelReader excelReader = new ExcelReader(EXCEL_FILE);
-            
-            // Read search data
-            List<Map<String, String>> searchData = excelReader.getSheetData("SearchTerms");
+            // Read search data through the shared test data cache
+            List<Map<String, String>> searchData = TestDataSources.load(EXCEL_FILE, "SearchTerms").getRows();
             
             // Limit to first 2 rows to save time
             int rowsToTest = Math.min(2, searchData.size());
@@ -182,7 +180,7 @@ public class ExcelReaderTest extends BaseTest {
                 
                 LOGGER.info("Testing search with term: " + searchTerm);
                 
-                HomePage homePage = new HomePage(driver);
+                HomePage homePage = new HomePage(getDriver());
                 
                 // Close popup if it appears
                 homePage.closePopupIfPresent();
@@ -191,11 +189,11 @@ public class ExcelReaderTest extends BaseTest {
                 homePage.searchProductByCss(searchTerm);
                 
                 // Capture screenshot of results
-                String screenshotPath = ScreenshotUtils.captureScreenshot(driver, "Search_" + searchTerm);
+                String screenshotPath = ScreenshotUtils.captureScreenshot(getDriver(), "Search_" + searchTerm);
                 LOGGER.info("Captured search results screenshot: " + screenshotPath);
                 
                 // Navigate back to home page for next search
-                driver.get(configReader.getProperty("base.url", "https://aliexpress.com"));
+                getDriver().get(getBaseUrl());
             }
             
             LOGGER.info("Successfully completed data-driven search with Excel data");
@@ -0,0 +1,98 @@
+package com.aliexpress.automation.tests.excel;
+
+import com.aliexpress.automation.utils.ConfigReader;
+import com.aliexpress.automation.utils.ExcelReader;
+import com.aliexpress.automation.utils.TestDataSnapshot;
+import com.aliexpress.automation.utils.TestDataSnapshotCompiler;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Checks that {@link ExcelReader} returns the same data whether or not the build compiled a
+ * snapshot of the workbook. Runs without a browser.
+ */
+public class ExcelSnapshotTest {
+
+    private static final String SHEET = "Gaps";
+
+    private Path dataDir;
+    private Path snapshotDir;
+    private Path workbookFile;
+
+    @BeforeClass
+    public void createWorkbook() throws IOException {
+        ConfigReader configReader = new ConfigReader();
+        dataDir = Paths.get(configReader.getProperty("test.data.path", "src/test/resources/testdata/"));
+        snapshotDir = Paths.get(configReader.getProperty("test.data.snapshot.path", "target/testdata-snapshots/"));
+        workbookFile = dataDir.resolve("snapshotGaps.xlsx");
+        Files.createDirectories(dataDir);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             OutputStream output = Files.newOutputStream(workbookFile)) {
+            Sheet sheet = workbook.createSheet(SHEET);
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("name");
+            header.createCell(1).setCellValue("count");
+            sheet.createRow(1).createCell(0).setCellValue("r1");
+            Row third = sheet.createRow(3);
+            third.createCell(0).setCellValue("r3");
+            third.createCell(1).setCellValue(42);
+            Row sixth = sheet.createRow(6);
+            sixth.createCell(1).setCellValue(7);
+            workbook.write(output);
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteWorkbook() throws IOException {
+        if (workbookFile != null) {
+            Files.deleteIfExists(workbookFile);
+            Files.deleteIfExists(snapshotDir.resolve(workbookFile.getFileName() + TestDataSnapshot.EXTENSION));
+        }
+    }
+
+    /**
+     * Test that a sheet with missing rows and cells reads the same from the snapshot
+     */
+    @Test
+    public void testSnapshotMatchesWorkbook() throws IOException {
+        ExcelReader reader = new ExcelReader(workbookFile.toString());
+        Assert.assertNull(TestDataSnapshot.find(workbookFile.toString()), "No snapshot should exist yet");
+        List<Map<String, String>> sheetData = reader.getSheetData(SHEET);
+        List<Map<String, String>> streamedData = streamSheetData(reader);
+        String cell = reader.getCellData(SHEET, 3, 0);
+        String[] column = reader.getColumnData(SHEET, "count");
+
+        TestDataSnapshotCompiler.main(new String[]{dataDir.toString(), snapshotDir.toString()});
+        Assert.assertNotNull(TestDataSnapshot.find(workbookFile.toString()), "Snapshot should have been compiled");
+
+        Assert.assertEquals(reader.getSheetData(SHEET), sheetData);
+        Assert.assertEquals(streamSheetData(reader), streamedData);
+        Assert.assertEquals(streamedData, sheetData, "Streamed rows should match the workbook rows");
+        Assert.assertEquals(reader.getCellData(SHEET, 3, 0), cell);
+        Assert.assertEquals(cell, "r3");
+        Assert.assertEquals(reader.getColumnData(SHEET, "count"), column);
+        Assert.assertEquals(reader.getSheetNames(), List.of(SHEET));
+    }
+
+    private static List<Map<String, String>> streamSheetData(ExcelReader reader) {
+        try (Stream<Map<String, String>> rows = reader.streamSheetData(SHEET)) {
+            return rows.collect(Collectors.toList());
+        }
+    }
+}
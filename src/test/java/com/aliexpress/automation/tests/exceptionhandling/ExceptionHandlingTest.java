@@ -26,21 +26,21 @@ public class ExceptionHandlingTest extends BaseTest {
     public void testHandlingNoSuchElementException() {
         LOGGER.info("Starting test: testHandlingNoSuchElementException");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Try to find a non-existent element
-            WebElement nonExistentElement = driver.findElement(By.id("non-existent-id"));
+            WebElement nonExistentElement = getDriver().findElement(By.id("non-existent-id"));
             LOGGER.severe("Should not reach this code as element doesn't exist");
         } catch (NoSuchElementException e) {
             // Expected exception - handle it gracefully
             LOGGER.info("Successfully caught NoSuchElementException as expected: " + e.getMessage());
             
             // Try alternative approach - check if element exists first
-            boolean elementExists = !driver.findElements(By.id("non-existent-id")).isEmpty();
+            boolean elementExists = !getDriver().findElements(By.id("non-existent-id")).isEmpty();
             
             if (elementExists) {
                 LOGGER.info("Element found with alternative approach");
@@ -60,17 +60,17 @@ public class ExceptionHandlingTest extends BaseTest {
     public void testHandlingStaleElementReferenceException() {
         LOGGER.info("Starting test: testHandlingStaleElementReferenceException");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Get reference to search box
-            WebElement searchBox = driver.findElement(By.cssSelector("input[placeholder*='Search'], .search-box"));
+            WebElement searchBox = getDriver().findElement(By.cssSelector("input[placeholder*='Search'], .search-box"));
             
             // Refresh the page to make the element stale
-            driver.navigate().refresh();
+            getDriver().navigate().refresh();
             
             try {
                 // Try to interact with the now-stale element
@@ -81,7 +81,7 @@ public class ExceptionHandlingTest extends BaseTest {
                 LOGGER.info("Successfully caught StaleElementReferenceException as expected: " + e.getMessage());
                 
                 // Re-find the element after page refresh
-                searchBox = driver.findElement(By.cssSelector("input[placeholder*='Search'], .search-box"));
+                searchBox = getDriver().findElement(By.cssSelector("input[placeholder*='Search'], .search-box"));
                 searchBox.sendKeys("test");
                 LOGGER.info("Successfully interacted with refreshed element after handling StaleElementReferenceException");
             }
@@ -101,7 +101,7 @@ public class ExceptionHandlingTest extends BaseTest {
     public void testHandlingTimeoutException() {
         LOGGER.info("Starting test: testHandlingTimeoutException");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -109,7 +109,7 @@ public class ExceptionHandlingTest extends BaseTest {
         try {
             // Set a very short timeout to force a TimeoutException
             org.openqa.selenium.support.ui.WebDriverWait shortWait = 
-                new org.openqa.selenium.support.ui.WebDriverWait(driver, Duration.ofMillis(100));
+                new org.openqa.selenium.support.ui.WebDriverWait(getDriver(), Duration.ofMillis(100));
             
             try {
                 // Wait for a complex condition that will timeout
@@ -124,7 +124,7 @@ public class ExceptionHandlingTest extends BaseTest {
                 LOGGER.info("Successfully caught TimeoutException as expected: " + e.getMessage());
                 
                 // Fall back to a non-waiting approach
-                int actualCount = driver.findElements(By.cssSelector(".non-existent-class")).size();
+                int actualCount = getDriver().findElements(By.cssSelector(".non-existent-class")).size();
                 LOGGER.info("Fallback approach: found " + actualCount + " elements without waiting");
             }
         } catch (Exception e) {
@@ -143,14 +143,14 @@ public class ExceptionHandlingTest extends BaseTest {
     public void testHandlingElementClickInterceptedException() {
         LOGGER.info("Starting test: testHandlingElementClickInterceptedException");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Find an element that might be intercepted (e.g., by a popup)
-            WebElement element = driver.findElement(By.cssSelector("a[href*='category'], .nav-item"));
+            WebElement element = getDriver().findElement(By.cssSelector("a[href*='category'], .nav-item"));
             
             try {
                 // Try to click the element
@@ -163,7 +163,7 @@ public class ExceptionHandlingTest extends BaseTest {
                 // Try JavaScript click as alternative
                 LOGGER.info("Attempting JavaScript click as alternative");
                 com.aliexpress.automation.utils.JavaScriptUtils jsUtils = 
-                    new com.aliexpress.automation.utils.JavaScriptUtils(driver);
+                    new com.aliexpress.automation.utils.JavaScriptUtils(getDriver());
                 jsUtils.clickElementWithJS(element);
                 
                 LOGGER.info("Successfully clicked element using JavaScript after handling ElementClickInterceptedException");
@@ -206,7 +206,7 @@ public class ExceptionHandlingTest extends BaseTest {
     public void testRetryMechanismForFlakyElements() {
         LOGGER.info("Starting test: testRetryMechanismForFlakyElements");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -223,7 +223,7 @@ public class ExceptionHandlingTest extends BaseTest {
                 LOGGER.info("Attempt " + (retryCount + 1) + " of " + maxRetries);
                 
                 // Example action: clicking on a potentially flaky element
-                WebElement element = driver.findElement(By.cssSelector("a[href*='deals'], .top-promotion"));
+                WebElement element = getDriver().findElement(By.cssSelector("a[href*='deals'], .top-promotion"));
                 element.click();
                 
                 // If we get here without exception, the action was successful
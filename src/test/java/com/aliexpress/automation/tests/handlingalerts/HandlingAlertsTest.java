@@ -23,14 +23,14 @@ public class HandlingAlertsTest extends BaseTest {
     public void testHandleSimpleAlert() {
         LOGGER.info("Starting test: testHandleSimpleAlert");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create JavaScript executor
-            JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
+            JavascriptExecutor jsExecutor = (JavascriptExecutor) getDriver();
             
             // Generate a simple alert
             LOGGER.info("Generating simple alert");
@@ -44,7 +44,7 @@ public class HandlingAlertsTest extends BaseTest {
             }
             
             // Switch to alert and get text
-            Alert alert = driver.switchTo().alert();
+            Alert alert = getDriver().switchTo().alert();
             String alertText = alert.getText();
             
             LOGGER.info("Alert text: " + alertText);
@@ -56,7 +56,7 @@ public class HandlingAlertsTest extends BaseTest {
             
             // Verify alert is no longer present
             try {
-                driver.switchTo().alert();
+                getDriver().switchTo().alert();
                 Assert.fail("Alert should no longer be present");
             } catch (NoAlertPresentException e) {
                 LOGGER.info("Alert is no longer present as expected");
@@ -76,14 +76,14 @@ public class HandlingAlertsTest extends BaseTest {
     public void testHandleConfirmationAlert() {
         LOGGER.info("Starting test: testHandleConfirmationAlert");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create JavaScript executor
-            JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
+            JavascriptExecutor jsExecutor = (JavascriptExecutor) getDriver();
             
             // Generate a confirmation alert
             LOGGER.info("Generating confirmation alert");
@@ -97,7 +97,7 @@ public class HandlingAlertsTest extends BaseTest {
             }
             
             // Switch to alert and get text
-            Alert alert = driver.switchTo().alert();
+            Alert alert = getDriver().switchTo().alert();
             String alertText = alert.getText();
             
             LOGGER.info("Alert text: " + alertText);
@@ -118,7 +118,7 @@ public class HandlingAlertsTest extends BaseTest {
             }
             
             // Switch to alert and accept it (click OK)
-            alert = driver.switchTo().alert();
+            alert = getDriver().switchTo().alert();
             alert.accept();
             LOGGER.info("Successfully accepted the second confirmation alert");
             
@@ -137,14 +137,14 @@ public class HandlingAlertsTest extends BaseTest {
     public void testHandlePromptAlert() {
         LOGGER.info("Starting test: testHandlePromptAlert");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create JavaScript executor
-            JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
+            JavascriptExecutor jsExecutor = (JavascriptExecutor) getDriver();
             
             // Generate a prompt alert
             LOGGER.info("Generating prompt alert");
@@ -158,7 +158,7 @@ public class HandlingAlertsTest extends BaseTest {
             }
             
             // Switch to alert and get text
-            Alert alert = driver.switchTo().alert();
+            Alert alert = getDriver().switchTo().alert();
             String alertText = alert.getText();
             
             LOGGER.info("Alert text: " + alertText);
@@ -198,7 +198,7 @@ public class HandlingAlertsTest extends BaseTest {
     public void testIsAlertPresent() {
         LOGGER.info("Starting test: testIsAlertPresent");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -210,7 +210,7 @@ public class HandlingAlertsTest extends BaseTest {
             Assert.assertFalse(alertPresent, "No alert should be present at start of test");
             
             // Create JavaScript executor
-            JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
+            JavascriptExecutor jsExecutor = (JavascriptExecutor) getDriver();
             
             // Generate an alert
             LOGGER.info("Generating alert");
@@ -229,7 +229,7 @@ public class HandlingAlertsTest extends BaseTest {
             Assert.assertTrue(alertPresent, "Alert should be present after generating");
             
             // Dismiss the alert
-            driver.switchTo().alert().accept();
+            getDriver().switchTo().alert().accept();
             
             // Alert should no longer be present
             alertPresent = isAlertPresent();
@@ -251,14 +251,14 @@ public class HandlingAlertsTest extends BaseTest {
     public void testHandleUnexpectedAlert() {
         LOGGER.info("Starting test: testHandleUnexpectedAlert");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create JavaScript executor
-            JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
+            JavascriptExecutor jsExecutor = (JavascriptExecutor) getDriver();
             
             // Set up a delayed alert that will appear during other operations
             LOGGER.info("Setting up delayed alert");
@@ -268,7 +268,7 @@ public class HandlingAlertsTest extends BaseTest {
             // Perform some other action
             LOGGER.info("Performing search while alert will appear");
             try {
-                WebElement searchBox = driver.findElement(By.cssSelector(
+                WebElement searchBox = getDriver().findElement(By.cssSelector(
                     "input[placeholder*='Search'], .search-box"));
                 searchBox.clear();
                 searchBox.sendKeys("wireless charger");
@@ -289,9 +289,9 @@ public class HandlingAlertsTest extends BaseTest {
                 // Handle the unexpected alert
                 if (isAlertPresent()) {
                     LOGGER.info("Handling unexpected alert");
-                    String alertText = driver.switchTo().alert().getText();
+                    String alertText = getDriver().switchTo().alert().getText();
                     LOGGER.info("Unexpected alert text: " + alertText);
-                    driver.switchTo().alert().accept();
+                    getDriver().switchTo().alert().accept();
                     LOGGER.info("Successfully handled unexpected alert");
                 }
             }
@@ -312,7 +312,7 @@ public class HandlingAlertsTest extends BaseTest {
      */
     private boolean isAlertPresent() {
         try {
-            driver.switchTo().alert();
+            getDriver().switchTo().alert();
             return true;
         } catch (NoAlertPresentException e) {
             return false;
@@ -23,14 +23,14 @@ public class HandlingIFramesTest extends BaseTest {
     public void testSwitchToIframeByElement() {
         LOGGER.info("Starting test: testSwitchToIframeByElement");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Find existing iframes on page
-            List<WebElement> iframes = driver.findElements(By.tagName("iframe"));
+            List<WebElement> iframes = getDriver().findElements(By.tagName("iframe"));
             
             if (iframes.isEmpty()) {
                 LOGGER.info("No natural iframes found, creating a test iframe");
@@ -39,7 +39,7 @@ public class HandlingIFramesTest extends BaseTest {
                 createTestIframe();
                 
                 // Find our created iframe
-                iframes = driver.findElements(By.tagName("iframe"));
+                iframes = getDriver().findElements(By.tagName("iframe"));
             }
             
             if (!iframes.isEmpty()) {
@@ -48,22 +48,22 @@ public class HandlingIFramesTest extends BaseTest {
                 
                 // Switch to the iframe
                 LOGGER.info("Switching to iframe by element");
-                driver.switchTo().frame(firstIframe);
+                getDriver().switchTo().frame(firstIframe);
                 
                 // Try to find elements inside iframe
                 try {
-                    int elementsInIframe = driver.findElements(By.cssSelector("*")).size();
+                    int elementsInIframe = getDriver().findElements(By.cssSelector("*")).size();
                     LOGGER.info("Found " + elementsInIframe + " elements inside iframe");
                 } catch (Exception e) {
                     LOGGER.warning("Could not find elements in iframe: " + e.getMessage());
                 }
                 
                 // Switch back to main content
-                driver.switchTo().defaultContent();
+                getDriver().switchTo().defaultContent();
                 LOGGER.info("Switched back to main content");
                 
                 // Verify we're back in main content by finding a main page element
-                WebElement mainElement = driver.findElement(By.cssSelector("body"));
+                WebElement mainElement = getDriver().findElement(By.cssSelector("body"));
                 Assert.assertTrue(mainElement.isDisplayed(), "Should be back in main content");
             } else {
                 LOGGER.warning("No iframes found even after creation, skipping test");
@@ -83,14 +83,14 @@ public class HandlingIFramesTest extends BaseTest {
     public void testSwitchToIframeByIndex() {
         LOGGER.info("Starting test: testSwitchToIframeByIndex");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Find existing iframes on page
-            List<WebElement> iframes = driver.findElements(By.tagName("iframe"));
+            List<WebElement> iframes = getDriver().findElements(By.tagName("iframe"));
             
             if (iframes.isEmpty()) {
                 LOGGER.info("No natural iframes found, creating a test iframe");
@@ -99,28 +99,28 @@ public class HandlingIFramesTest extends BaseTest {
                 createTestIframe();
                 
                 // Find our created iframes
-                iframes = driver.findElements(By.tagName("iframe"));
+                iframes = getDriver().findElements(By.tagName("iframe"));
             }
             
             if (!iframes.isEmpty()) {
                 // Switch to the first iframe by index
                 LOGGER.info("Switching to iframe by index 0");
-                driver.switchTo().frame(0);
+                getDriver().switchTo().frame(0);
                 
                 // Try to find elements inside iframe
                 try {
-                    int elementsInIframe = driver.findElements(By.cssSelector("*")).size();
+                    int elementsInIframe = getDriver().findElements(By.cssSelector("*")).size();
                     LOGGER.info("Found " + elementsInIframe + " elements inside iframe");
                 } catch (Exception e) {
                     LOGGER.warning("Could not find elements in iframe: " + e.getMessage());
                 }
                 
                 // Switch back to main content
-                driver.switchTo().defaultContent();
+                getDriver().switchTo().defaultContent();
                 LOGGER.info("Switched back to main content");
                 
                 // Verify we're back in main content
-                WebElement mainElement = driver.findElement(By.cssSelector("body"));
+                WebElement mainElement = getDriver().findElement(By.cssSelector("body"));
                 Assert.assertTrue(mainElement.isDisplayed(), "Should be back in main content");
             } else {
                 LOGGER.warning("No iframes found even after creation, skipping test");
@@ -140,20 +140,20 @@ public class HandlingIFramesTest extends BaseTest {
     public void testSwitchToIframeByNameOrId() {
         LOGGER.info("Starting test: testSwitchToIframeByNameOrId");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Find existing iframes on page
-            List<WebElement> iframes = driver.findElements(By.tagName("iframe"));
+            List<WebElement> iframes = getDriver().findElements(By.tagName("iframe"));
             
             if (iframes.isEmpty()) {
                 LOGGER.info("No natural iframes found, creating a test iframe with ID");
                 
                 // Create a test iframe with ID using JavaScript
-                ((JavascriptExecutor) driver).executeScript(
+                ((JavascriptExecutor) getDriver()).executeScript(
                     "var iframe = document.createElement('iframe');" +
                     "iframe.id = 'testIframeId';" +
                     "iframe.name = 'testIframeName';" +
@@ -172,11 +172,11 @@ public class HandlingIFramesTest extends BaseTest {
             // Try to switch to iframe by ID
             try {
                 LOGGER.info("Switching to iframe by ID");
-                driver.switchTo().frame("testIframeId");
+                getDriver().switchTo().frame("testIframeId");
                 LOGGER.info("Successfully switched to iframe by ID");
                 
                 // Switch back to main content
-                driver.switchTo().defaultContent();
+                getDriver().switchTo().defaultContent();
             } catch (Exception e) {
                 LOGGER.warning("Could not switch to iframe by ID: " + e.getMessage());
             }
@@ -184,11 +184,11 @@ public class HandlingIFramesTest extends BaseTest {
             // Try to switch to iframe by name
             try {
                 LOGGER.info("Switching to iframe by name");
-                driver.switchTo().frame("testIframeName");
+                getDriver().switchTo().frame("testIframeName");
                 LOGGER.info("Successfully switched to iframe by name");
                 
                 // Switch back to main content
-                driver.switchTo().defaultContent();
+                getDriver().switchTo().defaultContent();
             } catch (Exception e) {
                 LOGGER.warning("Could not switch to iframe by name: " + e.getMessage());
             }
@@ -209,7 +209,7 @@ public class HandlingIFramesTest extends BaseTest {
     public void testNestedIframes() {
         LOGGER.info("Starting test: testNestedIframes");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -218,7 +218,7 @@ public class HandlingIFramesTest extends BaseTest {
             LOGGER.info("Creating nested iframes for testing");
             
             // Create nested test iframes using JavaScript
-            ((JavascriptExecutor) driver).executeScript(
+            ((JavascriptExecutor) getDriver()).executeScript(
                 "var outerIframe = document.createElement('iframe');" +
                 "outerIframe.id = 'outerIframe';" +
                 "outerIframe.style = 'width: 400px; height: 200px; border: 2px solid blue;';" +
@@ -238,11 +238,11 @@ public class HandlingIFramesTest extends BaseTest {
             
             // Switch to outer iframe
             LOGGER.info("Switching to outer iframe");
-            driver.switchTo().frame("outerIframe");
+            getDriver().switchTo().frame("outerIframe");
             
             // Verify we're in the outer iframe
             try {
-                WebElement outerContent = driver.findElement(By.xpath("//div[text()='Outer Iframe Content']"));
+                WebElement outerContent = getDriver().findElement(By.xpath("//div[text()='Outer Iframe Content']"));
                 LOGGER.info("Found content in outer iframe: " + outerContent.getText());
                 Assert.assertEquals(outerContent.getText(), "Outer Iframe Content", "Should be in outer iframe");
             } catch (Exception e) {
@@ -252,11 +252,11 @@ public class HandlingIFramesTest extends BaseTest {
             // Switch to inner iframe
             try {
                 LOGGER.info("Switching to inner iframe");
-                driver.switchTo().frame("innerIframe");
+                getDriver().switchTo().frame("innerIframe");
                 
                 // Verify we're in the inner iframe
                 try {
-                    WebElement innerContent = driver.findElement(By.xpath("//div[text()='Inner Iframe Content']"));
+                    WebElement innerContent = getDriver().findElement(By.xpath("//div[text()='Inner Iframe Content']"));
                     LOGGER.info("Found content in inner iframe: " + innerContent.getText());
                     Assert.assertEquals(innerContent.getText(), "Inner Iframe Content", "Should be in inner iframe");
                 } catch (Exception e) {
@@ -265,11 +265,11 @@ public class HandlingIFramesTest extends BaseTest {
                 
                 // Switch to parent iframe (outer iframe)
                 LOGGER.info("Switching to parent iframe");
-                driver.switchTo().parentFrame();
+                getDriver().switchTo().parentFrame();
                 
                 // Verify we're back in the outer iframe
                 try {
-                    WebElement outerContent = driver.findElement(By.xpath("//div[text()='Outer Iframe Content']"));
+                    WebElement outerContent = getDriver().findElement(By.xpath("//div[text()='Outer Iframe Content']"));
                     LOGGER.info("Returned to outer iframe: " + outerContent.getText());
                 } catch (Exception e) {
                     LOGGER.warning("Could not verify return to outer iframe: " + e.getMessage());
@@ -280,7 +280,7 @@ public class HandlingIFramesTest extends BaseTest {
             
             // Switch back to main content
             LOGGER.info("Switching back to main content");
-            driver.switchTo().defaultContent();
+            getDriver().switchTo().defaultContent();
             
             LOGGER.info("Successfully demonstrated nested iframe handling");
             Assert.assertTrue(true, "Successfully demonstrated nested iframe handling");
@@ -298,7 +298,7 @@ public class HandlingIFramesTest extends BaseTest {
     public void testInteractWithElementsInsideIframe() {
         LOGGER.info("Starting test: testInteractWithElementsInsideIframe");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -307,7 +307,7 @@ public class HandlingIFramesTest extends BaseTest {
             LOGGER.info("Creating test iframe with interactive elements");
             
             // Create test iframe with form elements using JavaScript
-            ((JavascriptExecutor) driver).executeScript(
+            ((JavascriptExecutor) getDriver()).executeScript(
                 "var iframe = document.createElement('iframe');" +
                 "iframe.id = 'formIframe';" +
                 "iframe.style = 'width: 400px; height: 250px; border: 2px solid green;';" +
@@ -332,16 +332,16 @@ public class HandlingIFramesTest extends BaseTest {
             
             // Switch to iframe
             LOGGER.info("Switching to form iframe");
-            driver.switchTo().frame("formIframe");
+            getDriver().switchTo().frame("formIframe");
             
             // Interact with form elements inside iframe
-            WebElement nameInput = driver.findElement(By.id("name"));
+            WebElement nameInput = getDriver().findElement(By.id("name"));
             nameInput.sendKeys("Test User");
             
-            WebElement emailInput = driver.findElement(By.id("email"));
+            WebElement emailInput = getDriver().findElement(By.id("email"));
             emailInput.sendKeys("test@example.com");
             
-            WebElement submitButton = driver.findElement(By.id("submitBtn"));
+            WebElement submitButton = getDriver().findElement(By.id("submitBtn"));
             submitButton.click();
             
             // Verify button text changed after click
@@ -351,7 +351,7 @@ public class HandlingIFramesTest extends BaseTest {
             
             // Switch back to main content
             LOGGER.info("Switching back to main content");
-            driver.switchTo().defaultContent();
+            getDriver().switchTo().defaultContent();
             
             LOGGER.info("Successfully interacted with elements inside iframe");
             Assert.assertTrue(true, "Successfully interacted with elements inside iframe");
@@ -368,7 +368,7 @@ public class HandlingIFramesTest extends BaseTest {
     private void createTestIframe() {
         try {
             // Create a simple test iframe
-            JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
+            JavascriptExecutor jsExecutor = (JavascriptExecutor) getDriver();
             jsExecutor.executeScript(
                 "var iframe = document.createElement('iframe');" +
                 "iframe.src = 'about:blank';" +
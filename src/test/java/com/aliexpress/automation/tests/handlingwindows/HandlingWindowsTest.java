@@ -28,33 +28,33 @@ public class HandlingWindowsTest extends BaseTest {
     public void testSwitchBetweenWindows() {
         LOGGER.info("Starting test: testSwitchBetweenWindows");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Get current window handle (first window)
-            String firstWindowHandle = driver.getWindowHandle();
+            String firstWindowHandle = getDriver().getWindowHandle();
             LOGGER.info("First window handle: " + firstWindowHandle);
             
             // Open a new window using Selenium 4 feature
-            driver.switchTo().newWindow(WindowType.WINDOW);
+            getDriver().switchTo().newWindow(WindowType.WINDOW);
             
             // Get all window handles after opening new window
-            Set<String> windowHandles = driver.getWindowHandles();
+            Set<String> windowHandles = getDriver().getWindowHandles();
             LOGGER.info("Number of open windows: " + windowHandles.size());
             
             // Navigate to a different URL in new window
-            driver.get("https://aliexpress.com/category/202000002/consumer-electronics.html");
+            getDriver().get(getBaseUrl() + "category/202000002/consumer-electronics.html");
             LOGGER.info("Navigated to category page in new window");
             
             // Switch back to first window
             LOGGER.info("Switching back to first window");
-            driver.switchTo().window(firstWindowHandle);
+            getDriver().switchTo().window(firstWindowHandle);
             
             // Verify we're back in first window
-            Assert.assertTrue(driver.getCurrentUrl().contains("aliexpress"),
+            Assert.assertTrue(getDriver().getCurrentUrl().contains("aliexpress"),
                 "Should be back in first window with AliExpress homepage");
             
             // Search for product in first window
@@ -65,13 +65,13 @@ public class HandlingWindowsTest extends BaseTest {
             LOGGER.info("Switching back to second window");
             for (String handle : windowHandles) {
                 if (!handle.equals(firstWindowHandle)) {
-                    driver.switchTo().window(handle);
+                    getDriver().switchTo().window(handle);
                     break;
                 }
             }
             
             // Verify we're in second window
-            Assert.assertTrue(driver.getCurrentUrl().contains("electronics"),
+            Assert.assertTrue(getDriver().getCurrentUrl().contains("electronics"),
                 "Should be in second window with electronics category page");
             
             LOGGER.info("Successfully switched between multiple windows");
@@ -89,43 +89,43 @@ public class HandlingWindowsTest extends BaseTest {
     public void testOpenLinkInNewTab() {
         LOGGER.info("Starting test: testOpenLinkInNewTab");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Find a link to open in new tab
-            WebElement link = driver.findElement(By.cssSelector("a[href*='category'], .nav-item"));
+            WebElement link = getDriver().findElement(By.cssSelector("a[href*='category'], .nav-item"));
             
             LOGGER.info("Opening link in new tab using keyboard shortcut");
             
             // Hold Ctrl and click to open in new tab
-            org.openqa.selenium.interactions.Actions actions = new org.openqa.selenium.interactions.Actions(driver);
+            org.openqa.selenium.interactions.Actions actions = new org.openqa.selenium.interactions.Actions(getDriver());
             actions.keyDown(Keys.CONTROL)
                    .click(link)
                    .keyUp(Keys.CONTROL)
                    .perform();
             
             // Get all window handles
-            Set<String> windowHandles = driver.getWindowHandles();
+            Set<String> windowHandles = getDriver().getWindowHandles();
             LOGGER.info("Number of open windows/tabs: " + windowHandles.size());
             Assert.assertEquals(windowHandles.size(), 2, "Should have 2 tabs open");
             
             // Switch to the new tab (second tab)
             LOGGER.info("Switching to new tab");
             List<String> handles = new ArrayList<>(windowHandles);
-            driver.switchTo().window(handles.get(1));
+            getDriver().switchTo().window(handles.get(1));
             
             // Verify we're in new tab
-            LOGGER.info("Current URL in new tab: " + driver.getCurrentUrl());
+            LOGGER.info("Current URL in new tab: " + getDriver().getCurrentUrl());
             
             // Switch back to original tab
             LOGGER.info("Switching back to original tab");
-            driver.switchTo().window(handles.get(0));
+            getDriver().switchTo().window(handles.get(0));
             
             // Verify we're back in original tab
-            Assert.assertTrue(driver.getCurrentUrl().contains("aliexpress"),
+            Assert.assertTrue(getDriver().getCurrentUrl().contains("aliexpress"),
                 "Should be back in original tab with AliExpress homepage");
             
             LOGGER.info("Successfully demonstrated opening and handling new tab");
@@ -143,37 +143,37 @@ public class HandlingWindowsTest extends BaseTest {
     public void testOpenNewTabProgrammatically() {
         LOGGER.info("Starting test: testOpenNewTabProgrammatically");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Get current window handle
-            String originalWindow = driver.getWindowHandle();
+            String originalWindow = getDriver().getWindowHandle();
             
             // Open a new tab using Selenium 4 feature
             LOGGER.info("Opening new tab programmatically");
-            driver.switchTo().newWindow(WindowType.TAB);
+            getDriver().switchTo().newWindow(WindowType.TAB);
             
             // Navigate to a different URL in new tab
-            driver.get("https://aliexpress.com/all-wholesale-products.html");
+            getDriver().get(getBaseUrl() + "all-wholesale-products.html");
             LOGGER.info("Navigated to wholesale products page in new tab");
             
             // Get all window handles
-            Set<String> windowHandles = driver.getWindowHandles();
+            Set<String> windowHandles = getDriver().getWindowHandles();
             LOGGER.info("Number of open windows/tabs: " + windowHandles.size());
             
             // Verify we're in the new tab by checking URL
-            Assert.assertTrue(driver.getCurrentUrl().contains("wholesale"),
+            Assert.assertTrue(getDriver().getCurrentUrl().contains("wholesale"),
                 "Should be in new tab with wholesale products page");
             
             // Switch back to original tab
             LOGGER.info("Switching back to original tab");
-            driver.switchTo().window(originalWindow);
+            getDriver().switchTo().window(originalWindow);
             
             // Verify we're back in original tab
-            Assert.assertTrue(driver.getCurrentUrl().contains("aliexpress"),
+            Assert.assertTrue(getDriver().getCurrentUrl().contains("aliexpress"),
                 "Should be back in original tab with AliExpress homepage");
             
             LOGGER.info("Successfully demonstrated opening new tab programmatically");
@@ -191,56 +191,56 @@ public class HandlingWindowsTest extends BaseTest {
     public void testCloseSpecificWindows() {
         LOGGER.info("Starting test: testCloseSpecificWindows");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Get current window handle
-            String originalWindow = driver.getWindowHandle();
+            String originalWindow = getDriver().getWindowHandle();
             
             // Open first new tab
             LOGGER.info("Opening first new tab");
-            driver.switchTo().newWindow(WindowType.TAB);
-            driver.get("https://aliexpress.com/category/202000002/consumer-electronics.html");
-            String electronicsTab = driver.getWindowHandle();
+            getDriver().switchTo().newWindow(WindowType.TAB);
+            getDriver().get(getBaseUrl() + "category/202000002/consumer-electronics.html");
+            String electronicsTab = getDriver().getWindowHandle();
             
             // Open second new tab
             LOGGER.info("Opening second new tab");
-            driver.switchTo().newWindow(WindowType.TAB);
-            driver.get("https://aliexpress.com/category/509/cellphones-telecommunications.html");
-            String phonesTab = driver.getWindowHandle();
+            getDriver().switchTo().newWindow(WindowType.TAB);
+            getDriver().get(getBaseUrl() + "category/509/cellphones-telecommunications.html");
+            String phonesTab = getDriver().getWindowHandle();
             
             // Get all window handles
-            Set<String> allWindows = driver.getWindowHandles();
+            Set<String> allWindows = getDriver().getWindowHandles();
             LOGGER.info("Number of open tabs: " + allWindows.size());
             Assert.assertEquals(allWindows.size(), 3, "Should have 3 tabs open");
             
             // Close the electronics tab
             LOGGER.info("Closing electronics tab");
-            driver.switchTo().window(electronicsTab);
-            driver.close();
+            getDriver().switchTo().window(electronicsTab);
+            getDriver().close();
             
             // Get remaining windows
-            allWindows = driver.getWindowHandles();
+            allWindows = getDriver().getWindowHandles();
             LOGGER.info("Number of open tabs after closing one: " + allWindows.size());
             Assert.assertEquals(allWindows.size(), 2, "Should have 2 tabs open after closing one");
             
             // Switch to phones tab
             LOGGER.info("Switching to phones tab");
-            driver.switchTo().window(phonesTab);
+            getDriver().switchTo().window(phonesTab);
             
             // Verify we're in phones tab
-            Assert.assertTrue(driver.getCurrentUrl().contains("cellphones"),
+            Assert.assertTrue(getDriver().getCurrentUrl().contains("cellphones"),
                 "Should be in phones tab");
             
             // Switch back to original tab
             LOGGER.info("Switching back to original tab");
-            driver.switchTo().window(originalWindow);
+            getDriver().switchTo().window(originalWindow);
             
             // Verify we're back in original tab
-            Assert.assertTrue(driver.getCurrentUrl().contains("aliexpress"),
+            Assert.assertTrue(getDriver().getCurrentUrl().contains("aliexpress"),
                 "Should be back in original tab with AliExpress homepage");
             
             LOGGER.info("Successfully demonstrated closing specific windows");
@@ -258,24 +258,24 @@ public class HandlingWindowsTest extends BaseTest {
     public void testHandleJavaScriptOpenedWindow() {
         LOGGER.info("Starting test: testHandleJavaScriptOpenedWindow");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Get current window handle
-            String originalWindow = driver.getWindowHandle();
+            String originalWindow = getDriver().getWindowHandle();
             
             // Get initial window handles count
-            Set<String> initialHandles = driver.getWindowHandles();
+            Set<String> initialHandles = getDriver().getWindowHandles();
             
             // Create JavaScript executor
-            JavaScriptUtils jsUtils = new JavaScriptUtils(driver);
+            JavaScriptUtils jsUtils = new JavaScriptUtils(getDriver());
             
             // Open a new window using JavaScript
             LOGGER.info("Opening new window using JavaScript");
-            jsUtils.executeScript("window.open('https://aliexpress.com/category/1511/home-improvement.html', '_blank');");
+            jsUtils.executeScript("window.open('" + getBaseUrl() + "category/1511/home-improvement.html', '_blank');");
             
             // Short pause for window to open
             try {
@@ -285,7 +285,7 @@ public class HandlingWindowsTest extends BaseTest {
             }
             
             // Get updated window handles
-            Set<String> updatedHandles = driver.getWindowHandles();
+            Set<String> updatedHandles = getDriver().getWindowHandles();
             LOGGER.info("Number of open windows: " + updatedHandles.size());
             
             // Verify a new window was opened
@@ -296,22 +296,22 @@ public class HandlingWindowsTest extends BaseTest {
             LOGGER.info("Switching to JavaScript-opened window");
             for (String handle : updatedHandles) {
                 if (!handle.equals(originalWindow)) {
-                    driver.switchTo().window(handle);
+                    getDriver().switchTo().window(handle);
                     break;
                 }
             }
             
             // Verify we're in the new window
-            Assert.assertTrue(driver.getCurrentUrl().contains("improvement"),
+            Assert.assertTrue(getDriver().getCurrentUrl().contains("improvement"),
                 "Should be in new window with home improvement page");
             
             // Close the new window
             LOGGER.info("Closing JavaScript-opened window");
-            driver.close();
+            getDriver().close();
             
             // Switch back to original window
             LOGGER.info("Switching back to original window");
-            driver.switchTo().window(originalWindow);
+            getDriver().switchTo().window(originalWindow);
             
             LOGGER.info("Successfully demonstrated handling JavaScript-opened windows");
         } catch (Exception e) {
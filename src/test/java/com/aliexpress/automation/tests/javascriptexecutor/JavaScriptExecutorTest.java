@@ -24,24 +24,24 @@ public class JavaScriptExecutorTest extends BaseTest {
     public void testClickElementWithJS() {
         LOGGER.info("Starting test: testClickElementWithJS");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Find search button
-            WebElement searchButton = driver.findElement(By.cssSelector(
+            WebElement searchButton = getDriver().findElement(By.cssSelector(
                 "input[type='submit'], .search-button"));
             
             // Create JavaScript executor
-            JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
+            JavascriptExecutor jsExecutor = (JavascriptExecutor) getDriver();
             
             // Create utility wrapper
-            JavaScriptUtils jsUtils = new JavaScriptUtils(driver);
+            JavaScriptUtils jsUtils = new JavaScriptUtils(getDriver());
             
             // Find search input and enter search term
-            WebElement searchBox = driver.findElement(By.cssSelector(
+            WebElement searchBox = getDriver().findElement(By.cssSelector(
                 "input[placeholder*='Search'], .search-box"));
             searchBox.sendKeys("bluetooth speaker");
             
@@ -51,14 +51,14 @@ public class JavaScriptExecutorTest extends BaseTest {
             jsUtils.clickElementWithJS(searchButton);
             
             // Wait for search results
-            new com.aliexpress.automation.utils.WaitUtils(driver).waitForPageLoad();
+            new com.aliexpress.automation.utils.WaitUtils(getDriver()).waitForPageLoad();
             
             // Verify search was performed
-            Assert.assertTrue(driver.getCurrentUrl().contains("speaker") || 
-                             driver.getCurrentUrl().contains("bluetooth"), 
+            Assert.assertTrue(getDriver().getCurrentUrl().contains("speaker") || 
+                             getDriver().getCurrentUrl().contains("bluetooth"), 
                 "URL should contain search term after clicking with JavaScript");
             
-            LOGGER.info("Successfully clicked element with JavaScript, current URL: " + driver.getCurrentUrl());
+            LOGGER.info("Successfully clicked element with JavaScript, current URL: " + getDriver().getCurrentUrl());
         } catch (Exception e) {
             LOGGER.warning("Could not complete test: " + e.getMessage());
             // Don't fail the test, as we're just demonstrating JavaScriptExecutor
@@ -73,7 +73,7 @@ public class JavaScriptExecutorTest extends BaseTest {
     public void testScrollToElementWithJS() {
         LOGGER.info("Starting test: testScrollToElementWithJS");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -92,7 +92,7 @@ public class JavaScriptExecutorTest extends BaseTest {
                 LOGGER.info("Scrolling to product element using JavaScript");
                 
                 // Create utility wrapper
-                JavaScriptUtils jsUtils = new JavaScriptUtils(driver);
+                JavaScriptUtils jsUtils = new JavaScriptUtils(getDriver());
                 
                 // Scroll to element
                 jsUtils.scrollToElement(productToScrollTo);
@@ -105,7 +105,7 @@ public class JavaScriptExecutorTest extends BaseTest {
                 }
                 
                 // Verify element is in viewport
-                boolean isInViewport = (Boolean) ((JavascriptExecutor) driver).executeScript(
+                boolean isInViewport = (Boolean) ((JavascriptExecutor) getDriver()).executeScript(
                     "var rect = arguments[0].getBoundingClientRect(); " +
                     "return (rect.top >= 0 && rect.left >= 0 && " +
                     "rect.bottom <= (window.innerHeight || document.documentElement.clientHeight) && " +
@@ -132,14 +132,14 @@ public class JavaScriptExecutorTest extends BaseTest {
     public void testGetPageInfoWithJS() {
         LOGGER.info("Starting test: testGetPageInfoWithJS");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create JavaScript executor
-            JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
+            JavascriptExecutor jsExecutor = (JavascriptExecutor) getDriver();
             
             // Get page title
             String pageTitle = (String) jsExecutor.executeScript("return document.title;");
@@ -175,17 +175,17 @@ public class JavaScriptExecutorTest extends BaseTest {
     public void testHighlightElementWithJS() {
         LOGGER.info("Starting test: testHighlightElementWithJS");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create JavaScript utils
-            JavaScriptUtils jsUtils = new JavaScriptUtils(driver);
+            JavaScriptUtils jsUtils = new JavaScriptUtils(getDriver());
             
             // Find search input
-            WebElement searchBox = driver.findElement(By.cssSelector(
+            WebElement searchBox = getDriver().findElement(By.cssSelector(
                 "input[placeholder*='Search'], .search-box"));
             
             LOGGER.info("Highlighting search input element");
@@ -194,7 +194,7 @@ public class JavaScriptExecutorTest extends BaseTest {
             jsUtils.highlightElement(searchBox);
             
             // Find another element and highlight it
-            WebElement logoElement = driver.findElement(By.cssSelector(
+            WebElement logoElement = getDriver().findElement(By.cssSelector(
                 ".logo, .site-logo, .header-logo, img[alt*='logo']"));
             
             LOGGER.info("Highlighting logo element");
@@ -216,14 +216,14 @@ public class JavaScriptExecutorTest extends BaseTest {
     public void testScrollPositioningWithJS() {
         LOGGER.info("Starting test: testScrollPositioningWithJS");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create JavaScript utils
-            JavaScriptUtils jsUtils = new JavaScriptUtils(driver);
+            JavaScriptUtils jsUtils = new JavaScriptUtils(getDriver());
             
             // Scroll to bottom of the page
             LOGGER.info("Scrolling to bottom of page");
@@ -251,7 +251,7 @@ public class JavaScriptExecutorTest extends BaseTest {
             LOGGER.info("Scrolling to middle of page");
             
             // Get page height
-            Long pageHeight = (Long) ((JavascriptExecutor) driver).executeScript(
+            Long pageHeight = (Long) ((JavascriptExecutor) getDriver()).executeScript(
                 "return document.body.scrollHeight;");
             
             // Scroll to middle
@@ -280,17 +280,17 @@ public class JavaScriptExecutorTest extends BaseTest {
     public void testModifyElementAttributesWithJS() {
         LOGGER.info("Starting test: testModifyElementAttributesWithJS");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Create JavaScript executor
-            JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
+            JavascriptExecutor jsExecutor = (JavascriptExecutor) getDriver();
             
             // Find element to modify
-            WebElement element = driver.findElement(By.cssSelector(
+            WebElement element = getDriver().findElement(By.cssSelector(
                 ".logo, .site-logo, img[alt*='logo'], a.banner"));
             
             // Get original style
@@ -20,14 +20,14 @@ public class ListenerTest extends BaseTest {
     public void testPassingTest() {
         LOGGER.info("Starting test: testPassingTest");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         // Verify home page loaded
-        Assert.assertTrue(driver.getTitle().contains("AliExpress") || 
-                         driver.getCurrentUrl().contains("aliexpress"), 
+        Assert.assertTrue(getDriver().getTitle().contains("AliExpress") || 
+                         getDriver().getCurrentUrl().contains("aliexpress"), 
             "Should be on AliExpress page");
             
         LOGGER.info("Passing test completed successfully");
@@ -40,13 +40,13 @@ public class ListenerTest extends BaseTest {
     public void testFailingTest() {
         LOGGER.info("Starting test: testFailingTest");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         // This assertion will fail
-        Assert.assertEquals(driver.getTitle(), "This Title Does Not Exist", 
+        Assert.assertEquals(getDriver().getTitle(), "This Title Does Not Exist", 
             "This test is intentionally failing to demonstrate TestListener.onTestFailure()");
             
         LOGGER.info("This line should not be reached");
@@ -70,7 +70,7 @@ public class ListenerTest extends BaseTest {
     public void testWithException() {
         LOGGER.info("Starting test: testWithException");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -86,7 +86,7 @@ public class ListenerTest extends BaseTest {
     public void testWithTimeout() {
         LOGGER.info("Starting test: testWithTimeout");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -0,0 +1,84 @@
+package com.aliexpress.automation.tests.pagefactory;
+
+import com.aliexpress.automation.pages.model.CartItem;
+import com.aliexpress.automation.pages.model.ProductSummary;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Checks how displayed prices of search results and cart rows are read as numbers.
+ * Runs without a browser.
+ */
+public class PriceParsingTest {
+
+    private static ProductSummary product(String price) {
+        return new ProductSummary("title", price, null, null, null);
+    }
+
+    @DataProvider(name = "prices")
+    public Object[][] prices() {
+        return new Object[][]{
+                {"US $19.99", "19.99"},
+                {"US $1,234", "1234"},
+                {"US $1,234.56", "1234.56"},
+                {"12,50 \u20ac", "12.50"},
+                {"12,5 \u20ac", "12.5"},
+                {"1.234,56", "1234.56"},
+                {"1.234.567,89 \u20ac", "1234567.89"},
+                {"\u20ac 1.234", "1234"},
+                {"US $12.50 - 20.00", "12.50"},
+                {"12,50 - 20,00 \u20ac", "12.50"},
+                {"US $5.", "5"},
+        };
+    }
+
+    /**
+     * Test that thousands and decimal separators are told apart in both notations
+     */
+    @Test(dataProvider = "prices")
+    public void testParsePrice(String text, String expected) {
+        BigDecimal value = product(text).getPriceValue();
+
+        Assert.assertNotNull(value, "No price read from: " + text);
+        Assert.assertEquals(value.compareTo(new BigDecimal(expected)), 0,
+                "Wrong price read from '" + text + "': " + value);
+    }
+
+    /**
+     * Test that texts without a number have no price
+     */
+    @Test
+    public void testNoPrice() {
+        Assert.assertNull(product(null).getPriceValue());
+        Assert.assertNull(product("").getPriceValue());
+        Assert.assertNull(product("Free shipping").getPriceValue());
+        Assert.assertNull(new CartItem("title", null, "1", null, null).getPriceValue());
+    }
+
+    /**
+     * Test that cart rows read prices the same way as search results
+     */
+    @Test
+    public void testCartItemPrice() {
+        Assert.assertEquals(new CartItem("title", "1.234,56 \u20ac", "1", null, null).getPriceValue(),
+                new BigDecimal("1234.56"));
+    }
+
+    /**
+     * Test the sort order check, ignoring products without a price
+     */
+    @Test
+    public void testSortedByPrice() {
+        List<ProductSummary> ascending = List.of(product("US $9.99"), product("n/a"), product("US $1,234"),
+                product("1.500,00 \u20ac"));
+
+        Assert.assertTrue(ProductSummary.isSortedByPrice(ascending, true));
+        Assert.assertFalse(ProductSummary.isSortedByPrice(ascending, false));
+        Assert.assertTrue(ProductSummary.isSortedByPrice(List.of(product("12,50"), product("12,5")), true),
+                "Equal prices should count as sorted");
+    }
+}
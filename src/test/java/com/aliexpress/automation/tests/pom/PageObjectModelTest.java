@@ -20,7 +20,7 @@ public class PageObjectModelTest extends BaseTest {
         LOGGER.info("Starting test: testSearch with POM");
         
         // Create HomePage object
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -46,7 +46,7 @@ public class PageObjectModelTest extends BaseTest {
         LOGGER.info("Starting test: testProductDetail with POM");
         
         // Create HomePage object
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -80,7 +80,7 @@ public class PageObjectModelTest extends BaseTest {
         LOGGER.info("Starting test: testAddToCart with POM");
         
         // Create HomePage object
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -121,7 +121,7 @@ public class PageObjectModelTest extends BaseTest {
         LOGGER.info("Starting test: testCategoryNavigation with POM");
         
         // Create HomePage object
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -22,28 +22,28 @@ public class ScreenshotsTest extends BaseTest {
     public void testCaptureFullPageScreenshot() {
         LOGGER.info("Starting test: testCaptureFullPageScreenshot");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Take screenshot of home page
-            String homePageScreenshot = ScreenshotUtils.captureScreenshot(driver, "HomePage");
+            String homePageScreenshot = ScreenshotUtils.captureScreenshot(getDriver(), "HomePage");
             LOGGER.info("Captured home page screenshot: " + homePageScreenshot);
             
             // Search for a product
             ProductSearchPage searchPage = homePage.searchProductByCss("smartphone");
             
             // Take screenshot of search results
-            String searchPageScreenshot = ScreenshotUtils.captureScreenshot(driver, "SearchResults");
+            String searchPageScreenshot = ScreenshotUtils.captureScreenshot(getDriver(), "SearchResults");
             LOGGER.info("Captured search results screenshot: " + searchPageScreenshot);
             
             // Open product detail
             ProductDetailPage productPage = searchPage.openProductByIndex(0);
             
             // Take screenshot of product detail page
-            String productPageScreenshot = ScreenshotUtils.captureScreenshot(driver, "ProductDetail");
+            String productPageScreenshot = ScreenshotUtils.captureScreenshot(getDriver(), "ProductDetail");
             LOGGER.info("Captured product detail screenshot: " + productPageScreenshot);
             
             // Verify screenshots were captured
@@ -63,14 +63,14 @@ public class ScreenshotsTest extends BaseTest {
     public void testCaptureElementScreenshot() {
         LOGGER.info("Starting test: testCaptureElementScreenshot");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         try {
             // Find search box element
-            WebElement searchBox = driver.findElement(By.cssSelector(
+            WebElement searchBox = getDriver().findElement(By.cssSelector(
                 "input[placeholder*='Search'], .search-box"));
             
             // Take screenshot of search box element
@@ -81,7 +81,7 @@ public class ScreenshotsTest extends BaseTest {
             homePage.searchProductByCss("laptop");
             
             // Find a product element
-            WebElement productElement = driver.findElement(By.cssSelector(
+            WebElement productElement = getDriver().findElement(By.cssSelector(
                 ".product-item, .search-item, .item-card"));
             
             // Take screenshot of product element
@@ -104,7 +104,7 @@ public class ScreenshotsTest extends BaseTest {
     public void testCaptureScreenshotOnFailure() {
         LOGGER.info("Starting test: testCaptureScreenshotOnFailure");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -114,7 +114,7 @@ public class ScreenshotsTest extends BaseTest {
             homePage.searchProductByCss("nonexistent product xyz123456789");
             
             // This assertion will fail
-            Assert.assertTrue(driver.findElements(By.cssSelector(".product-item, .search-item, .item-card")).size() > 5,
+            Assert.assertTrue(getDriver().findElements(By.cssSelector(".product-item, .search-item, .item-card")).size() > 5,
                 "Should find at least 5 products for nonexistent query");
                 
             LOGGER.severe("This assertion should have failed");
@@ -122,7 +122,7 @@ public class ScreenshotsTest extends BaseTest {
             LOGGER.info("Expected assertion failure: " + e.getMessage());
             
             // Capture screenshot on failure
-            String failureScreenshot = ScreenshotUtils.captureScreenshot(driver, "TestFailure");
+            String failureScreenshot = ScreenshotUtils.captureScreenshot(getDriver(), "TestFailure");
             LOGGER.info("Captured failure screenshot: " + failureScreenshot);
             
             // Verify screenshot was captured
@@ -143,7 +143,7 @@ public class ScreenshotsTest extends BaseTest {
     public void testCaptureScreenshotsDuringSteps() {
         LOGGER.info("Starting test: testCaptureScreenshotsDuringSteps");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -151,40 +151,40 @@ public class ScreenshotsTest extends BaseTest {
         try {
             // Step 1: Capture home page
             LOGGER.info("Step 1: Home page");
-            ScreenshotUtils.captureScreenshot(driver, "Step1_HomePage");
+            ScreenshotUtils.captureScreenshot(getDriver(), "Step1_HomePage");
             
             // Step 2: Search for a product
             LOGGER.info("Step 2: Search for product");
             homePage.searchProductByCss("headphones");
-            ScreenshotUtils.captureScreenshot(driver, "Step2_SearchResults");
+            ScreenshotUtils.captureScreenshot(getDriver(), "Step2_SearchResults");
             
             // Step 3: Apply filter
             LOGGER.info("Step 3: Apply filter");
             try {
-                WebElement filterElement = driver.findElement(By.cssSelector(
+                WebElement filterElement = getDriver().findElement(By.cssSelector(
                     ".filter-item:first-child, .refinement:first-child"));
                 filterElement.click();
                 
                 // Wait for filter to apply
-                new com.aliexpress.automation.utils.WaitUtils(driver).waitForPageLoad();
+                new com.aliexpress.automation.utils.WaitUtils(getDriver()).waitForPageLoad();
             } catch (Exception e) {
                 LOGGER.warning("Could not click filter: " + e.getMessage());
             }
-            ScreenshotUtils.captureScreenshot(driver, "Step3_FilteredResults");
+            ScreenshotUtils.captureScreenshot(getDriver(), "Step3_FilteredResults");
             
             // Step 4: Open product detail
             LOGGER.info("Step 4: Open product detail");
             try {
-                WebElement product = driver.findElement(By.cssSelector(
+                WebElement product = getDriver().findElement(By.cssSelector(
                     ".product-item:first-child, .search-item:first-child, .item-card:first-child"));
                 product.click();
                 
                 // Wait for product page to load
-                new com.aliexpress.automation.utils.WaitUtils(driver).waitForPageLoad();
+                new com.aliexpress.automation.utils.WaitUtils(getDriver()).waitForPageLoad();
             } catch (Exception e) {
                 LOGGER.warning("Could not click product: " + e.getMessage());
             }
-            ScreenshotUtils.captureScreenshot(driver, "Step4_ProductDetail");
+            ScreenshotUtils.captureScreenshot(getDriver(), "Step4_ProductDetail");
             
             LOGGER.info("Successfully captured screenshots during test steps");
             Assert.assertTrue(true, "Test completed with screenshots");
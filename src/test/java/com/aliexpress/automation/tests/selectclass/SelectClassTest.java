@@ -23,7 +23,7 @@ public class SelectClassTest extends BaseTest {
     public void testSelectByVisibleText() {
         LOGGER.info("Starting test: testSelectByVisibleText");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -75,7 +75,7 @@ public class SelectClassTest extends BaseTest {
     public void testSelectByValue() {
         LOGGER.info("Starting test: testSelectByValue");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -131,7 +131,7 @@ public class SelectClassTest extends BaseTest {
     public void testSelectByIndex() {
         LOGGER.info("Starting test: testSelectByIndex");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -190,7 +190,7 @@ public class SelectClassTest extends BaseTest {
     public void testGetAllOptions() {
         LOGGER.info("Starting test: testGetAllOptions");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -236,7 +236,7 @@ public class SelectClassTest extends BaseTest {
     public void testIsMultiple() {
         LOGGER.info("Starting test: testIsMultiple");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -282,7 +282,7 @@ public class SelectClassTest extends BaseTest {
             
             // Try currency selector
             try {
-                WebElement currencySelector = driver.findElement(By.cssSelector(
+                WebElement currencySelector = getDriver().findElement(By.cssSelector(
                     "select.currency-selector, select#currency, select[name='currency']"));
                 return currencySelector;
             } catch (Exception e) {
@@ -291,7 +291,7 @@ public class SelectClassTest extends BaseTest {
             
             // Try shipping country dropdown
             try {
-                WebElement countrySelector = driver.findElement(By.cssSelector(
+                WebElement countrySelector = getDriver().findElement(By.cssSelector(
                     "select.country-selector, select#country, select[name='country']"));
                 return countrySelector;
             } catch (Exception e) {
@@ -299,10 +299,10 @@ public class SelectClassTest extends BaseTest {
             }
             
             // Try any select element
-            List<WebElement> allSelects = driver.findElements(By.tagName("select"));
+            List<WebElement> allSelects = getDriver().findElements(By.tagName("select"));
             if (!allSelects.isEmpty()) {
                 // Scroll to the first select element to make it visible
-                JavaScriptUtils jsUtils = new JavaScriptUtils(driver);
+                JavaScriptUtils jsUtils = new JavaScriptUtils(getDriver());
                 jsUtils.scrollToElement(allSelects.get(0));
                 return allSelects.get(0);
             }
@@ -27,13 +27,13 @@ public class SynchronizationTest extends BaseTest {
     public void testExplicitWaitForVisibility() {
         LOGGER.info("Starting test: testExplicitWaitForVisibility");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         // Create WebDriverWait instance with 15 seconds timeout
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(15));
         
         // Wait for search box to be visible
         WebElement searchBox = wait.until(ExpectedConditions.visibilityOfElementLocated(
@@ -65,8 +65,8 @@ public class SynchronizationTest extends BaseTest {
     public void testWaitForPageLoad() {
         LOGGER.info("Starting test: testWaitForPageLoad");
         
-        HomePage homePage = new HomePage(driver);
-        WaitUtils waitUtils = new WaitUtils(driver);
+        HomePage homePage = new HomePage(getDriver());
+        WaitUtils waitUtils = new WaitUtils(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -91,13 +91,13 @@ public class SynchronizationTest extends BaseTest {
     public void testExplicitWaitWithPolling() {
         LOGGER.info("Starting test: testExplicitWaitWithPolling");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         // Create custom wait with specific polling interval
-        WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(20))
+        WebDriverWait customWait = new WebDriverWait(getDriver(), Duration.ofSeconds(20))
             .pollingEvery(Duration.ofMillis(500));
         
         // Wait for categories to be visible with custom polling
@@ -116,10 +116,10 @@ public class SynchronizationTest extends BaseTest {
                 By.cssSelector("h1.category-title, .category-name")));
             
             // Verify current URL changed
-            Assert.assertFalse(driver.getCurrentUrl().equals(configReader.getProperty("base.url", "https://aliexpress.com")),
+            Assert.assertFalse(getDriver().getCurrentUrl().equals(getBaseUrl()),
                 "URL should change after clicking category");
             
-            LOGGER.info("Successfully navigated to category page: " + driver.getCurrentUrl());
+            LOGGER.info("Successfully navigated to category page: " + getDriver().getCurrentUrl());
         }
     }
     
@@ -130,8 +130,8 @@ public class SynchronizationTest extends BaseTest {
     public void testWaitForAjaxCompletion() {
         LOGGER.info("Starting test: testWaitForAjaxCompletion");
         
-        HomePage homePage = new HomePage(driver);
-        WaitUtils waitUtils = new WaitUtils(driver);
+        HomePage homePage = new HomePage(getDriver());
+        WaitUtils waitUtils = new WaitUtils(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -142,16 +142,16 @@ public class SynchronizationTest extends BaseTest {
         // Apply a filter that triggers AJAX requests
         try {
             // Find filter section
-            WebElement filterSection = driver.findElement(By.cssSelector(
+            WebElement filterSection = getDriver().findElement(By.cssSelector(
                 ".filter-section:has(span:contains('Shipping')), .filter-item.shipping"));
             
             // Scroll to the filter element
-            new com.aliexpress.automation.utils.JavaScriptUtils(driver)
+            new com.aliexpress.automation.utils.JavaScriptUtils(getDriver())
                 .scrollToElement(filterSection);
             
             // Click on free shipping filter if available
             try {
-                WebElement freeShippingOption = driver.findElement(By.cssSelector(
+                WebElement freeShippingOption = getDriver().findElement(By.cssSelector(
                     ".filter-option:has(span:contains('Free Shipping')), label:contains('Free Shipping')"));
                 freeShippingOption.click();
                 
@@ -166,7 +166,7 @@ public class SynchronizationTest extends BaseTest {
                 LOGGER.info("Successfully applied filter with AJAX wait");
                 
                 // Verify filtering worked - basic check if we're still on a results page
-                List<WebElement> searchResults = driver.findElements(By.cssSelector(
+                List<WebElement> searchResults = getDriver().findElements(By.cssSelector(
                     ".product-item, .search-item, .item-card"));
                 
                 Assert.assertTrue(searchResults.size() > 0, 
@@ -190,13 +190,13 @@ public class SynchronizationTest extends BaseTest {
     public void testFluentWaitForDynamicElements() {
         LOGGER.info("Starting test: testFluentWaitForDynamicElements");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
         
         // Create a fluent wait that ignores specific exceptions
-        org.openqa.selenium.support.ui.FluentWait<WebDriver> fluentWait = new org.openqa.selenium.support.ui.FluentWait<>(driver)
+        org.openqa.selenium.support.ui.FluentWait<WebDriver> fluentWait = new org.openqa.selenium.support.ui.FluentWait<>(getDriver())
             .withTimeout(Duration.ofSeconds(30))
             .pollingEvery(Duration.ofMillis(500))
             .ignoring(org.openqa.selenium.NoSuchElementException.class)
@@ -208,14 +208,14 @@ public class SynchronizationTest extends BaseTest {
         // Use fluent wait to handle dynamic loading of items while scrolling
         try {
             // Initial results count
-            List<WebElement> initialResults = driver.findElements(By.cssSelector(
+            List<WebElement> initialResults = getDriver().findElements(By.cssSelector(
                 ".product-item, .search-item, .item-card"));
             int initialCount = initialResults.size();
             
             LOGGER.info("Initial results count: " + initialCount);
             
             // Scroll to bottom of page to trigger lazy loading
-            new com.aliexpress.automation.utils.JavaScriptUtils(driver).scrollToBottom();
+            new com.aliexpress.automation.utils.JavaScriptUtils(getDriver()).scrollToBottom();
             
             // Wait for more items to be loaded
             List<WebElement> updatedResults = fluentWait.until(driver -> {
@@ -1,6 +1,8 @@
 package com.aliexpress.automation.tests.testng;
 
 import com.aliexpress.automation.base.BaseTest;
+import com.aliexpress.automation.base.TestData;
+import com.aliexpress.automation.base.TestDataProviders;
 import com.aliexpress.automation.pages.HomePage;
 import com.aliexpress.automation.pages.ProductSearchPage;
 import org.testng.Assert;
@@ -13,32 +15,18 @@ import org.testng.annotations.Test;
 public class DataProviderTest extends BaseTest {
 
     /**
-     * Data provider for product search test
-     *
-     * @return 2D array of search terms and expected minimum result count
-     */
-    @DataProvider(name = "searchTerms")
-    public Object[][] getSearchTerms() {
-        return new Object[][] {
-            {"smartphone", 5},
-            {"laptop", 5},
-            {"headphones", 5},
-            {"smart watch", 5},
-            {"power bank", 5}
-        };
-    }
-    
-    /**
-     * Test product search with different search terms using data provider
+     * Test product search with different search terms using data provider.
+     * Rows come from testdata/searchTerms.csv.
      *
      * @param searchTerm         Search term to use
      * @param minExpectedResults Minimum expected results count
      */
-    @Test(dataProvider = "searchTerms")
+    @Test(dataProvider = "testData", dataProviderClass = TestDataProviders.class)
+    @TestData(file = "searchTerms.csv", columns = {"searchTerm", "minResults"})
     public void testProductSearch(String searchTerm, int minExpectedResults) {
         LOGGER.info("Starting test for search term: " + searchTerm);
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -55,6 +43,19 @@ public class DataProviderTest extends BaseTest {
             "Should find at least " + minExpectedResults + " results for '" + searchTerm + "'");
     }
     
+    /**
+     * Same search as {@link #testProductSearch(String, int)}, with the rows run in parallel.
+     * Rows wait for a free session of the driver pool before they start.
+     *
+     * @param searchTerm         Search term to use
+     * @param minExpectedResults Minimum expected results count
+     */
+    @Test(dataProvider = "testDataParallel", dataProviderClass = TestDataProviders.class)
+    @TestData(file = "searchTerms.csv", columns = {"searchTerm", "minResults"})
+    public void testProductSearchInParallel(String searchTerm, int minExpectedResults) {
+        testProductSearch(searchTerm, minExpectedResults);
+    }
+    
     /**
      * Data provider for login test
      *
@@ -81,7 +82,7 @@ public class DataProviderTest extends BaseTest {
     public void testLogin(String username, String password, boolean expectedResult) {
         LOGGER.info("Starting login test with username: " + username);
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -26,7 +26,7 @@ public class DependencyTest extends BaseTest {
     public void testSearchProduct() {
         LOGGER.info("Starting test: testSearchProduct");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -18,7 +18,7 @@ public class GroupsTest extends BaseTest {
     public void testSmartphoneSearch() {
         LOGGER.info("Starting test: testSmartphoneSearch");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -40,7 +40,7 @@ public class GroupsTest extends BaseTest {
     public void testDressSearch() {
         LOGGER.info("Starting test: testDressSearch");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -62,7 +62,7 @@ public class GroupsTest extends BaseTest {
     public void testJewelrySearch() {
         LOGGER.info("Starting test: testJewelrySearch");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -84,7 +84,7 @@ public class GroupsTest extends BaseTest {
     public void testToysSearch() {
         LOGGER.info("Starting test: testToysSearch");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -106,7 +106,7 @@ public class GroupsTest extends BaseTest {
     public void testFurnitureSearch() {
         LOGGER.info("Starting test: testFurnitureSearch");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -128,7 +128,7 @@ public class GroupsTest extends BaseTest {
     public void testKitchenSearch() {
         LOGGER.info("Starting test: testKitchenSearch");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
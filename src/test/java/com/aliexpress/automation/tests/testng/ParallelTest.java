@@ -19,7 +19,7 @@ public class ParallelTest extends BaseTest {
     public void testSearchSmartphones() {
         LOGGER.info("Starting test: testSearchSmartphones on thread: " + Thread.currentThread().getId());
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -41,7 +41,7 @@ public class ParallelTest extends BaseTest {
     public void testSearchLaptops() {
         LOGGER.info("Starting test: testSearchLaptops on thread: " + Thread.currentThread().getId());
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -63,7 +63,7 @@ public class ParallelTest extends BaseTest {
     public void testSearchHeadphones() {
         LOGGER.info("Starting test: testSearchHeadphones on thread: " + Thread.currentThread().getId());
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -85,7 +85,7 @@ public class ParallelTest extends BaseTest {
     public void testSearchSmartWatches() {
         LOGGER.info("Starting test: testSearchSmartWatches on thread: " + Thread.currentThread().getId());
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -107,7 +107,7 @@ public class ParallelTest extends BaseTest {
     public void testSearchTablets() {
         LOGGER.info("Starting test: testSearchTablets on thread: " + Thread.currentThread().getId());
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -23,7 +23,7 @@ public class ParameterizedTest extends BaseTest {
     public void testProductSearch(String searchTerm) {
         LOGGER.info("Starting test with parameter: searchTerm=" + searchTerm);
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -52,7 +52,7 @@ public class ParameterizedTest extends BaseTest {
         LOGGER.info("Starting test with parameters: searchTerm=" + searchTerm + 
                    ", minPrice=" + minPrice + ", maxPrice=" + maxPrice);
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -69,9 +69,9 @@ public class ParameterizedTest extends BaseTest {
             LOGGER.info("Found " + resultsCount + " filtered results");
             
             // Verify URL contains price parameters
-            boolean urlHasPriceParams = driver.getCurrentUrl().contains("price") || 
-                                       driver.getCurrentUrl().contains("min") ||
-                                       driver.getCurrentUrl().contains("max");
+            boolean urlHasPriceParams = getDriver().getCurrentUrl().contains("price") || 
+                                       getDriver().getCurrentUrl().contains("min") ||
+                                       getDriver().getCurrentUrl().contains("max");
             
             Assert.assertTrue(urlHasPriceParams, "URL should contain price parameters after filtering");
             
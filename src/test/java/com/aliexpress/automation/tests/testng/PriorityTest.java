@@ -22,7 +22,7 @@ public class PriorityTest extends BaseTest {
     public void verifyHomePageLoaded() {
         LOGGER.info("Starting test: verifyHomePageLoaded (Priority 1)");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -40,7 +40,7 @@ public class PriorityTest extends BaseTest {
     public void searchForProduct() {
         LOGGER.info("Starting test: searchForProduct (Priority 2)");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -62,7 +62,7 @@ public class PriorityTest extends BaseTest {
     public void openProductDetail() {
         LOGGER.info("Starting test: openProductDetail (Priority 3)");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -87,7 +87,7 @@ public class PriorityTest extends BaseTest {
     public void addToCart() {
         LOGGER.info("Starting test: addToCart (Priority 4)");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -115,10 +115,10 @@ public class PriorityTest extends BaseTest {
         LOGGER.info("Starting test: navigateBackToHome (Priority 5)");
         
         // Navigate back to home page
-        driver.get(configReader.getProperty("base.url", "https://aliexpress.com"));
+        getDriver().get(getBaseUrl());
         
         // Verify home page loaded
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         Assert.assertTrue(homePage.isHomePageLoaded(), "Home page should be loaded");
         
         LOGGER.info("Successfully navigated back to home page");
@@ -133,7 +133,7 @@ public class PriorityTest extends BaseTest {
         LOGGER.info("This test has negative priority and should run first");
         
         // Verify driver is not null
-        Assert.assertNotNull(driver, "WebDriver should be initialized");
+        Assert.assertNotNull(getDriver(), "WebDriver should be initialized");
     }
     
     /**
@@ -145,7 +145,7 @@ public class PriorityTest extends BaseTest {
         LOGGER.info("This test has default priority 0");
         
         // Verify current URL contains AliExpress
-        Assert.assertTrue(driver.getCurrentUrl().contains("aliexpress"), 
+        Assert.assertTrue(getDriver().getCurrentUrl().contains("aliexpress"), 
             "Current URL should contain 'aliexpress'");
     }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.aliexpress.automation.tests.testng;
+
+import com.aliexpress.automation.base.TestDataProviders;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Checks the row filter expressions of {@link TestDataProviders#where(String)}.
+ * Runs without a browser.
+ */
+public class RowFilterTest {
+
+    private static Map<String, String> row(String... columnsAndValues) {
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < columnsAndValues.length; i += 2) {
+            row.put(columnsAndValues[i], columnsAndValues[i + 1]);
+        }
+        return row;
+    }
+
+    /**
+     * Test that column=value matches equal values only, ignoring spaces around the operator
+     */
+    @Test
+    public void testEquals() {
+        Predicate<Map<String, String>> filter = TestDataProviders.where(" category = phones ");
+
+        Assert.assertTrue(filter.test(row("category", "phones")));
+        Assert.assertFalse(filter.test(row("category", "Phones")));
+        Assert.assertFalse(filter.test(row("other", "phones")), "A missing column should not match");
+        Assert.assertTrue(TestDataProviders.where("category=").test(row("other", "x")),
+                "An empty value should match a missing column");
+    }
+
+    /**
+     * Test that column!=value matches every other value, including a missing column
+     */
+    @Test
+    public void testNotEquals() {
+        Predicate<Map<String, String>> filter = TestDataProviders.where("status!=skip");
+
+        Assert.assertTrue(filter.test(row("status", "run")));
+        Assert.assertFalse(filter.test(row("status", "skip")));
+        Assert.assertTrue(filter.test(row("other", "skip")));
+    }
+
+    /**
+     * Test that column~regex must match the whole value
+     */
+    @Test
+    public void testRegex() {
+        Predicate<Map<String, String>> filter = TestDataProviders.where("term~smart.*");
+
+        Assert.assertTrue(filter.test(row("term", "smart watch")));
+        Assert.assertFalse(filter.test(row("term", "a smart watch")));
+        Assert.assertFalse(filter.test(row("other", "smart")));
+    }
+
+    /**
+     * Test that the first operator splits the expression, so values may contain operators
+     */
+    @Test
+    public void testFirstOperatorWins() {
+        Assert.assertTrue(TestDataProviders.where("title=a~b").test(row("title", "a~b")));
+        Assert.assertTrue(TestDataProviders.where("name=x!=y").test(row("name", "x!=y")));
+        Assert.assertFalse(TestDataProviders.where("name!=x=y").test(row("name", "x=y")));
+        Assert.assertTrue(TestDataProviders.where("code~a=b|c").test(row("code", "a=b")));
+    }
+
+    @DataProvider(name = "malformedFilters")
+    public Object[][] malformedFilters() {
+        return new Object[][]{{""}, {"category"}, {"=phones"}, {"!=phones"}, {"~phones"}};
+    }
+
+    /**
+     * Test that expressions without an operator or a column are rejected
+     */
+    @Test(dataProvider = "malformedFilters", expectedExceptions = IllegalArgumentException.class)
+    public void testMalformedFilter(String expression) {
+        TestDataProviders.where(expression);
+    }
+
+    /**
+     * Test that an invalid regular expression is rejected when the filter is parsed
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidRegex() {
+        TestDataProviders.where("term~(unclosed");
+    }
+}
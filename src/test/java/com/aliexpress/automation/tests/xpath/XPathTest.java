@@ -23,7 +23,7 @@ public class XPathTest extends BaseTest {
     public void testSearchWithXPath() {
         LOGGER.info("Starting test: testSearchWithXPath");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -45,7 +45,7 @@ public class XPathTest extends BaseTest {
     public void testProductDetailWithXPath() {
         LOGGER.info("Starting test: testProductDetailWithXPath");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -73,7 +73,7 @@ public class XPathTest extends BaseTest {
     public void testCategoryNavigationWithXPath() {
         LOGGER.info("Starting test: testCategoryNavigationWithXPath");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -81,18 +81,18 @@ public class XPathTest extends BaseTest {
         // Navigate to a category using XPath
         try {
             // Using custom XPath to find the Electronics category
-            WebElement electronicsCategory = driver.findElement(By.xpath(
+            WebElement electronicsCategory = getDriver().findElement(By.xpath(
                 "//a[contains(text(), 'Electronics') or contains(@href, 'electronics')]"));
             
             LOGGER.info("Found Electronics category element");
             
             // Scroll to the element and click it
-            new com.aliexpress.automation.utils.JavaScriptUtils(driver)
+            new com.aliexpress.automation.utils.JavaScriptUtils(getDriver())
                 .scrollToElement(electronicsCategory);
             electronicsCategory.click();
             
             // Verify we are on the category page by checking for elements
-            WebElement categoryTitle = driver.findElement(By.xpath(
+            WebElement categoryTitle = getDriver().findElement(By.xpath(
                 "//h1[contains(@class, 'category-title') or contains(text(), 'Electronics')]"));
             
             Assert.assertTrue(categoryTitle.isDisplayed(), "Category title should be displayed");
@@ -110,7 +110,7 @@ public class XPathTest extends BaseTest {
     public void testProductFilteringWithXPath() {
         LOGGER.info("Starting test: testProductFilteringWithXPath");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -120,15 +120,15 @@ public class XPathTest extends BaseTest {
         
         try {
             // Find and click on a filter using XPath
-            WebElement priceFilter = driver.findElement(By.xpath(
+            WebElement priceFilter = getDriver().findElement(By.xpath(
                 "//div[contains(@class, 'filter') and .//span[contains(text(), 'Price')]]"));
             
             // Scroll to the filter element
-            new com.aliexpress.automation.utils.JavaScriptUtils(driver)
+            new com.aliexpress.automation.utils.JavaScriptUtils(getDriver())
                 .scrollToElement(priceFilter);
             
             // Set price range if input fields are available
-            List<WebElement> priceInputs = driver.findElements(By.xpath(
+            List<WebElement> priceInputs = getDriver().findElements(By.xpath(
                 "//input[contains(@placeholder, 'min') or contains(@placeholder, 'max') or contains(@class, 'price-filter')]"));
             
             if (priceInputs.size() >= 2) {
@@ -139,7 +139,7 @@ public class XPathTest extends BaseTest {
                 
                 // Find and click apply button if available
                 try {
-                    WebElement applyButton = driver.findElement(By.xpath(
+                    WebElement applyButton = getDriver().findElement(By.xpath(
                         "//button[contains(@class, 'apply') or contains(text(), 'OK') or contains(text(), 'Apply')]"));
                     applyButton.click();
                 } catch (Exception e) {
@@ -150,13 +150,13 @@ public class XPathTest extends BaseTest {
                 LOGGER.info("Applied price filter: $100-$500");
                 
                 // Wait for page to load after filtering
-                new com.aliexpress.automation.utils.WaitUtils(driver).waitForPageLoad();
+                new com.aliexpress.automation.utils.WaitUtils(getDriver()).waitForPageLoad();
                 
                 // Verify filtering worked by checking current URL or results
-                Assert.assertTrue(driver.getCurrentUrl().contains("price"), 
+                Assert.assertTrue(getDriver().getCurrentUrl().contains("price"), 
                     "URL should contain price parameter after filtering");
                 
-                LOGGER.info("Filter applied successfully, current URL: " + driver.getCurrentUrl());
+                LOGGER.info("Filter applied successfully, current URL: " + getDriver().getCurrentUrl());
             } else {
                 LOGGER.warning("Price filter inputs not found, skipping test");
             }
@@ -173,7 +173,7 @@ public class XPathTest extends BaseTest {
     public void testAdvancedXPathUsage() {
         LOGGER.info("Starting test: testAdvancedXPathUsage");
         
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = new HomePage(getDriver());
         
         // Close popup if it appears
         homePage.closePopupIfPresent();
@@ -182,19 +182,19 @@ public class XPathTest extends BaseTest {
             // Example of using complex XPath expressions
             
             // Find elements using parent axis
-            List<WebElement> parentAxisElements = driver.findElements(By.xpath(
+            List<WebElement> parentAxisElements = getDriver().findElements(By.xpath(
                 "//span[contains(text(), 'Category')]/parent::div"));
             
             // Find elements using ancestor axis
-            List<WebElement> ancestorAxisElements = driver.findElements(By.xpath(
+            List<WebElement> ancestorAxisElements = getDriver().findElements(By.xpath(
                 "//a[contains(@class, 'product')]/ancestor::div[contains(@class, 'product-item')]"));
             
             // Find elements using following-sibling axis
-            List<WebElement> siblingAxisElements = driver.findElements(By.xpath(
+            List<WebElement> siblingAxisElements = getDriver().findElements(By.xpath(
                 "//div[contains(@class, 'header')]/following-sibling::div"));
             
             // Find elements using contains, starts-with, and multiple conditions
-            List<WebElement> complexXPathElements = driver.findElements(By.xpath(
+            List<WebElement> complexXPathElements = getDriver().findElements(By.xpath(
                 "//div[contains(@class, 'product') and (contains(@id, 'item') or starts-with(@class, 'item'))]"));
             
             LOGGER.info("Advanced XPath elements found: " + 
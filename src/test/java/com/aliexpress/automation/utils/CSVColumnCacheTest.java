@@ -0,0 +1,157 @@
+package com.aliexpress.automation.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Checks eviction, invalidation and size limits of the CSV column cache behind
+ * {@link CSVReader}. Lives in the cache's package because the cache is not public.
+ * Runs without a browser.
+ */
+public class CSVColumnCacheTest {
+
+    private Path directory;
+    private final Map<Path, Integer> parses = new HashMap<>();
+
+    @BeforeClass
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("csv-cache-test");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Test that the least recently used file is evicted when the cache is full
+     */
+    @Test
+    public void testLeastRecentlyUsedEvicted() throws IOException {
+        Path first = write("first.csv", table("a", 50));
+        Path second = write("second.csv", table("b", 50));
+        Path third = write("third.csv", table("c", 50));
+        long tableBytes = new CSVColumnCache(true, Long.MAX_VALUE).get(first.toString(), ',', source(first))
+                .getEstimatedBytes();
+        CSVColumnCache cache = new CSVColumnCache(true, tableBytes * 5 / 2);
+
+        get(cache, first);
+        get(cache, second);
+        get(cache, first);
+        get(cache, third);
+        Assert.assertEquals(parses(first), 2, "Recently used file should stay cached");
+        Assert.assertEquals(parses(second), 1);
+        Assert.assertEquals(parses(third), 1);
+
+        get(cache, first);
+        get(cache, third);
+        Assert.assertEquals(parses(first), 2);
+        Assert.assertEquals(parses(third), 1);
+        get(cache, second);
+        Assert.assertEquals(parses(second), 2, "Least recently used file should have been evicted");
+    }
+
+    /**
+     * Test that a file is parsed again when its size or modification time changes
+     */
+    @Test
+    public void testChangedFileParsedAgain() throws IOException {
+        Path file = write("changed.csv", "id,name\n1,old\n");
+        CSVColumnCache cache = new CSVColumnCache(true, 1024 * 1024);
+
+        Assert.assertEquals(get(cache, file).getColumn(1), new String[]{"old"});
+        Assert.assertEquals(get(cache, file).getColumn(1), new String[]{"old"});
+        Assert.assertEquals(parses(file), 1);
+
+        write("changed.csv", "id,name\n1,longer\n");
+        Assert.assertEquals(get(cache, file).getColumn(1), new String[]{"longer"}, "Size changed");
+        Assert.assertEquals(parses(file), 2);
+
+        FileTime modified = Files.getLastModifiedTime(file);
+        write("changed.csv", "id,name\n1,newer\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modified.toMillis() + 2000));
+        Assert.assertEquals(get(cache, file).getColumn(1), new String[]{"newer"}, "Modification time changed");
+        Assert.assertEquals(parses(file), 3);
+    }
+
+    /**
+     * Test that a file whose table outgrows the cache is not cached, and is not parsed
+     * into the cache again until it changes
+     */
+    @Test
+    public void testOversizedFileNotCached() throws IOException {
+        Path file = write("oversized.csv", table("x", 200));
+        CSVColumnCache cache = new CSVColumnCache(true, Files.size(file) * 3);
+
+        Assert.assertNull(get(cache, file), "Table larger than the cache should not be cached");
+        Assert.assertNull(get(cache, file));
+        Assert.assertEquals(parses(file), 1, "Oversized file should not be parsed again");
+
+        write("oversized.csv", "id\n1\n");
+        Assert.assertNotNull(get(cache, file), "Changed file should be cached once it fits");
+        Assert.assertEquals(parses(file), 2);
+    }
+
+    /**
+     * Test that callers cannot change cached columns through the returned arrays
+     */
+    @Test
+    public void testColumnIsCopy() throws IOException {
+        Path file = write("copy.csv", "id,name\n1,Jane\n2\n");
+        CSVColumnCache cache = new CSVColumnCache(true, 1024 * 1024);
+
+        String[] column = get(cache, file).getColumn(1);
+        Assert.assertEquals(column, new String[]{"Jane", ""}, "Short rows should read as empty");
+        column[0] = "changed";
+
+        Assert.assertEquals(get(cache, file).getColumn(1), new String[]{"Jane", ""});
+        Assert.assertEquals(get(cache, file).getRecord(2), new String[]{"2"});
+    }
+
+    private CSVColumnCache.Table get(CSVColumnCache cache, Path file) throws IOException {
+        return cache.get(file.toString(), ',', source(file));
+    }
+
+    private CSVColumnCache.RecordSource source(Path file) {
+        return () -> {
+            parses.merge(file, 1, Integer::sum);
+            return new CSVReader(file.toString()).iterator();
+        };
+    }
+
+    private int parses(Path file) {
+        return parses.getOrDefault(file, 0);
+    }
+
+    /**
+     * Builds a file of distinct short values, whose table takes far more heap than the file
+     */
+    private static String table(String prefix, int rows) {
+        StringBuilder content = new StringBuilder("id,value\n");
+        for (int i = 0; i < rows; i++) {
+            content.append(i).append(',').append(prefix).append(i).append('\n');
+        }
+        return content.toString();
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
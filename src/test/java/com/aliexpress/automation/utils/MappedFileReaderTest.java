@@ -0,0 +1,78 @@
+package com.aliexpress.automation.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Checks that the memory-mapped reader behind {@link CSVReader} returns the file's text
+ * whatever the size of the reads. Lives in the reader's package because the reader is not
+ * public. Runs without a browser.
+ */
+public class MappedFileReaderTest {
+
+    /** Mixes one, two, three and four byte UTF-8 characters, the last being surrogate pairs */
+    private static final String TEXT = "id,name\n1,caf\u00e9 \u20ac\n2,\ud83d\ude00\ud83d\udc4d\n\ud83c\udf89";
+
+    private Path directory;
+
+    @BeforeClass
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("mapped-file-reader-test");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @DataProvider(name = "readSizes")
+    public Object[][] readSizes() {
+        return new Object[][]{{1}, {2}, {3}, {8192}};
+    }
+
+    /**
+     * Test that reads too small for a surrogate pair return it one char at a time
+     */
+    @Test(dataProvider = "readSizes", timeOut = 10000)
+    public void testReadSizes(int readSize) throws IOException {
+        Path file = Files.write(directory.resolve("text" + readSize + ".csv"), TEXT.getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[readSize];
+        try (MappedFileReader reader = new MappedFileReader(file, StandardCharsets.UTF_8)) {
+            int read;
+            while ((read = reader.read(buffer, 0, buffer.length)) != -1) {
+                text.append(buffer, 0, read);
+            }
+        }
+
+        Assert.assertEquals(text.toString(), TEXT);
+    }
+
+    /**
+     * Test that an empty file is at its end straight away
+     */
+    @Test
+    public void testEmptyFile() throws IOException {
+        Path file = Files.write(directory.resolve("empty.csv"), new byte[0]);
+
+        try (MappedFileReader reader = new MappedFileReader(file, StandardCharsets.UTF_8)) {
+            Assert.assertEquals(reader.read(), -1);
+        }
+    }
+}
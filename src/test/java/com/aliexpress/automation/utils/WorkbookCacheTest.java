@@ -0,0 +1,113 @@
+package com.aliexpress.automation.utils;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Checks that workbooks leaving the {@link WorkbookCache} are closed, but only once no
+ * reader still holds them. Lives in the cache's package because the cache is not public.
+ * Runs without a browser.
+ */
+public class WorkbookCacheTest {
+
+    private Path directory;
+
+    @BeforeClass
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("workbook-cache-test");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Test that the evicted workbook is closed and the cached one stays open
+     */
+    @Test
+    public void testEvictedWorkbookClosed() throws IOException {
+        WorkbookCache cache = new WorkbookCache(true, 1);
+        Path first = write("first.xlsx");
+        Path second = write("second.xlsx");
+
+        Workbook firstWorkbook = cache.get(first.toString());
+        cache.release(firstWorkbook);
+        Assert.assertFalse(isClosed(firstWorkbook), "Cached workbook should stay open");
+
+        Workbook secondWorkbook = cache.get(second.toString());
+        cache.release(secondWorkbook);
+        Assert.assertTrue(isClosed(firstWorkbook), "Evicted workbook should be closed");
+        Assert.assertFalse(isClosed(secondWorkbook));
+    }
+
+    /**
+     * Test that a workbook evicted while in use is closed when it is released
+     */
+    @Test
+    public void testEvictedWorkbookClosedOnRelease() throws IOException {
+        WorkbookCache cache = new WorkbookCache(true, 1);
+        Path first = write("inUse.xlsx");
+        Path second = write("other.xlsx");
+
+        Workbook firstWorkbook = cache.get(first.toString());
+        Workbook again = cache.get(first.toString());
+        Assert.assertSame(again, firstWorkbook);
+        cache.release(cache.get(second.toString()));
+
+        cache.release(again);
+        Assert.assertFalse(isClosed(firstWorkbook), "Workbook still in use should stay open");
+        cache.release(firstWorkbook);
+        Assert.assertTrue(isClosed(firstWorkbook), "Workbook should be closed by its last release");
+    }
+
+    /**
+     * Test that the workbook of a changed file is replaced and closed
+     */
+    @Test
+    public void testReplacedWorkbookClosed() throws IOException {
+        WorkbookCache cache = new WorkbookCache(true, 4);
+        Path file = write("changed.xlsx");
+
+        Workbook original = cache.get(file.toString());
+        cache.release(original);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+        Workbook reloaded = cache.get(file.toString());
+        cache.release(reloaded);
+
+        Assert.assertNotSame(reloaded, original);
+        Assert.assertTrue(isClosed(original), "Replaced workbook should be closed");
+        Assert.assertFalse(isClosed(reloaded));
+    }
+
+    private static boolean isClosed(Workbook workbook) {
+        return ((XSSFWorkbook) workbook).getPackage() == null;
+    }
+
+    private Path write(String name) throws IOException {
+        Path file = directory.resolve(name);
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             OutputStream output = Files.newOutputStream(file)) {
+            workbook.createSheet("Data").createRow(0).createCell(0).setCellValue(name);
+            workbook.write(output);
+        }
+        return file;
+    }
+}
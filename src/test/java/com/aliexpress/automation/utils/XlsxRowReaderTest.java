@@ -0,0 +1,131 @@
+package com.aliexpress.automation.utils;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Checks that streamed sheet rows match the rows {@link ExcelReader} reads from the loaded
+ * workbook, and how shared formulas are moved. Lives in the reader's package because the
+ * reader is not public. Runs without a browser.
+ */
+public class XlsxRowReaderTest {
+
+    private Path directory;
+
+    @BeforeClass
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("xlsx-row-reader-test");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @DataProvider(name = "formulas")
+    public Object[][] formulas() {
+        return new Object[][]{
+                {"A1+B2", 1, 1, "B2+C3"},
+                {"SUM(A1:A3)*2", 2, 0, "SUM(A3:A5)*2"},
+                {"$A$1+A$1+$A1", 2, 3, "$A$1+D$1+$A3"},
+                {"Sheet2!A1+Data!$B$2", 1, 1, "Sheet2!B2+Data!$B$2"},
+                {"'My Sheet'!A1", 1, 1, "'My Sheet'!B2"},
+                {"'A1 sheet'!C3&\"A1\"", 1, 0, "'A1 sheet'!C4&\"A1\""},
+                {"LOG10(A1)", 0, 1, "LOG10(B1)"},
+                {"A1", -1, 0, "#REF!"},
+                {"B2", 0, -2, "#REF!"},
+        };
+    }
+
+    /**
+     * Test that relative references move, absolute ones do not, and sheet names and string
+     * literals are left alone
+     */
+    @Test(dataProvider = "formulas")
+    public void testShiftFormula(String formula, int rows, int columns, String expected) {
+        Assert.assertEquals(XlsxRowReader.shiftFormula(formula, rows, columns), expected);
+    }
+
+    /**
+     * Test that dates in a workbook using the 1904 date system stream as the same dates
+     */
+    @Test
+    public void testDate1904() throws IOException {
+        Date date = new Date(1700000000000L);
+        Path file = directory.resolve("date1904.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             OutputStream output = Files.newOutputStream(file)) {
+            workbook.getCTWorkbook().getWorkbookPr().setDate1904(true);
+            Assert.assertTrue(workbook.isDate1904());
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+            Sheet sheet = workbook.createSheet("Dates");
+            sheet.createRow(0).createCell(0).setCellValue("when");
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue(date);
+            row.getCell(0).setCellStyle(dateStyle);
+            workbook.write(output);
+        }
+
+        ExcelReader reader = new ExcelReader(file.toString());
+        List<Map<String, String>> streamed = streamSheetData(reader, "Dates");
+
+        Assert.assertEquals(streamed.get(0).get("when"), date.toString());
+        Assert.assertEquals(streamed, reader.getSheetData("Dates"));
+    }
+
+    /**
+     * Test that a header row with a missing cell gives the same columns as the workbook read
+     */
+    @Test
+    public void testHeaderGap() throws IOException {
+        Path file = directory.resolve("headerGap.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             OutputStream output = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("Gap");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("name");
+            header.createCell(2).setCellValue("extra");
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue("a");
+            row.createCell(1).setCellValue("b");
+            row.createCell(2).setCellValue("c");
+            workbook.write(output);
+        }
+
+        ExcelReader reader = new ExcelReader(file.toString());
+        List<Map<String, String>> streamed = streamSheetData(reader, "Gap");
+
+        Assert.assertEquals(streamed, reader.getSheetData("Gap"));
+        Assert.assertEquals(streamed.get(0).keySet().size(), 2, "Header should have one column per header cell");
+    }
+
+    private static List<Map<String, String>> streamSheetData(ExcelReader reader, String sheetName) {
+        try (Stream<Map<String, String>> rows = reader.streamSheetData(sheetName)) {
+            return rows.collect(Collectors.toList());
+        }
+    }
+}